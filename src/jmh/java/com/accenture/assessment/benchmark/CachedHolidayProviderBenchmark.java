@@ -0,0 +1,92 @@
+package com.accenture.assessment.benchmark;
+
+import com.accenture.assessment.model.PublicHoliday;
+import com.accenture.assessment.service.CachedHolidayProvider;
+import com.accenture.assessment.service.HolidayProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hit and miss paths of {@link CachedHolidayProvider} at one thread and at one thread per core.
+ * <p>
+ * Misses are produced by cycling through more keys than the cache holds; the underlying provider
+ * returns pre-generated responses, so the miss numbers measure the cache's own overhead.
+ * Each thread cycles through every cached country, so comparing {@code hitAllThreads} with
+ * {@code hitSingleThread} shows how hits scale with threads on a multi-key workload.
+ * Run with {@code ./mvnw -Pbenchmark test-compile exec:exec -Djmh.args="CachedHolidayProviderBenchmark -prof gc"}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CachedHolidayProviderBenchmark {
+
+    private static final int YEAR = 2024;
+    private static final int MISS_CACHE_SIZE = 16;
+
+    @State(Scope.Benchmark)
+    public static class Caches {
+
+        CachedHolidayProvider warmCache;
+        CachedHolidayProvider smallCache;
+
+        @Setup
+        public void setUp() {
+            HolidayProvider upstream = new InMemoryHolidayProvider();
+            warmCache = new CachedHolidayProvider(upstream, 1_000);
+            smallCache = new CachedHolidayProvider(upstream, MISS_CACHE_SIZE);
+            for (String countryCode : InMemoryHolidayProvider.COUNTRY_CODES) {
+                warmCache.getPublicHolidays(YEAR, countryCode);
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        private final List<String> countryCodes = InMemoryHolidayProvider.COUNTRY_CODES;
+        private int position;
+
+        String next() {
+            position = (position + 1) % countryCodes.size();
+            return countryCodes.get(position);
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public List<PublicHoliday> hitSingleThread(Caches caches, Cursor cursor) {
+        return caches.warmCache.getPublicHolidays(YEAR, cursor.next());
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public List<PublicHoliday> hitAllThreads(Caches caches, Cursor cursor) {
+        return caches.warmCache.getPublicHolidays(YEAR, cursor.next());
+    }
+
+    @Benchmark
+    @Threads(1)
+    public List<PublicHoliday> missSingleThread(Caches caches, Cursor cursor) {
+        return caches.smallCache.getPublicHolidays(YEAR, cursor.next());
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public List<PublicHoliday> missAllThreads(Caches caches, Cursor cursor) {
+        return caches.smallCache.getPublicHolidays(YEAR, cursor.next());
+    }
+}
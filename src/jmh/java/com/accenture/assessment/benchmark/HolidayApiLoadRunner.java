@@ -0,0 +1,224 @@
+package com.accenture.assessment.benchmark;
+
+import com.accenture.assessment.HolidayApplication;
+import com.accenture.assessment.model.PublicHoliday;
+import com.accenture.assessment.service.HolidayProvider;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop load test of the HTTP API against a local stub provider.
+ * <p>
+ * Starts the application in server mode on a random port with {@link InMemoryHolidayProvider}
+ * behind a simulated upstream latency, then keeps {@code concurrency} requests in flight
+ * across the three endpoints and reports sustained requests per second and latency percentiles.
+ * The latency is applied without blocking a thread, so with the default 200 Tomcat threads
+ * a concurrency in the thousands only stays responsive if requests do not hold threads while waiting.
+ * <p>
+ * Run with {@code ./mvnw -Pbenchmark test-compile exec:exec -Dbenchmark.main=com.accenture.assessment.benchmark.HolidayApiLoadRunner
+ * -Dbenchmark.args="--concurrency=2000 --duration=30s --upstream-latency=50ms"}.
+ */
+public class HolidayApiLoadRunner {
+
+    private static final int YEAR = 2024;
+    private static final int MAX_SAMPLES = 10_000_000;
+
+    public static void main(String[] args) throws Exception {
+        int concurrency = 1_000;
+        Duration duration = Duration.ofSeconds(20);
+        Duration warmup = Duration.ofSeconds(5);
+        Duration upstreamLatency = Duration.ofMillis(20);
+        for (String arg : args) {
+            String value = arg.substring(arg.indexOf('=') + 1);
+            if (arg.startsWith("--concurrency=")) {
+                concurrency = Integer.parseInt(value);
+            } else if (arg.startsWith("--duration=")) {
+                duration = parseDuration(value);
+            } else if (arg.startsWith("--warmup=")) {
+                warmup = parseDuration(value);
+            } else if (arg.startsWith("--upstream-latency=")) {
+                upstreamLatency = parseDuration(value);
+            } else {
+                throw new IllegalArgumentException("Unknown option " + arg);
+            }
+        }
+
+        StubProviderConfiguration.upstreamLatency = upstreamLatency;
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(
+                HolidayApplication.class, StubProviderConfiguration.class)
+            .run(
+                "--holiday.mode=server",
+                "--server.port=0",
+                "--server.tomcat.max-connections=" + Math.max(8_192, concurrency * 2),
+                "--server.tomcat.accept-count=" + concurrency,
+                "--logging.level.root=WARN",
+                "--logging.level.com.accenture.assessment=WARN");
+
+        ExecutorService clientExecutor = Executors.newFixedThreadPool(4);
+        try {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api/holidays";
+            HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(clientExecutor)
+                .build();
+
+            System.out.printf("Running %d concurrent clients for %ds (+%ds warm-up), upstream latency %d ms%n",
+                concurrency, duration.toSeconds(), warmup.toSeconds(), upstreamLatency.toMillis());
+            Load load = new Load(client, requests(baseUrl), System.nanoTime() + warmup.toNanos(),
+                System.nanoTime() + warmup.plus(duration).toNanos());
+            load.run(concurrency);
+            load.report(duration);
+        } finally {
+            clientExecutor.shutdownNow();
+            context.close();
+        }
+    }
+
+    private static List<URI> requests(String baseUrl) {
+        List<String> countries = InMemoryHolidayProvider.COUNTRY_CODES;
+        String tenCountries = String.join(",", countries.subList(0, 10));
+        return List.of(
+            URI.create(baseUrl + "/US/last?count=3&before=" + LocalDate.of(YEAR, 6, 1)),
+            URI.create(baseUrl + "/non-weekend-count?year=" + YEAR + "&countries=" + tenCountries),
+            URI.create(baseUrl + "/shared?year=" + YEAR + "&countries=DE,FR"),
+            URI.create(baseUrl + "/DE/last?count=5&before=" + LocalDate.of(YEAR, 12, 1)),
+            URI.create(baseUrl + "/shared?year=" + YEAR + "&countries=" + tenCountries + "&min=3"));
+    }
+
+    private static Duration parseDuration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        if (value.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        return Duration.ofSeconds(Long.parseLong(value));
+    }
+
+    /**
+     * Replaces the application's provider with the in-memory data, answered after a
+     * non-blocking delay standing in for the upstream round trip.
+     */
+    static class StubProviderConfiguration {
+
+        static Duration upstreamLatency = Duration.ZERO;
+
+        @Bean(destroyMethod = "shutdownNow")
+        ScheduledExecutorService stubUpstreamScheduler() {
+            return Executors.newScheduledThreadPool(2);
+        }
+
+        @Bean
+        @Primary
+        HolidayProvider stubHolidayProvider(ScheduledExecutorService stubUpstreamScheduler) {
+            InMemoryHolidayProvider data = new InMemoryHolidayProvider();
+            long latencyNanos = upstreamLatency.toNanos();
+            return new HolidayProvider() {
+                @Override
+                public List<PublicHoliday> getPublicHolidays(int year, String countryCode) {
+                    return getPublicHolidaysAsync(year, countryCode).join();
+                }
+
+                @Override
+                public CompletableFuture<List<PublicHoliday>> getPublicHolidaysAsync(int year, String countryCode) {
+                    CompletableFuture<List<PublicHoliday>> response = new CompletableFuture<>();
+                    stubUpstreamScheduler.schedule(() -> response.complete(data.getPublicHolidays(year, countryCode)),
+                        latencyNanos, TimeUnit.NANOSECONDS);
+                    return response;
+                }
+            };
+        }
+    }
+
+    /**
+     * Keeps a fixed number of requests in flight, each completion issuing the next request.
+     */
+    private static final class Load {
+
+        private final HttpClient client;
+        private final List<URI> requests;
+        private final long measureFrom;
+        private final long measureUntil;
+        private final long[] latencies = new long[MAX_SAMPLES];
+        private final AtomicInteger samples = new AtomicInteger();
+        private final AtomicLong errors = new AtomicLong();
+        private final AtomicLong next = new AtomicLong();
+        private CountDownLatch finished;
+
+        Load(HttpClient client, List<URI> requests, long measureFrom, long measureUntil) {
+            this.client = client;
+            this.requests = requests;
+            this.measureFrom = measureFrom;
+            this.measureUntil = measureUntil;
+        }
+
+        void run(int concurrency) throws InterruptedException {
+            finished = new CountDownLatch(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                send();
+            }
+            finished.await();
+        }
+
+        private void send() {
+            long start = System.nanoTime();
+            if (start >= measureUntil) {
+                finished.countDown();
+                return;
+            }
+            URI uri = requests.get((int) (next.getAndIncrement() % requests.size()));
+            client.sendAsync(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    long end = System.nanoTime();
+                    if (start >= measureFrom && end <= measureUntil) {
+                        if (error != null || response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        } else {
+                            int index = samples.getAndIncrement();
+                            if (index < MAX_SAMPLES) {
+                                latencies[index] = end - start;
+                            }
+                        }
+                    }
+                    send();
+                });
+        }
+
+        void report(Duration duration) {
+            int count = Math.min(samples.get(), MAX_SAMPLES);
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+
+            System.out.printf("Requests: %d ok, %d failed%n", samples.get(), errors.get());
+            System.out.printf("Throughput: %.0f requests/s%n", samples.get() / (double) duration.toSeconds());
+            if (count > 0) {
+                System.out.printf("Latency ms: p50 %.2f, p99 %.2f, p99.9 %.2f, max %.2f%n",
+                    percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 0.999),
+                    sorted[count - 1] / 1e6);
+            }
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            return sorted[Math.min(sorted.length - 1, (int) Math.ceil(quantile * sorted.length) - 1)] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.accenture.assessment.benchmark;
+
+import com.accenture.assessment.model.CountryHolidayCount;
+import com.accenture.assessment.model.NonWeekendHolidayMatrix;
+import com.accenture.assessment.model.PublicHoliday;
+import com.accenture.assessment.model.SharedHoliday;
+import com.accenture.assessment.model.SharedHolidayMatrix;
+import com.accenture.assessment.service.CachedHolidayProvider;
+import com.accenture.assessment.service.HolidayService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the three {@link HolidayService} queries over a warm cache.
+ * <p>
+ * The range query covers every country over {@value #RANGE_YEARS} years and the shared holiday matrix every pair
+ * of countries; both aggregate on the common fork-join pool, so compare runs with
+ * {@code -Djava.util.concurrent.ForkJoinPool.common.parallelism=N} passed through {@code -jvmArgsAppend}
+ * to see how they scale with cores.
+ * <p>
+ * Run with {@code ./mvnw -Pbenchmark test-compile exec:exec -Djmh.args="HolidayServiceBenchmark -prof gc"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HolidayServiceBenchmark {
+
+    private static final int YEAR = LocalDate.now().getYear();
+    private static final int RANGE_YEARS = 20;
+
+    private final List<String> fortyCountries = InMemoryHolidayProvider.COUNTRY_CODES.subList(0, 40);
+    private final List<String> thirtyCountries = InMemoryHolidayProvider.COUNTRY_CODES.subList(0, 30);
+
+    private HolidayService holidayService;
+    private List<String> fortyRegions;
+    private String usRegion;
+    private String deRegion;
+    private String frRegion;
+
+    @Setup
+    public void setUp() {
+        InMemoryHolidayProvider data = new InMemoryHolidayProvider();
+        CachedHolidayProvider provider = new CachedHolidayProvider(data, 5_000);
+        holidayService = new HolidayService(provider);
+        fortyRegions = fortyCountries.stream().map(countryCode -> regionOf(data, countryCode)).toList();
+        usRegion = regionOf(data, "US");
+        deRegion = regionOf(data, "DE");
+        frRegion = regionOf(data, "FR");
+
+        // Warm the cache so the benchmarks measure the query work, not data generation
+        for (String countryCode : InMemoryHolidayProvider.COUNTRY_CODES) {
+            for (int year = YEAR - RANGE_YEARS + 1; year <= YEAR; year++) {
+                provider.getPublicHolidays(year, countryCode);
+            }
+        }
+    }
+
+    /**
+     * @return a subdivision listed by the country's holidays of the benchmark year, or the country itself if
+     *         the generated year has no regional holiday
+     */
+    private static String regionOf(InMemoryHolidayProvider data, String countryCode) {
+        return data.getPublicHolidays(YEAR, countryCode).stream()
+            .filter(holiday -> holiday.getCounties() != null)
+            .map(holiday -> holiday.getCounties().get(0))
+            .findFirst()
+            .orElse(countryCode);
+    }
+
+    @Benchmark
+    public List<PublicHoliday> lastCelebratedHolidays() {
+        return holidayService.getLastCelebratedHolidays("US");
+    }
+
+    @Benchmark
+    public List<PublicHoliday> lastCelebratedHolidaysRegional() {
+        return holidayService.getLastCelebratedHolidays(usRegion, 3, LocalDate.of(YEAR, 6, 1));
+    }
+
+    @Benchmark
+    public List<PublicHoliday> upcomingHolidays() {
+        return holidayService.getUpcomingHolidays("US", 3, LocalDate.of(YEAR, 6, 1));
+    }
+
+    @Benchmark
+    public LocalDate addBusinessDaysAcrossYears() {
+        return holidayService.addBusinessDays("DE", LocalDate.of(YEAR - RANGE_YEARS + 1, 6, 15), 2_500);
+    }
+
+    @Benchmark
+    public int countBusinessDaysTwentyYears() {
+        return holidayService.countBusinessDays("DE", LocalDate.of(YEAR - RANGE_YEARS + 1, 2, 10), LocalDate.of(YEAR, 11, 20));
+    }
+
+    @Benchmark
+    public List<CountryHolidayCount> nonWeekendHolidayCountFortyCountries() {
+        return holidayService.getNonWeekendHolidayCount(YEAR, fortyCountries);
+    }
+
+    @Benchmark
+    public List<CountryHolidayCount> nonWeekendHolidayCountFortyRegions() {
+        return holidayService.getNonWeekendHolidayCount(YEAR, fortyRegions);
+    }
+
+    @Benchmark
+    public NonWeekendHolidayMatrix nonWeekendHolidayCountsAllCountriesTwentyYears() {
+        return holidayService.getNonWeekendHolidayCounts(InMemoryHolidayProvider.COUNTRY_CODES, YEAR - RANGE_YEARS + 1, YEAR);
+    }
+
+    @Benchmark
+    public List<SharedHoliday> sharedHolidaysTwoCountries() {
+        return holidayService.getSharedHolidays(YEAR, "DE", "FR");
+    }
+
+    @Benchmark
+    public List<SharedHoliday> sharedHolidaysTwoRegions() {
+        return holidayService.getSharedHolidays(YEAR, deRegion, frRegion);
+    }
+
+    @Benchmark
+    public List<SharedHoliday> sharedHolidaysThirtyCountries() {
+        return holidayService.getSharedHolidays(YEAR, thirtyCountries, 10);
+    }
+
+    @Benchmark
+    public SharedHolidayMatrix sharedHolidayMatrixAllCountries() {
+        return holidayService.getSharedHolidayMatrix(YEAR, InMemoryHolidayProvider.COUNTRY_CODES, false);
+    }
+
+    @Benchmark
+    public SharedHolidayMatrix sharedHolidayMatrixAllCountriesWithDates() {
+        return holidayService.getSharedHolidayMatrix(YEAR, InMemoryHolidayProvider.COUNTRY_CODES, true);
+    }
+}
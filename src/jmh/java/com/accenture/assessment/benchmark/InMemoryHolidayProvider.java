@@ -0,0 +1,91 @@
+package com.accenture.assessment.benchmark;
+
+import com.accenture.assessment.model.PublicHoliday;
+import com.accenture.assessment.service.HolidayProvider;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Fake {@link HolidayProvider} serving generated data shaped like Nager.Date responses.
+ * <p>
+ * Every country gets the common fixed holidays most countries share plus a deterministic set of
+ * national and regional holidays, giving 10 to 30 holidays per year like the real dataset.
+ * Responses are generated once per (country, year) and then served from memory.
+ */
+public class InMemoryHolidayProvider implements HolidayProvider {
+
+    /**
+     * The country codes covered by Nager.Date.
+     */
+    public static final List<String> COUNTRY_CODES = List.of(
+        "AD", "AL", "AR", "AT", "AU", "AX", "BA", "BB", "BE", "BG", "BJ", "BO", "BR", "BS", "BW", "BY",
+        "BZ", "CA", "CH", "CL", "CN", "CO", "CR", "CU", "CY", "CZ", "DE", "DK", "DO", "EC", "EE", "EG",
+        "ES", "FI", "FO", "FR", "GA", "GB", "GD", "GE", "GG", "GI", "GL", "GM", "GR", "GT", "GY", "HK",
+        "HN", "HR", "HT", "HU", "ID", "IE", "IM", "IS", "IT", "JE", "JM", "JP", "KR", "KZ", "LI", "LS",
+        "LT", "LU", "LV", "MA", "MC", "MD", "ME", "MG", "MK", "MN", "MS", "MT", "MX", "MZ", "NA", "NE",
+        "NG", "NI", "NL", "NO", "NZ", "PA", "PE", "PG", "PL", "PR", "PT", "PY", "RO", "RS", "RU", "SE",
+        "SG", "SI", "SJ", "SK", "SM", "SR", "SV", "TN", "TR", "UA", "US", "UY", "VA", "VE", "VN", "ZA",
+        "ZW");
+
+    private final Map<String, List<PublicHoliday>> responses = new ConcurrentHashMap<>();
+
+    @Override
+    public List<PublicHoliday> getPublicHolidays(int year, String countryCode) {
+        return responses.computeIfAbsent(year + ":" + countryCode, key -> generate(year, countryCode));
+    }
+
+    /**
+     * Generates a fresh response on every call, without memoising it; used to measure the cost of a miss.
+     */
+    public List<PublicHoliday> generate(int year, String countryCode) {
+        Random random = new Random(31L * countryCode.hashCode() + year);
+        List<PublicHoliday> holidays = new ArrayList<>();
+
+        holidays.add(holiday(LocalDate.of(year, 1, 1), "New Year's Day", countryCode, null));
+        if (random.nextInt(10) < 7) {
+            holidays.add(holiday(LocalDate.of(year, 5, 1), "Labour Day", countryCode, null));
+        }
+        if (random.nextInt(10) < 8) {
+            holidays.add(holiday(LocalDate.of(year, 12, 25), "Christmas Day", countryCode, null));
+        }
+        if (random.nextInt(10) < 4) {
+            holidays.add(holiday(LocalDate.of(year, 12, 26), "St. Stephen's Day", countryCode, null));
+        }
+
+        int daysInYear = Year.of(year).length();
+        int nationalHolidays = 6 + random.nextInt(14);
+        for (int i = 0; i < nationalHolidays; i++) {
+            LocalDate date = LocalDate.ofYearDay(year, 1 + random.nextInt(daysInYear));
+            holidays.add(holiday(date, "National Holiday " + i, countryCode, null));
+        }
+
+        int regionalHolidays = random.nextInt(8);
+        for (int i = 0; i < regionalHolidays; i++) {
+            LocalDate date = LocalDate.ofYearDay(year, 1 + random.nextInt(daysInYear));
+            List<String> counties = List.of(countryCode + "-R" + random.nextInt(4), countryCode + "-R" + (4 + random.nextInt(4)));
+            holidays.add(holiday(date, "Regional Holiday " + i, countryCode, counties));
+        }
+
+        holidays.sort((a, b) -> a.getDate().compareTo(b.getDate()));
+        return holidays;
+    }
+
+    private static PublicHoliday holiday(LocalDate date, String name, String countryCode, List<String> counties) {
+        PublicHoliday holiday = new PublicHoliday();
+        holiday.setDate(date);
+        holiday.setName(name);
+        holiday.setLocalName(name + " (" + countryCode + ")");
+        holiday.setCountryCode(countryCode);
+        holiday.setFixed(false);
+        holiday.setGlobal(counties == null);
+        holiday.setCounties(counties);
+        holiday.setTypes(List.of("Public"));
+        return holiday;
+    }
+}
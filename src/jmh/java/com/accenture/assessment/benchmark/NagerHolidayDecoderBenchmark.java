@@ -0,0 +1,63 @@
+package com.accenture.assessment.benchmark;
+
+import com.accenture.assessment.model.PublicHoliday;
+import com.accenture.assessment.service.NagerHolidayDecoder;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decoding one Nager.Date response with the streaming {@link NagerHolidayDecoder} versus data binding.
+ * <p>
+ * Compare the {@code gc.alloc.rate.norm} figures (bytes per decoded response) reported by
+ * {@code ./mvnw -Pbenchmark test-compile exec:exec -Djmh.args="NagerHolidayDecoderBenchmark -prof gc"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NagerHolidayDecoderBenchmark {
+
+    private ObjectReader dataBindingReader;
+    private byte[] response;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper mapper = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+        dataBindingReader = mapper.readerFor(new TypeReference<List<PublicHoliday>>() {
+        });
+        response = mapper.writeValueAsBytes(new InMemoryHolidayProvider().generate(2024, "DE"));
+    }
+
+    @Benchmark
+    public List<PublicHoliday> streaming() throws IOException {
+        return NagerHolidayDecoder.decode(response);
+    }
+
+    @Benchmark
+    public List<PublicHoliday> dataBinding() throws IOException {
+        return dataBindingReader.readValue(response);
+    }
+}
@@ -1,17 +1,48 @@
 package com.accenture.assessment;
 
+import com.accenture.assessment.batch.HolidayBatchProcessor;
+import com.accenture.assessment.config.HolidayBatchProperties;
+import com.accenture.assessment.config.HolidayCacheProperties;
 import com.accenture.assessment.model.CountryHolidayCount;
 import com.accenture.assessment.model.PublicHoliday;
 import com.accenture.assessment.model.SharedHoliday;
+import com.accenture.assessment.service.HolidayProvider;
 import com.accenture.assessment.service.HolidayService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.search.Search;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationEnvironmentPreparedEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Scanner;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Main Spring Boot application for the Holiday Information Retrieval System.
@@ -19,12 +50,68 @@ import java.util.Scanner;
 @SpringBootApplication
 public class HolidayApplication {
 
+    private static final Path STANDARD_STREAM = Path.of("-");
+
+    /**
+     * Bytes assumed per cached (country, year) entry when the cache is bounded by memory; about twice the
+     * weight of a typical country's year, so that a chunk's pairs fit in the budget.
+     */
+    private static final long ASSUMED_ENTRY_BYTES = 16 * 1024;
+
     public static void main(String[] args) {
-        SpringApplication.run(HolidayApplication.class, args);
+        SpringApplication application = new SpringApplication(HolidayApplication.class);
+        application.addListeners(new WebServerModeListener());
+        ConfigurableApplicationContext context = application.run(args);
+        if ("batch".equals(context.getEnvironment().getProperty("holiday.mode"))) {
+            System.exit(SpringApplication.exit(context));
+        }
+    }
+
+    /**
+     * Non-interactive batch run, enabled with {@code holiday.mode=batch}: reads JSON-lines queries from
+     * {@code holiday.batch.input} and writes results to {@code holiday.batch.output}, then exits.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "holiday.mode", havingValue = "batch")
+    public CommandLineRunner batchRunner(HolidayService holidayService, HolidayProvider holidayProvider,
+                                         ObjectMapper objectMapper, HolidayBatchProperties batchProperties,
+                                         HolidayCacheProperties cacheProperties) {
+        return args -> {
+            HolidayBatchProcessor processor = new HolidayBatchProcessor(holidayService, holidayProvider, objectMapper,
+                batchProperties.getChunkSize(), cachedPairs(cacheProperties), batchProperties.getMaxConcurrency());
+
+            Path input = batchProperties.getInput();
+            Path output = batchProperties.getOutput();
+            try (BufferedReader reader = STANDARD_STREAM.equals(input)
+                     ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                     : Files.newBufferedReader(input);
+                 Writer writer = STANDARD_STREAM.equals(output)
+                     ? new NonClosingWriter(new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8)))
+                     : Files.newBufferedWriter(output)) {
+                processor.process(reader, writer);
+            }
+        };
     }
 
+    /**
+     * @return the number of (country, year) pairs the cache holds under the bound in force: its memory budget
+     *         when {@code holiday.cache.max-memory} is set, its entry count otherwise
+     */
+    private static int cachedPairs(HolidayCacheProperties cacheProperties) {
+        if (cacheProperties.getMaxMemory() == null) {
+            return cacheProperties.getMaxSize();
+        }
+        long pairs = cacheProperties.getMaxMemory().toBytes() / ASSUMED_ENTRY_BYTES;
+        return (int) Math.max(1, Math.min(Integer.MAX_VALUE, pairs));
+    }
+
+    /**
+     * Interactive menu, run when {@code holiday.mode} is {@code cli} (the default); the HTTP API under
+     * {@code /api/holidays} is served only with {@code holiday.mode=server}.
+     */
     @Bean
-    public CommandLineRunner commandLineRunner(HolidayService holidayService) {
+    @ConditionalOnProperty(name = "holiday.mode", havingValue = "cli", matchIfMissing = true)
+    public CommandLineRunner commandLineRunner(HolidayService holidayService, MeterRegistry meterRegistry) {
         return args -> {
             Scanner scanner = new Scanner(System.in);
             boolean running = true;
@@ -39,8 +126,9 @@ public class HolidayApplication {
                 System.out.println("1. Get last 3 celebrated holidays for a country");
                 System.out.println("2. Get non-weekend holiday count for countries");
                 System.out.println("3. Get shared holidays between two countries");
-                System.out.println("4. Exit");
-                System.out.print("\nEnter your choice (1-4): ");
+                System.out.println("4. Show cache and query statistics");
+                System.out.println("5. Exit");
+                System.out.print("\nEnter your choice (1-5): ");
 
                 String choice = scanner.nextLine().trim();
 
@@ -56,11 +144,15 @@ public class HolidayApplication {
                             handleSharedHolidays(scanner, holidayService);
                             break;
                         case "4":
+                        case "stats":
+                            handleStatistics(meterRegistry);
+                            break;
+                        case "5":
                             running = false;
                             System.out.println("\nThank you for using the Holiday Information System!");
                             break;
                         default:
-                            System.out.println("Invalid choice. Please enter a number between 1 and 4.");
+                            System.out.println("Invalid choice. Please enter a number between 1 and 5.");
                     }
                 } catch (Exception e) {
                     System.err.println("Error: " + e.getMessage());
@@ -153,4 +245,86 @@ public class HolidayApplication {
             }
         }
     }
+
+    /**
+     * Handles the statistics query: cache effectiveness, upstream latency and per-query timings.
+     */
+    private void handleStatistics(MeterRegistry meterRegistry) {
+        double hits = functionCount(meterRegistry.find("cache.gets").tag("result", "hit"));
+        double misses = functionCount(meterRegistry.find("cache.gets").tag("result", "miss"));
+        double evictions = functionCount(meterRegistry.find("cache.evictions"));
+        Gauge size = meterRegistry.find("cache.size").gauge();
+        double lookups = hits + misses;
+
+        System.out.println("\nCache statistics:");
+        System.out.println("----------------------------------------");
+        System.out.printf("Hits: %.0f, Misses: %.0f, Hit ratio: %.1f%%%n",
+            hits, misses, lookups == 0 ? 0.0 : 100.0 * hits / lookups);
+        System.out.printf("Evictions: %.0f, Size: %.0f%n", evictions, size == null ? 0.0 : size.value());
+
+        System.out.println("\nUpstream requests:");
+        System.out.println("----------------------------------------");
+        printTimers(meterRegistry.find("holiday.upstream.requests").timers(), "outcome");
+
+        System.out.println("\nQuery timings:");
+        System.out.println("----------------------------------------");
+        printTimers(meterRegistry.find("holiday.service.queries").timers(), "operation", "outcome");
+    }
+
+    private double functionCount(Search search) {
+        FunctionCounter counter = search.functionCounter();
+        return counter == null ? 0.0 : counter.count();
+    }
+
+    private void printTimers(Collection<Timer> timers, String... tagKeys) {
+        if (timers.isEmpty()) {
+            System.out.println("No requests recorded yet");
+            return;
+        }
+        for (Timer timer : timers) {
+            StringBuilder label = new StringBuilder();
+            for (String tagKey : tagKeys) {
+                label.append(label.length() == 0 ? "" : " ").append(timer.getId().getTag(tagKey));
+            }
+            StringBuilder percentiles = new StringBuilder();
+            for (ValueAtPercentile percentile : timer.takeSnapshot().percentileValues()) {
+                percentiles.append(String.format(", p%.0f=%.1f ms",
+                    percentile.percentile() * 100, percentile.value(TimeUnit.MILLISECONDS)));
+            }
+            System.out.printf("%s: count=%d, mean=%.1f ms%s%n",
+                label, timer.count(), timer.mean(TimeUnit.MILLISECONDS), percentiles);
+        }
+    }
+
+    /**
+     * Flushes but does not close the wrapped writer, so batch output to standard output leaves it open.
+     */
+    private static final class NonClosingWriter extends FilterWriter {
+
+        NonClosingWriter(Writer out) {
+            super(out);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+
+    /**
+     * Starts the embedded web server only with {@code holiday.mode=server}: the menu and batch modes run without
+     * one, unless {@code spring.main.web-application-type} is set explicitly.
+     */
+    private static final class WebServerModeListener implements ApplicationListener<ApplicationEnvironmentPreparedEvent> {
+
+        @Override
+        public void onApplicationEvent(ApplicationEnvironmentPreparedEvent event) {
+            ConfigurableEnvironment environment = event.getEnvironment();
+            if (!"server".equals(environment.getProperty("holiday.mode", "cli"))) {
+                // Lowest precedence, so an explicit setting still wins; bound to the application after this event
+                environment.getPropertySources().addLast(new MapPropertySource("holidayMode",
+                    Map.of("spring.main.web-application-type", WebApplicationType.NONE.name())));
+            }
+        }
+    }
 }
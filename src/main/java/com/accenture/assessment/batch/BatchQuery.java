@@ -0,0 +1,40 @@
+package com.accenture.assessment.batch;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * One line of a batch input file, e.g.
+ * <pre>
+ * {"id":"a1","query":"last","country":"US","count":3,"before":"2024-06-01"}
+ * {"query":"non-weekend-count","year":2024,"countries":["US","GB"]}
+ * {"query":"shared","year":2024,"countries":["US","GB","DE"],"min":2}
+ * </pre>
+ * Fields a query type does not use are ignored; {@code id} is optional and echoed in the output.
+ */
+public record BatchQuery(String id, String query, String country, List<String> countries,
+                         Integer year, Integer count, LocalDate before, Integer min) {
+
+    public static final String LAST = "last";
+    public static final String NON_WEEKEND_COUNT = "non-weekend-count";
+    public static final String SHARED = "shared";
+
+    /**
+     * @return the query without its id and with upper-case country codes, so equal queries compare equal
+     * @throws IllegalArgumentException if {@code countries} holds a null code
+     */
+    BatchQuery normalized() {
+        return new BatchQuery(null, query == null ? null : query.toLowerCase(Locale.ROOT),
+            country == null ? null : normalize(country),
+            countries == null ? null : countries.stream().map(BatchQuery::normalize).toList(),
+            year, count, before, min);
+    }
+
+    private static String normalize(String countryCode) {
+        if (countryCode == null) {
+            throw new IllegalArgumentException("Country codes must not be null");
+        }
+        return countryCode.trim().toUpperCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,331 @@
+package com.accenture.assessment.batch;
+
+import com.accenture.assessment.service.Futures;
+import com.accenture.assessment.service.HolidayProvider;
+import com.accenture.assessment.service.HolidayService;
+import com.accenture.assessment.service.RequestPriority;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs a JSON-lines file of {@link BatchQuery queries} through the holiday service.
+ * <p>
+ * Input is read in chunks bounded both by line count and by the number of distinct
+ * (country, year) pairs the chunk needs, so the pairs fit in the cache together. Within a chunk,
+ * identical queries are run once, every distinct pair is fetched once up front, and then the queries
+ * run against the warm cache. Result lines are written as each query completes, so output order
+ * follows completion, and every result carries its input line number. Memory is bounded by the
+ * chunk size, not the input size.
+ * <p>
+ * Each output line is {@code {"line":n,"id":...,"query":...,"result":...}}, or carries
+ * {@code "error"} in place of {@code "result"} for a query that could not be parsed or failed.
+ */
+public class HolidayBatchProcessor {
+
+    private static final Logger log = LoggerFactory.getLogger(HolidayBatchProcessor.class);
+    private static final int DEFAULT_LAST_CELEBRATED = 3;
+
+    private final HolidayService holidayService;
+    private final HolidayProvider holidayProvider;
+    private final ObjectMapper objectMapper;
+    private final int maxChunkLines;
+    private final int maxChunkPairs;
+    private final int maxConcurrency;
+
+    /**
+     * @param holidayService the service running the queries
+     * @param holidayProvider the cached provider behind the service, used to prefetch each chunk's data
+     * @param objectMapper mapper for reading queries and writing results
+     * @param maxChunkLines the maximum number of queries per chunk
+     * @param maxChunkPairs the maximum number of distinct (country, year) pairs per chunk; at most the cache size
+     * @param maxConcurrency the maximum number of fetches or queries in flight
+     */
+    public HolidayBatchProcessor(HolidayService holidayService, HolidayProvider holidayProvider,
+                                 ObjectMapper objectMapper, int maxChunkLines, int maxChunkPairs,
+                                 int maxConcurrency) {
+        this.holidayService = holidayService;
+        this.holidayProvider = holidayProvider;
+        this.objectMapper = objectMapper;
+        this.maxChunkLines = maxChunkLines;
+        this.maxChunkPairs = maxChunkPairs;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Totals of one batch run.
+     *
+     * @param queries the number of non-blank input lines
+     * @param uniqueQueries the number of queries actually run after deduplication within chunks
+     * @param failed the number of lines answered with an error
+     * @param elapsed how long the run took
+     */
+    public record Summary(long queries, long uniqueQueries, long failed, Duration elapsed) {
+    }
+
+    /**
+     * Processes every line of the input, writing one result line per query.
+     *
+     * @param input JSON lines of queries
+     * @param output destination for the result lines; flushed after every chunk
+     * @return the run totals
+     * @throws IOException if reading the input or writing the output fails
+     */
+    public Summary process(BufferedReader input, Writer output) throws IOException {
+        long start = System.nanoTime();
+        Run run = new Run(output, LocalDate.now());
+
+        Chunk chunk = new Chunk();
+        String line;
+        long lineNumber = 0;
+        while ((line = input.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            run.queries++;
+
+            BatchQuery query;
+            try {
+                query = objectMapper.readValue(line, BatchQuery.class);
+            } catch (JsonProcessingException e) {
+                run.writeError(lineNumber, null, null, "Invalid query: " + e.getOriginalMessage());
+                continue;
+            }
+            BatchQuery key;
+            try {
+                key = query.normalized();
+            } catch (IllegalArgumentException e) {
+                run.writeError(lineNumber, query.id(), query.query(), "Invalid query: " + e.getMessage());
+                continue;
+            }
+
+            Set<Pair> pairs = pairs(key, run.today);
+            if (!chunk.isEmpty() && (chunk.lines >= maxChunkLines || chunk.pairsWith(pairs) > maxChunkPairs)) {
+                run.execute(chunk);
+                chunk = new Chunk();
+            }
+            chunk.add(key, new Ref(lineNumber, query.id()), pairs);
+        }
+        if (!chunk.isEmpty()) {
+            run.execute(chunk);
+        }
+
+        Summary summary = new Summary(run.queries, run.uniqueQueries, run.failed.get(),
+            Duration.ofNanos(System.nanoTime() - start));
+        log.info("Batch finished in {} ms: {} queries, {} run after deduplication, {} failed",
+            summary.elapsed().toMillis(), summary.queries(), summary.uniqueQueries(), summary.failed());
+        return summary;
+    }
+
+    /**
+     * The (country, year) pairs a query reads first; a last-celebrated query may walk back further.
+     * Subdivision codes are read from their country's holidays, so they map to the country's pair.
+     */
+    private static Set<Pair> pairs(BatchQuery query, LocalDate today) {
+        Set<Pair> pairs = new LinkedHashSet<>();
+        if (BatchQuery.LAST.equals(query.query()) && query.country() != null) {
+            pairs.add(new Pair((query.before() != null ? query.before() : today).getYear(),
+                HolidayService.countryOf(query.country())));
+        } else if (query.year() != null && query.countries() != null) {
+            for (String countryCode : query.countries()) {
+                pairs.add(new Pair(query.year(), HolidayService.countryOf(countryCode)));
+            }
+        }
+        return pairs;
+    }
+
+    private record Pair(int year, String countryCode) {
+    }
+
+    private record Ref(long line, String id) {
+    }
+
+    /**
+     * Distinct queries of a chunk with the input lines asking each, and the pairs they need.
+     */
+    private static final class Chunk {
+
+        private final Map<BatchQuery, List<Ref>> queries = new LinkedHashMap<>();
+        private final Set<Pair> pairs = new LinkedHashSet<>();
+        private int lines;
+
+        void add(BatchQuery query, Ref ref, Set<Pair> queryPairs) {
+            queries.computeIfAbsent(query, key -> new ArrayList<>(1)).add(ref);
+            pairs.addAll(queryPairs);
+            lines++;
+        }
+
+        int pairsWith(Set<Pair> queryPairs) {
+            int added = 0;
+            for (Pair pair : queryPairs) {
+                if (!pairs.contains(pair)) {
+                    added++;
+                }
+            }
+            return pairs.size() + added;
+        }
+
+        boolean isEmpty() {
+            return lines == 0;
+        }
+    }
+
+    /**
+     * State of one {@link #process} call.
+     */
+    private final class Run {
+
+        private final Writer output;
+        private final LocalDate today;
+        private final Semaphore permits = new Semaphore(maxConcurrency);
+        private final AtomicLong failed = new AtomicLong();
+        private long queries;
+        private long uniqueQueries;
+
+        Run(Writer output, LocalDate today) {
+            this.output = output;
+            this.today = today;
+        }
+
+        void execute(Chunk chunk) throws IOException {
+            // Fetch each distinct pair once; failures surface again when the queries run
+            List<CompletableFuture<?>> prefetches = new ArrayList<>(chunk.pairs.size());
+            for (Pair pair : chunk.pairs) {
+                acquire();
+                prefetches.add(RequestPriority.BATCH.call(
+                        () -> holidayProvider.getHolidayCalendarAsync(pair.year(), pair.countryCode()))
+                    .whenComplete((calendar, error) -> permits.release()));
+            }
+            awaitAll(prefetches);
+
+            List<CompletableFuture<?>> results = new ArrayList<>(chunk.queries.size());
+            for (Map.Entry<BatchQuery, List<Ref>> entry : chunk.queries.entrySet()) {
+                acquire();
+                BatchQuery query = entry.getKey();
+                results.add(RequestPriority.BATCH.call(() -> run(query)).whenComplete((result, error) -> {
+                    permits.release();
+                    for (Ref ref : entry.getValue()) {
+                        if (error == null) {
+                            writeResult(ref, query.query(), result);
+                        } else {
+                            writeError(ref.line(), ref.id(), query.query(), Futures.unwrap(error).getMessage());
+                        }
+                    }
+                }));
+            }
+            awaitAll(results);
+            uniqueQueries += chunk.queries.size();
+
+            synchronized (output) {
+                output.flush();
+            }
+        }
+
+        private CompletableFuture<?> run(BatchQuery query) {
+            try {
+                String type = query.query() == null ? "" : query.query();
+                return switch (type) {
+                    case BatchQuery.LAST -> holidayService.getLastCelebratedHolidaysAsync(
+                        require(query.country(), "country"),
+                        query.count() != null ? query.count() : DEFAULT_LAST_CELEBRATED,
+                        query.before() != null ? query.before() : today);
+                    case BatchQuery.NON_WEEKEND_COUNT -> holidayService.getNonWeekendHolidayCountAsync(
+                        require(query.year(), "year"), require(query.countries(), "countries"));
+                    case BatchQuery.SHARED -> query.min() == null
+                        ? holidayService.getSharedHolidaysAsync(
+                            require(query.year(), "year"), require(query.countries(), "countries"))
+                        : holidayService.getSharedHolidaysAsync(
+                            require(query.year(), "year"), require(query.countries(), "countries"), query.min());
+                    default -> throw new IllegalArgumentException("Unknown query type: " + query.query());
+                };
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        private void writeResult(Ref ref, String query, Object result) {
+            ObjectNode line = header(ref.line(), ref.id(), query);
+            line.set("result", objectMapper.valueToTree(result));
+            write(line);
+        }
+
+        void writeError(long lineNumber, String id, String query, String message) {
+            failed.incrementAndGet();
+            ObjectNode line = header(lineNumber, id, query);
+            line.put("error", message);
+            write(line);
+        }
+
+        private ObjectNode header(long lineNumber, String id, String query) {
+            ObjectNode line = objectMapper.createObjectNode();
+            line.put("line", lineNumber);
+            if (id != null) {
+                line.put("id", id);
+            }
+            if (query != null) {
+                line.put("query", query);
+            }
+            return line;
+        }
+
+        private void write(ObjectNode line) {
+            try {
+                String json = objectMapper.writeValueAsString(line);
+                synchronized (output) {
+                    output.write(json);
+                    output.write('\n');
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void acquire() {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while running batch", e);
+            }
+        }
+
+        private void awaitAll(List<CompletableFuture<?>> futures) throws IOException {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).handle((value, error) -> null).join();
+            // Fetch and query failures are already reported per line; only a failed write aborts the run
+            for (CompletableFuture<?> future : futures) {
+                if (future.isCompletedExceptionally()) {
+                    Throwable error = future.handle((value, e) -> Futures.unwrap(e)).join();
+                    if (error instanceof UncheckedIOException outputFailure) {
+                        throw outputFailure.getCause();
+                    }
+                }
+            }
+        }
+    }
+
+    private static <T> T require(T value, String field) {
+        if (value == null) {
+            throw new IllegalArgumentException("Missing field: " + field);
+        }
+        return value;
+    }
+}
@@ -1,16 +1,173 @@
 package com.accenture.assessment.config;
 
+import com.accenture.assessment.service.CacheWarmer;
 import com.accenture.assessment.service.CachedHolidayProvider;
+import com.accenture.assessment.service.CircuitBreakerHolidayProvider;
+import com.accenture.assessment.service.DiskCachedHolidayProvider;
 import com.accenture.assessment.service.NagerHolidayProvider;
+import com.accenture.assessment.service.OfflineHolidayProvider;
 import com.accenture.assessment.service.HolidayProvider;
+import com.accenture.assessment.service.UpstreamRequestScheduler;
+import com.accenture.assessment.service.WeekendRules;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.nio.file.Path;
+import java.time.Year;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @Configuration
+@EnableConfigurationProperties({HolidayCacheProperties.class, HolidayBatchProperties.class, NagerProperties.class,
+    WeekendProperties.class})
 public class BeanConfig {
 
+    private static final Logger log = LoggerFactory.getLogger(BeanConfig.class);
+
+    @Bean
+    public HolidayProvider holidayProvider(NagerHolidayProvider nagerHolidayProvider,
+                                           ObjectProvider<CircuitBreakerHolidayProvider> nagerCircuitBreaker,
+                                           ObjectProvider<DiskCachedHolidayProvider> diskCachedHolidayProvider,
+                                           ObjectProvider<OfflineHolidayProvider> offlineHolidayProvider,
+                                           HolidayCacheProperties cacheProperties,
+                                           ExecutorService holidayFetchExecutor) {
+        HolidayProvider upstream = offlineHolidayProvider.getIfAvailable();
+        if (upstream == null) {
+            DiskCachedHolidayProvider diskTier = diskCachedHolidayProvider.getIfAvailable();
+            upstream = diskTier != null ? diskTier : nagerUpstream(nagerHolidayProvider, nagerCircuitBreaker);
+        }
+        // CachedHolidayProvider is a MeterBinder, so Spring Boot binds its meters to the registry
+        return CachedHolidayProvider.builder(upstream)
+            .maxCacheSize(cacheProperties.getMaxSize())
+            .maxCacheBytes(cacheProperties.getMaxMemory() != null ? cacheProperties.getMaxMemory().toBytes() : 0)
+            .expireAfterWrite(cacheProperties.getExpireAfterWrite())
+            .negativeCacheTtl(cacheProperties.getNegativeTtl())
+            .serveStaleOnError(cacheProperties.isServeStaleOnError())
+            .refreshRetryInterval(cacheProperties.getRefreshRetryInterval())
+            .refreshExecutor(holidayFetchExecutor)
+            .build();
+    }
+
+    /**
+     * Persistent cache tier behind the in-memory cache, enabled by setting {@code holiday.cache.disk.path}.
+     * Records follow the same expiry as the in-memory tier, so background refreshes reach the upstream.
+     */
+    @Bean
+    @ConditionalOnProperty("holiday.cache.disk.path")
+    public DiskCachedHolidayProvider diskCachedHolidayProvider(NagerHolidayProvider nagerHolidayProvider,
+                                                               ObjectProvider<CircuitBreakerHolidayProvider> nagerCircuitBreaker,
+                                                               HolidayCacheProperties cacheProperties) {
+        return new DiskCachedHolidayProvider(nagerUpstream(nagerHolidayProvider, nagerCircuitBreaker),
+            cacheProperties.getDisk().getPath(), cacheProperties.getExpireAfterWrite());
+    }
+
+    /**
+     * Fails Nager.Date requests fast while the API keeps failing, instead of every cache miss waiting
+     * for its timeout. Disabled with {@code holiday.nager.circuit-breaker.enabled=false}.
+     */
+    @Bean
+    @ConditionalOnProperty(value = "holiday.nager.circuit-breaker.enabled", havingValue = "true", matchIfMissing = true)
+    public CircuitBreakerHolidayProvider nagerCircuitBreaker(NagerHolidayProvider nagerHolidayProvider,
+                                                             NagerProperties nagerProperties) {
+        NagerProperties.CircuitBreaker circuitBreaker = nagerProperties.getCircuitBreaker();
+        return new CircuitBreakerHolidayProvider(nagerHolidayProvider, circuitBreaker.getFailureThreshold(),
+            circuitBreaker.getOpenDuration());
+    }
+
+    /**
+     * Local dataset replacing the Nager.Date API, selected with {@code holiday.provider=offline};
+     * {@code holiday.offline.path} names a {@code <year>/<CC>.json} directory or a binary record file
+     * such as the disk cache tier's. The disk cache tier is bypassed in this mode.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "holiday.provider", havingValue = "offline")
+    public OfflineHolidayProvider offlineHolidayProvider(@Value("${holiday.offline.path}") Path dataset) {
+        return new OfflineHolidayProvider(dataset);
+    }
+
+    /**
+     * Preloads the cache once every bean is created, so the warm-up finishes (or exhausts its time budget)
+     * before the web server starts or the command line runner accepts queries.
+     * Enabled with {@code holiday.cache.warmup.enabled=true}.
+     */
     @Bean
-    public HolidayProvider holidayProvider(NagerHolidayProvider nagerHolidayProvider) {
-        return new CachedHolidayProvider(nagerHolidayProvider);
+    @ConditionalOnProperty(value = "holiday.cache.warmup.enabled", havingValue = "true")
+    public SmartInitializingSingleton holidayCacheWarmup(HolidayProvider holidayProvider,
+                                                         NagerHolidayProvider nagerHolidayProvider,
+                                                         HolidayCacheProperties cacheProperties) {
+        return () -> {
+            HolidayCacheProperties.Warmup warmup = cacheProperties.getWarmup();
+            int currentYear = Year.now().getValue();
+            int fromYear = warmup.getFromYear() != null ? warmup.getFromYear() : currentYear;
+            int toYear = warmup.getToYear() != null ? warmup.getToYear() : currentYear;
+
+            List<String> countryCodes = warmup.getCountries();
+            if (countryCodes.stream().anyMatch(HolidayCacheProperties.Warmup.ALL_COUNTRIES::equalsIgnoreCase)) {
+                try {
+                    countryCodes = nagerHolidayProvider.getAvailableCountryCodes();
+                } catch (RuntimeException e) {
+                    log.warn("Skipping holiday cache warm-up, available countries could not be fetched: {}",
+                        e.getMessage());
+                    return;
+                }
+            }
+
+            int pairs = countryCodes.size() * Math.max(0, toYear - fromYear + 1);
+            if (cacheProperties.getMaxMemory() == null && pairs > cacheProperties.getMaxSize()) {
+                log.warn("Warm-up covers {} (country, year) pairs but holiday.cache.max-size is {}; "
+                    + "the earliest pairs will be evicted", pairs, cacheProperties.getMaxSize());
+            }
+            new CacheWarmer(holidayProvider).warmUp(countryCodes, fromYear, toYear,
+                warmup.getMaxConcurrency(), warmup.getTimeBudget());
+        };
+    }
+
+    /**
+     * Admission control shared by every Nager.Date request: rate limit, connection cap and priority order,
+     * so batch and warm-up fetches cannot flood the API or starve interactive queries.
+     */
+    @Bean
+    public UpstreamRequestScheduler upstreamRequestScheduler(NagerProperties nagerProperties, MeterRegistry meterRegistry) {
+        return new UpstreamRequestScheduler(nagerProperties.getMaxConnections(), nagerProperties.getRateLimit(),
+            nagerProperties.getRateLimitBurst(), meterRegistry);
+    }
+
+    /**
+     * The built-in weekend of each country, with the configured default and country overrides applied.
+     */
+    @Bean
+    public WeekendRules weekendRules(WeekendProperties weekendProperties) {
+        WeekendRules rules = WeekendRules.standard();
+        if (weekendProperties.getDefaultDays() != null) {
+            rules = rules.withDefaultWeekend(weekendProperties.getDefaultDays());
+        }
+        return rules.withCountryWeekends(weekendProperties.getCountries());
+    }
+
+    private static HolidayProvider nagerUpstream(NagerHolidayProvider nagerHolidayProvider,
+                                                 ObjectProvider<CircuitBreakerHolidayProvider> nagerCircuitBreaker) {
+        CircuitBreakerHolidayProvider circuitBreaker = nagerCircuitBreaker.getIfAvailable();
+        return circuitBreaker != null ? circuitBreaker : nagerHolidayProvider;
+    }
+
+    /**
+     * Bounded pool for upstream holiday fetches, so a fan-out over many countries runs concurrently
+     * without creating a thread per request.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService holidayFetchExecutor(@Value("${holiday.fetch.max-threads:16}") int maxThreads) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("holiday-fetch-");
+        threadFactory.setDaemon(true);
+        return Executors.newFixedThreadPool(maxThreads, threadFactory);
     }
 }
@@ -0,0 +1,64 @@
+package com.accenture.assessment.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+
+/**
+ * Settings for batch mode ({@code holiday.mode=batch}), bound from {@code holiday.batch.*}.
+ */
+@ConfigurationProperties(prefix = "holiday.batch")
+public class HolidayBatchProperties {
+
+    /**
+     * JSON-lines file of queries; {@code -} reads standard input.
+     */
+    private Path input = Path.of("-");
+
+    /**
+     * File the JSON-lines results are written to; {@code -} writes standard output.
+     */
+    private Path output = Path.of("-");
+
+    /**
+     * Maximum number of queries read and deduplicated together.
+     */
+    private int chunkSize = 10_000;
+
+    /**
+     * Maximum number of fetches or queries in flight.
+     */
+    private int maxConcurrency = 16;
+
+    public Path getInput() {
+        return input;
+    }
+
+    public void setInput(Path input) {
+        this.input = input;
+    }
+
+    public Path getOutput() {
+        return output;
+    }
+
+    public void setOutput(Path output) {
+        this.output = output;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public void setMaxConcurrency(int maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+    }
+}
@@ -0,0 +1,215 @@
+package com.accenture.assessment.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Settings for the holiday cache tiers, bound from {@code holiday.cache.*}.
+ */
+@ConfigurationProperties(prefix = "holiday.cache")
+public class HolidayCacheProperties {
+
+    /**
+     * Maximum number of (country, year) entries held in memory.
+     */
+    private int maxSize = 100;
+
+    /**
+     * Memory budget for the in-memory cache, replacing the entry count limit; unset bounds by entry count.
+     */
+    private DataSize maxMemory;
+
+    /**
+     * How long after loading an entry is refreshed in the background; unset never expires.
+     */
+    private Duration expireAfterWrite;
+
+    /**
+     * Whether expired entries keep being served while the upstream is failing.
+     */
+    private boolean serveStaleOnError = true;
+
+    /**
+     * How long to wait before retrying a failed background refresh.
+     */
+    private Duration refreshRetryInterval = Duration.ofSeconds(30);
+
+    /**
+     * How long a rejected lookup, such as an unknown country code, fails again without an upstream call;
+     * unset remembers nothing.
+     */
+    private Duration negativeTtl = Duration.ofMinutes(1);
+
+    private final Disk disk = new Disk();
+
+    private final Warmup warmup = new Warmup();
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public DataSize getMaxMemory() {
+        return maxMemory;
+    }
+
+    public void setMaxMemory(DataSize maxMemory) {
+        this.maxMemory = maxMemory;
+    }
+
+    public Duration getExpireAfterWrite() {
+        return expireAfterWrite;
+    }
+
+    public void setExpireAfterWrite(Duration expireAfterWrite) {
+        this.expireAfterWrite = expireAfterWrite;
+    }
+
+    public boolean isServeStaleOnError() {
+        return serveStaleOnError;
+    }
+
+    public void setServeStaleOnError(boolean serveStaleOnError) {
+        this.serveStaleOnError = serveStaleOnError;
+    }
+
+    public Duration getRefreshRetryInterval() {
+        return refreshRetryInterval;
+    }
+
+    public void setRefreshRetryInterval(Duration refreshRetryInterval) {
+        this.refreshRetryInterval = refreshRetryInterval;
+    }
+
+    public Duration getNegativeTtl() {
+        return negativeTtl;
+    }
+
+    public void setNegativeTtl(Duration negativeTtl) {
+        this.negativeTtl = negativeTtl;
+    }
+
+    public Disk getDisk() {
+        return disk;
+    }
+
+    public Warmup getWarmup() {
+        return warmup;
+    }
+
+    /**
+     * Settings for the persistent cache tier, bound from {@code holiday.cache.disk.*}.
+     */
+    public static class Disk {
+
+        /**
+         * File for the persistent cache tier; the tier is disabled when unset.
+         */
+        private Path path;
+
+        public Path getPath() {
+            return path;
+        }
+
+        public void setPath(Path path) {
+            this.path = path;
+        }
+    }
+
+    /**
+     * Settings for preloading the cache at startup, bound from {@code holiday.cache.warmup.*}.
+     */
+    public static class Warmup {
+
+        /**
+         * Value of {@link #countries} meaning every country Nager.Date covers.
+         */
+        public static final String ALL_COUNTRIES = "ALL";
+
+        /**
+         * Whether the cache is preloaded before the application accepts queries.
+         */
+        private boolean enabled;
+
+        /**
+         * Country codes to preload, or {@code ALL} for every available country.
+         */
+        private List<String> countries = new ArrayList<>();
+
+        /**
+         * First year to preload; unset means the current year.
+         */
+        private Integer fromYear;
+
+        /**
+         * Last year to preload; unset means the current year.
+         */
+        private Integer toYear;
+
+        /**
+         * Maximum number of (country, year) pairs fetched at once.
+         */
+        private int maxConcurrency = 8;
+
+        /**
+         * How long startup waits for the warm-up before continuing partially warmed.
+         */
+        private Duration timeBudget = Duration.ofSeconds(60);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public List<String> getCountries() {
+            return countries;
+        }
+
+        public void setCountries(List<String> countries) {
+            this.countries = countries;
+        }
+
+        public Integer getFromYear() {
+            return fromYear;
+        }
+
+        public void setFromYear(Integer fromYear) {
+            this.fromYear = fromYear;
+        }
+
+        public Integer getToYear() {
+            return toYear;
+        }
+
+        public void setToYear(Integer toYear) {
+            this.toYear = toYear;
+        }
+
+        public int getMaxConcurrency() {
+            return maxConcurrency;
+        }
+
+        public void setMaxConcurrency(int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+        }
+
+        public Duration getTimeBudget() {
+            return timeBudget;
+        }
+
+        public void setTimeBudget(Duration timeBudget) {
+            this.timeBudget = timeBudget;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.accenture.assessment.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.net.URI;
+import java.time.Duration;
+
+/**
+ * Settings for the Nager.Date HTTP client, bound from {@code holiday.nager.*}.
+ */
+@ConfigurationProperties(prefix = "holiday.nager")
+public class NagerProperties {
+
+    /**
+     * Base URL of the Nager.Date v3 API.
+     */
+    private URI baseUrl = URI.create("https://date.nager.at/api/v3");
+
+    /**
+     * Maximum time to establish a connection, including the TLS handshake.
+     */
+    private Duration connectTimeout = Duration.ofSeconds(5);
+
+    /**
+     * Maximum time to wait for a complete response once the request is sent.
+     */
+    private Duration requestTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Maximum number of requests in flight at once, and so of connections opened to the API.
+     */
+    private int maxConnections = 16;
+
+    /**
+     * Sustained number of requests per second sent to the API; zero or less is unlimited.
+     */
+    private double rateLimit = 20;
+
+    /**
+     * Number of requests that can be sent at once after a quiet period, above the sustained rate.
+     */
+    private int rateLimitBurst = 40;
+
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    public URI getBaseUrl() {
+        return baseUrl;
+    }
+
+    public void setBaseUrl(URI baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    public Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public void setConnectTimeout(Duration connectTimeout) {
+        this.connectTimeout = connectTimeout;
+    }
+
+    public Duration getRequestTimeout() {
+        return requestTimeout;
+    }
+
+    public void setRequestTimeout(Duration requestTimeout) {
+        this.requestTimeout = requestTimeout;
+    }
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    public void setMaxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+
+    public double getRateLimit() {
+        return rateLimit;
+    }
+
+    public void setRateLimit(double rateLimit) {
+        this.rateLimit = rateLimit;
+    }
+
+    public int getRateLimitBurst() {
+        return rateLimitBurst;
+    }
+
+    public void setRateLimitBurst(int rateLimitBurst) {
+        this.rateLimitBurst = rateLimitBurst;
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    /**
+     * Settings for failing fast while the API is down, bound from {@code holiday.nager.circuit-breaker.*}.
+     */
+    public static class CircuitBreaker {
+
+        /**
+         * Whether requests fail fast once the API keeps failing.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Number of consecutive failed requests, excluding client errors, that opens the circuit.
+         */
+        private int failureThreshold = 5;
+
+        /**
+         * How long requests fail fast before a single probe request is let through.
+         */
+        private Duration openDuration = Duration.ofSeconds(30);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getFailureThreshold() {
+            return failureThreshold;
+        }
+
+        public void setFailureThreshold(int failureThreshold) {
+            this.failureThreshold = failureThreshold;
+        }
+
+        public Duration getOpenDuration() {
+            return openDuration;
+        }
+
+        public void setOpenDuration(Duration openDuration) {
+            this.openDuration = openDuration;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.accenture.assessment.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.DayOfWeek;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Weekend definitions used by the non-weekend holiday count, bound from {@code holiday.weekend.*}.
+ */
+@ConfigurationProperties(prefix = "holiday.weekend")
+public class WeekendProperties {
+
+    /**
+     * Days of the week countries without a definition of their own rest on; unset means Saturday and Sunday.
+     */
+    private Set<DayOfWeek> defaultDays;
+
+    /**
+     * Weekend days by country code, replacing the built-in definition of that country in every year.
+     */
+    private Map<String, Set<DayOfWeek>> countries = new HashMap<>();
+
+    public Set<DayOfWeek> getDefaultDays() {
+        return defaultDays;
+    }
+
+    public void setDefaultDays(Set<DayOfWeek> defaultDays) {
+        this.defaultDays = defaultDays;
+    }
+
+    public Map<String, Set<DayOfWeek>> getCountries() {
+        return countries;
+    }
+
+    public void setCountries(Map<String, Set<DayOfWeek>> countries) {
+        this.countries = countries;
+    }
+}
@@ -0,0 +1,242 @@
+package com.accenture.assessment.model;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Day-of-year bitset representation of one country's public holidays in a year.
+ * <p>
+ * Bit {@code dayOfYear - 1} is set when at least one holiday falls on that day, so membership,
+ * counting and intersection are a handful of word operations. A side table maps each set day,
+ * by its rank among the set days, to the holidays celebrated on it. Instances are immutable, and nothing
+ * derived from a calendar is kept with it: a caching provider weighs the calendar when it stores it, so
+ * callers deriving further structures, such as {@link #getWorkingDays(long[]) working-day tables} or
+ * {@link SubdivisionCalendars}, keep them in bounded caches of their own.
+ */
+public final class HolidayCalendar {
+
+    /**
+     * Number of 64-bit words needed to hold one bit per day of a leap year.
+     */
+    public static final int WORDS = (366 + Long.SIZE - 1) / Long.SIZE;
+
+    private final int year;
+    private final long[] days;
+    private final long[] daysWithSeveralHolidays;
+    private final PublicHoliday[] holidays;
+    private final List<PublicHoliday> holidayList;
+    private final int[] firstHolidayOfDay;
+
+    private HolidayCalendar(int year, long[] days, long[] daysWithSeveralHolidays,
+                            PublicHoliday[] holidays, int[] firstHolidayOfDay) {
+        this.year = year;
+        this.days = days;
+        this.daysWithSeveralHolidays = daysWithSeveralHolidays;
+        this.holidays = holidays;
+        this.holidayList = Collections.unmodifiableList(Arrays.asList(holidays));
+        this.firstHolidayOfDay = firstHolidayOfDay;
+    }
+
+    /**
+     * Builds the calendar for the given year. Holidays without a date or dated in another year are ignored.
+     *
+     * @param year the calendar year
+     * @param publicHolidays the holidays of one country
+     * @return the calendar
+     */
+    public static HolidayCalendar of(int year, List<PublicHoliday> publicHolidays) {
+        List<PublicHoliday> inYear = new ArrayList<>(publicHolidays.size());
+        for (PublicHoliday holiday : publicHolidays) {
+            if (holiday.getDate() != null && holiday.getDate().getYear() == year) {
+                inYear.add(holiday);
+            }
+        }
+        // Stable sort: holidays on the same day keep the provider's order
+        inYear.sort(Comparator.comparing(PublicHoliday::getDate));
+
+        long[] days = new long[WORDS];
+        long[] daysWithSeveralHolidays = new long[WORDS];
+        int[] firstHolidayOfDay = new int[inYear.size() + 1];
+        int dayCount = 0;
+        int previousDay = -1;
+
+        for (int i = 0; i < inYear.size(); i++) {
+            int day = inYear.get(i).getDate().getDayOfYear() - 1;
+            if (day == previousDay) {
+                daysWithSeveralHolidays[day >>> 6] |= 1L << day;
+            } else {
+                days[day >>> 6] |= 1L << day;
+                firstHolidayOfDay[dayCount++] = i;
+                previousDay = day;
+            }
+        }
+        firstHolidayOfDay[dayCount] = inYear.size();
+
+        return new HolidayCalendar(year, days, daysWithSeveralHolidays,
+            inYear.toArray(new PublicHoliday[0]), Arrays.copyOf(firstHolidayOfDay, dayCount + 1));
+    }
+
+    /**
+     * Builds the mask of every day in the year falling on one of the given days of the week.
+     *
+     * @param year the calendar year
+     * @param daysOfWeek the days of the week to select
+     * @return a {@link #WORDS}-long bitset indexed like {@link #word(int)}
+     */
+    public static long[] daysOfWeekMask(int year, Set<DayOfWeek> daysOfWeek) {
+        long[] mask = new long[WORDS];
+        int length = Year.of(year).length();
+        DayOfWeek dayOfWeek = LocalDate.of(year, 1, 1).getDayOfWeek();
+        for (int day = 0; day < length; day++) {
+            if (daysOfWeek.contains(dayOfWeek)) {
+                mask[day >>> 6] |= 1L << day;
+            }
+            dayOfWeek = dayOfWeek.plus(1);
+        }
+        return mask;
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    /**
+     * @param wordIndex index in {@code [0, WORDS)}
+     * @return the 64 day bits starting at day-of-year {@code wordIndex * 64 + 1}
+     */
+    public long word(int wordIndex) {
+        return days[wordIndex];
+    }
+
+    public boolean contains(LocalDate date) {
+        return date.getYear() == year && containsDay(date.getDayOfYear());
+    }
+
+    /**
+     * @param dayOfYear day of the year, starting at 1
+     * @return true if at least one holiday falls on that day
+     */
+    public boolean containsDay(int dayOfYear) {
+        int bit = dayOfYear - 1;
+        return (days[bit >>> 6] & (1L << bit)) != 0;
+    }
+
+    /**
+     * @return the number of distinct days with at least one holiday
+     */
+    public int getDayCount() {
+        return firstHolidayOfDay.length - 1;
+    }
+
+    /**
+     * @return the number of holidays, counting every holiday on a shared day
+     */
+    public int getHolidayCount() {
+        return holidays.length;
+    }
+
+    /**
+     * Counts the holidays that do not fall on any day of the given mask.
+     * Every holiday on a day counts, matching a count over the holiday list.
+     *
+     * @param excludedDays a {@link #WORDS}-long day bitset, e.g. from {@link #daysOfWeekMask(int, Set)}
+     * @return the number of holidays outside the mask
+     */
+    public int countHolidaysExcluding(long[] excludedDays) {
+        int count = 0;
+        for (int w = 0; w < WORDS; w++) {
+            count += Long.bitCount(days[w] & ~excludedDays[w]);
+
+            long extra = daysWithSeveralHolidays[w] & ~excludedDays[w];
+            while (extra != 0) {
+                int dayOfYear = (w << 6) + Long.numberOfTrailingZeros(extra) + 1;
+                count += getHolidaysOn(dayOfYear).size() - 1;
+                extra &= extra - 1;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Builds the cumulative working-day table of this calendar's year, treating every holiday day and every
+     * day of the weekend mask as a day off.
+     *
+     * @param weekendDays a {@link #WORDS}-long bitset of the weekend days, e.g. from {@link #daysOfWeekMask(int, Set)}
+     * @return a new working-day table
+     */
+    public WorkingDayTable getWorkingDays(long[] weekendDays) {
+        return WorkingDayTable.of(year, days, weekendDays);
+    }
+
+    /**
+     * Counts the holidays dated strictly before the given date, which is also the index in
+     * {@link #getHolidays()} of the first holiday on or after it. Constant time: a rank over the day bitset.
+     *
+     * @param date any date; dates before this year give 0 and dates after it give every holiday
+     * @return the number of holidays of this calendar before the date
+     */
+    public int countHolidaysBefore(LocalDate date) {
+        if (date.getYear() < year) {
+            return 0;
+        }
+        if (date.getYear() > year) {
+            return holidays.length;
+        }
+        return firstHolidayOfDay[rank(date.getDayOfYear() - 1)];
+    }
+
+    /**
+     * @param dayOfYear day of the year, starting at 1
+     * @return the holidays on that day in provider order, or an empty list
+     */
+    public List<PublicHoliday> getHolidaysOn(int dayOfYear) {
+        if (!containsDay(dayOfYear)) {
+            return Collections.emptyList();
+        }
+        int rank = rank(dayOfYear - 1);
+        return Collections.unmodifiableList(
+            Arrays.asList(holidays).subList(firstHolidayOfDay[rank], firstHolidayOfDay[rank + 1]));
+    }
+
+    /**
+     * @param dayOfYear day of the year, starting at 1
+     * @return the local name of the first holiday on that day, or null if there is none
+     */
+    public String getLocalName(int dayOfYear) {
+        if (!containsDay(dayOfYear)) {
+            return null;
+        }
+        return holidays[firstHolidayOfDay[rank(dayOfYear - 1)]].getLocalName();
+    }
+
+    /**
+     * @return all holidays of the year sorted by date, as an unmodifiable view shared by every call
+     */
+    public List<PublicHoliday> getHolidays() {
+        return holidayList;
+    }
+
+    /**
+     * Number of set days before the given bit, i.e. the index of that day in the side table.
+     */
+    private int rank(int bit) {
+        int word = bit >>> 6;
+        int rank = 0;
+        for (int w = 0; w < word; w++) {
+            rank += Long.bitCount(days[w]);
+        }
+        return rank + Long.bitCount(days[word] & ((1L << bit) - 1));
+    }
+
+    @Override
+    public String toString() {
+        return "HolidayCalendar{year=" + year + ", days=" + getDayCount() + ", holidays=" + holidays.length + '}';
+    }
+}
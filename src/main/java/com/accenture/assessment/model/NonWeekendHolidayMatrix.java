@@ -0,0 +1,105 @@
+package com.accenture.assessment.model;
+
+import java.util.List;
+
+/**
+ * Model class representing non-weekend holiday counts for several countries over a range of years.
+ * <p>
+ * Row {@code i} of {@link #getCounts()} holds the counts of country {@code i} of {@link #getCountryCodes()},
+ * column {@code j} the year {@code fromYear + j}. Totals are given per country, per year and overall.
+ */
+public class NonWeekendHolidayMatrix {
+
+    private final List<String> countryCodes;
+    private final int fromYear;
+    private final int toYear;
+    private final int[][] counts;
+    private final int[] countryTotals;
+    private final int[] yearTotals;
+    private final long total;
+
+    public NonWeekendHolidayMatrix(List<String> countryCodes, int fromYear, int toYear, int[][] counts,
+                                   int[] countryTotals, int[] yearTotals, long total) {
+        this.countryCodes = List.copyOf(countryCodes);
+        this.fromYear = fromYear;
+        this.toYear = toYear;
+        this.counts = counts;
+        this.countryTotals = countryTotals;
+        this.yearTotals = yearTotals;
+        this.total = total;
+    }
+
+    public List<String> getCountryCodes() {
+        return countryCodes;
+    }
+
+    public int getFromYear() {
+        return fromYear;
+    }
+
+    public int getToYear() {
+        return toYear;
+    }
+
+    public int[][] getCounts() {
+        return counts;
+    }
+
+    public int[] getCountryTotals() {
+        return countryTotals;
+    }
+
+    public int[] getYearTotals() {
+        return yearTotals;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * @param countryCode a country of the matrix
+     * @param year a year of the range
+     * @return the number of holidays of that country not falling on a weekend in that year
+     * @throws IllegalArgumentException if the country or year is not covered
+     */
+    public int getCount(String countryCode, int year) {
+        return counts[countryIndex(countryCode)][yearIndex(year)];
+    }
+
+    /**
+     * @param countryCode a country of the matrix
+     * @return the country's non-weekend holidays summed over the range
+     */
+    public int getCountryTotal(String countryCode) {
+        return countryTotals[countryIndex(countryCode)];
+    }
+
+    /**
+     * @param year a year of the range
+     * @return the non-weekend holidays of every country in that year
+     */
+    public int getYearTotal(int year) {
+        return yearTotals[yearIndex(year)];
+    }
+
+    private int countryIndex(String countryCode) {
+        int index = countryCodes.indexOf(countryCode);
+        if (index < 0) {
+            throw new IllegalArgumentException("Country not in matrix: " + countryCode);
+        }
+        return index;
+    }
+
+    private int yearIndex(int year) {
+        if (year < fromYear || year > toYear) {
+            throw new IllegalArgumentException("Year " + year + " outside " + fromYear + "-" + toYear);
+        }
+        return year - fromYear;
+    }
+
+    @Override
+    public String toString() {
+        return countryCodes.size() + " countries, " + fromYear + "-" + toYear + ": " + total + " holidays";
+    }
+}
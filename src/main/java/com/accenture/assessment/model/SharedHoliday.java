@@ -1,7 +1,7 @@
 package com.accenture.assessment.model;
 
 import java.time.LocalDate;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -10,11 +10,11 @@ import java.util.Map;
 public class SharedHoliday {
 
     private LocalDate date;
-    private Map<String, String> localNames; // countryCode -> localName
+    private Map<String, String> localNames; // countryCode -> localName, in the order countries were added
 
     public SharedHoliday(LocalDate date) {
         this.date = date;
-        this.localNames = new HashMap<>();
+        this.localNames = new LinkedHashMap<>();
     }
 
     public LocalDate getDate() {
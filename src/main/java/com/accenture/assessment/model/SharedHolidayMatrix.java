@@ -0,0 +1,94 @@
+package com.accenture.assessment.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Model class representing the number of holiday dates shared by every pair of several countries in a year.
+ * <p>
+ * {@link #getCounts()} is symmetric and indexed like {@link #getCountryCodes()}; the diagonal holds the
+ * number of distinct holiday dates of each country. When requested, {@link #getDates()} maps the first
+ * country of each pair, in list order, to every later country and their shared dates.
+ */
+public class SharedHolidayMatrix {
+
+    private final List<String> countryCodes;
+    private final int year;
+    private final int[][] counts;
+    private final Map<String, Map<String, List<LocalDate>>> dates;
+
+    public SharedHolidayMatrix(List<String> countryCodes, int year, int[][] counts,
+                               Map<String, Map<String, List<LocalDate>>> dates) {
+        this.countryCodes = List.copyOf(countryCodes);
+        this.year = year;
+        this.counts = counts;
+        this.dates = dates;
+    }
+
+    public List<String> getCountryCodes() {
+        return countryCodes;
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    public int[][] getCounts() {
+        return counts;
+    }
+
+    /**
+     * @return the shared dates of each pair, or null if they were not requested
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public Map<String, Map<String, List<LocalDate>>> getDates() {
+        return dates;
+    }
+
+    /**
+     * @param countryCode1 a country of the matrix
+     * @param countryCode2 a country of the matrix; the same country gives its own number of holiday dates
+     * @return the number of dates celebrated in both countries
+     * @throws IllegalArgumentException if a country is not covered
+     */
+    public int getCount(String countryCode1, String countryCode2) {
+        return counts[countryIndex(countryCode1)][countryIndex(countryCode2)];
+    }
+
+    /**
+     * @param countryCode1 a country of the matrix
+     * @param countryCode2 another country of the matrix
+     * @return the dates celebrated in both countries in date order
+     * @throws IllegalArgumentException if a country is not covered or the two countries are the same
+     * @throws IllegalStateException if the dates were not requested
+     */
+    public List<LocalDate> getSharedDates(String countryCode1, String countryCode2) {
+        if (dates == null) {
+            throw new IllegalStateException("Shared dates were not requested");
+        }
+        int index1 = countryIndex(countryCode1);
+        int index2 = countryIndex(countryCode2);
+        if (index1 == index2) {
+            throw new IllegalArgumentException("Countries of a pair must differ: " + countryCode1);
+        }
+        return index1 < index2
+            ? dates.get(countryCode1).get(countryCode2)
+            : dates.get(countryCode2).get(countryCode1);
+    }
+
+    private int countryIndex(String countryCode) {
+        int index = countryCodes.indexOf(countryCode);
+        if (index < 0) {
+            throw new IllegalArgumentException("Country not in matrix: " + countryCode);
+        }
+        return index;
+    }
+
+    @Override
+    public String toString() {
+        return countryCodes.size() + " countries, " + year + (dates != null ? " with dates" : "");
+    }
+}
@@ -0,0 +1,92 @@
+package com.accenture.assessment.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Calendars of the holidays observed in each subdivision of one country's year, and of its nationwide
+ * holidays alone.
+ * <p>
+ * A subdivision observes the nationwide holidays, which list no counties, and the regional holidays listing
+ * it. The index is built in one pass over the country's holidays in calendar order, so holidays on the same
+ * day keep the provider's order in every subdivision. Instances are immutable.
+ */
+public final class SubdivisionCalendars {
+
+    private final Map<String, HolidayCalendar> calendars;
+    private final HolidayCalendar nationwide;
+
+    private SubdivisionCalendars(Map<String, HolidayCalendar> calendars, HolidayCalendar nationwide) {
+        this.calendars = calendars;
+        this.nationwide = nationwide;
+    }
+
+    /**
+     * Indexes the subdivisions listed by the holidays of a country's calendar.
+     *
+     * @param calendar the country's calendar
+     * @return the calendars of its subdivisions
+     */
+    public static SubdivisionCalendars of(HolidayCalendar calendar) {
+        List<PublicHoliday> holidays = calendar.getHolidays();
+        Map<String, List<PublicHoliday>> observed = new TreeMap<>();
+        for (PublicHoliday holiday : holidays) {
+            if (holiday.getCounties() != null) {
+                for (String county : holiday.getCounties()) {
+                    observed.putIfAbsent(county, new ArrayList<>());
+                }
+            }
+        }
+
+        List<PublicHoliday> nationwide = new ArrayList<>();
+        for (PublicHoliday holiday : holidays) {
+            List<String> counties = holiday.getCounties();
+            if (counties == null || counties.isEmpty()) {
+                nationwide.add(holiday);
+                observed.values().forEach(subdivisionHolidays -> subdivisionHolidays.add(holiday));
+            } else {
+                for (String county : counties) {
+                    observed.get(county).add(holiday);
+                }
+            }
+        }
+
+        int year = calendar.getYear();
+        Map<String, HolidayCalendar> calendars = new LinkedHashMap<>();
+        observed.forEach((county, subdivisionHolidays) ->
+            calendars.put(county, HolidayCalendar.of(year, subdivisionHolidays)));
+        return new SubdivisionCalendars(Collections.unmodifiableMap(calendars), HolidayCalendar.of(year, nationwide));
+    }
+
+    /**
+     * @param subdivisionCode an ISO 3166-2 code as listed in {@link PublicHoliday#getCounties()}, e.g. {@code DE-BY}
+     * @return the holidays observed in the subdivision, or null if no holiday of the year lists it
+     */
+    public HolidayCalendar get(String subdivisionCode) {
+        return calendars.get(subdivisionCode);
+    }
+
+    /**
+     * @return the holidays observed in every subdivision
+     */
+    public HolidayCalendar getNationwide() {
+        return nationwide;
+    }
+
+    /**
+     * @return the subdivisions listed by at least one regional holiday of the year, in code order
+     */
+    public Set<String> getSubdivisionCodes() {
+        return calendars.keySet();
+    }
+
+    @Override
+    public String toString() {
+        return "SubdivisionCalendars{year=" + nationwide.getYear() + ", subdivisions=" + calendars.keySet() + '}';
+    }
+}
@@ -0,0 +1,103 @@
+package com.accenture.assessment.model;
+
+import java.time.Year;
+
+/**
+ * Cumulative count of one country's working days over a year: days that are neither a weekend day
+ * nor a public holiday.
+ * <p>
+ * Entry {@code d} of the table is the number of working days among the first {@code d} days of the year,
+ * so the working days between two dates are a subtraction and the n-th working day is a binary search.
+ * Instances are immutable.
+ */
+public final class WorkingDayTable {
+
+    private final int year;
+    private final short[] workingDaysThrough;
+
+    private WorkingDayTable(int year, short[] workingDaysThrough) {
+        this.year = year;
+        this.workingDaysThrough = workingDaysThrough;
+    }
+
+    /**
+     * Builds the table of a year.
+     *
+     * @param year the calendar year
+     * @param holidayDays a {@link HolidayCalendar#WORDS}-long bitset of the holiday days
+     * @param weekendDays a {@link HolidayCalendar#WORDS}-long bitset of the weekend days,
+     *                    e.g. from {@link HolidayCalendar#daysOfWeekMask(int, java.util.Set)}
+     * @return the table
+     */
+    public static WorkingDayTable of(int year, long[] holidayDays, long[] weekendDays) {
+        int length = Year.of(year).length();
+        short[] workingDaysThrough = new short[length + 1];
+        int count = 0;
+        for (int day = 0; day < length; day++) {
+            long bit = 1L << day;
+            if (((holidayDays[day >>> 6] | weekendDays[day >>> 6]) & bit) == 0) {
+                count++;
+            }
+            workingDaysThrough[day + 1] = (short) count;
+        }
+        return new WorkingDayTable(year, workingDaysThrough);
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    /**
+     * @return the number of working days in the year
+     */
+    public int getWorkingDayCount() {
+        return workingDaysThrough[workingDaysThrough.length - 1];
+    }
+
+    /**
+     * @param dayOfYear day of the year, starting at 1; one past the last day gives every working day
+     * @return the number of working days strictly before that day
+     */
+    public int countWorkingDaysBefore(int dayOfYear) {
+        return workingDaysThrough[dayOfYear - 1];
+    }
+
+    /**
+     * @param dayOfYear day of the year, starting at 1
+     * @return true if the day is neither a weekend day nor a holiday
+     */
+    public boolean isWorkingDay(int dayOfYear) {
+        return workingDaysThrough[dayOfYear] != workingDaysThrough[dayOfYear - 1];
+    }
+
+    /**
+     * Finds a working day by its rank, in logarithmic time.
+     *
+     * @param n the rank of the working day, from 1 to {@link #getWorkingDayCount()}
+     * @return the day of the year of the n-th working day
+     * @throws IllegalArgumentException if the year has fewer than {@code n} working days or {@code n} is not positive
+     */
+    public int nthWorkingDay(int n) {
+        if (n < 1 || n > getWorkingDayCount()) {
+            throw new IllegalArgumentException(
+                "Working day " + n + " outside 1-" + getWorkingDayCount() + " in " + year);
+        }
+        // The first day whose running count reaches n is the n-th working day
+        int low = 1;
+        int high = workingDaysThrough.length - 1;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (workingDaysThrough[middle] < n) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public String toString() {
+        return "WorkingDayTable{year=" + year + ", workingDays=" + getWorkingDayCount() + '}';
+    }
+}
@@ -0,0 +1,156 @@
+package com.accenture.assessment.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Preloads a holiday provider, typically the in-memory cache, with every (country, year) pair of a range.
+ * <p>
+ * Fetches run through the provider's async path with at most {@code maxConcurrency} in flight, at
+ * {@link RequestPriority#BACKGROUND} priority so they yield to interactive queries upstream.
+ * Progress is logged as pairs complete. When the time budget runs out no further fetches are
+ * started and the warm-up returns, leaving fetches already in flight to complete into the cache.
+ * Returning on the budget is what lets startup proceed partially warmed.
+ */
+public class CacheWarmer {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheWarmer.class);
+
+    private final HolidayProvider holidayProvider;
+
+    public CacheWarmer(HolidayProvider holidayProvider) {
+        this.holidayProvider = holidayProvider;
+    }
+
+    /**
+     * Outcome of a warm-up.
+     *
+     * @param requested the number of (country, year) pairs planned
+     * @param loaded the number of pairs fetched successfully
+     * @param failed the number of pairs whose fetch failed
+     * @param elapsed how long the warm-up ran
+     * @param completed false if the time budget ran out before every pair finished
+     */
+    public record Result(int requested, int loaded, int failed, Duration elapsed, boolean completed) {
+    }
+
+    /**
+     * Fetches every country for every year of the inclusive range.
+     *
+     * @param countryCodes the countries to load; duplicates are loaded once
+     * @param fromYear the first year
+     * @param toYear the last year
+     * @param maxConcurrency the maximum number of fetches in flight
+     * @param timeBudget how long to wait before returning partially warmed; null waits for every fetch
+     * @return counts of loaded and failed pairs and the elapsed time
+     */
+    public Result warmUp(Collection<String> countryCodes, int fromYear, int toYear,
+                         int maxConcurrency, Duration timeBudget) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("Maximum concurrency must be positive: " + maxConcurrency);
+        }
+
+        Set<String> countries = new LinkedHashSet<>(countryCodes);
+        List<Pair> pairs = new ArrayList<>();
+        for (int year = fromYear; year <= toYear; year++) {
+            for (String countryCode : countries) {
+                pairs.add(new Pair(year, countryCode));
+            }
+        }
+
+        Progress progress = new Progress(pairs.size());
+        Semaphore permits = new Semaphore(maxConcurrency);
+        long start = System.nanoTime();
+        long deadline = timeBudget == null ? Long.MAX_VALUE : start + timeBudget.toNanos();
+        log.info("Warming holiday cache: {} countries, {}-{}, {} fetches with up to {} at once",
+            countries.size(), fromYear, toYear, pairs.size(), maxConcurrency);
+
+        boolean completed = false;
+        try {
+            int started = 0;
+            while (started < pairs.size() && permits.tryAcquire(remaining(deadline), TimeUnit.NANOSECONDS)) {
+                Pair pair = pairs.get(started++);
+                try {
+                    RequestPriority.BACKGROUND.call(
+                            () -> holidayProvider.getPublicHolidaysAsync(pair.year(), pair.countryCode()))
+                        .whenComplete((holidays, error) -> {
+                            permits.release();
+                            progress.finish(pair, error);
+                        });
+                } catch (RuntimeException e) {
+                    permits.release();
+                    progress.finish(pair, e);
+                }
+            }
+            completed = started == pairs.size()
+                && progress.done.await(remaining(deadline), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        Result result = new Result(pairs.size(), progress.loaded.get(), progress.failed.get(),
+            Duration.ofNanos(System.nanoTime() - start), completed);
+        if (completed) {
+            log.info("Holiday cache warm-up finished in {} ms: {} loaded, {} failed",
+                result.elapsed().toMillis(), result.loaded(), result.failed());
+        } else {
+            log.warn("Holiday cache warm-up stopped after {} ms with {} of {} pairs done ({} loaded, {} failed); "
+                    + "continuing partially warmed",
+                result.elapsed().toMillis(), result.loaded() + result.failed(), result.requested(),
+                result.loaded(), result.failed());
+        }
+        return result;
+    }
+
+    private static long remaining(long deadline) {
+        return deadline == Long.MAX_VALUE ? Long.MAX_VALUE : Math.max(0, deadline - System.nanoTime());
+    }
+
+    private record Pair(int year, String countryCode) {
+    }
+
+    /**
+     * Completion counts of one warm-up, updated from the fetch callbacks.
+     */
+    private static final class Progress {
+
+        private final int total;
+        private final AtomicInteger loaded = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final CountDownLatch done;
+        private final int logStep;
+
+        Progress(int total) {
+            this.total = total;
+            this.done = new CountDownLatch(total);
+            this.logStep = Math.max(1, total / 10);
+        }
+
+        void finish(Pair pair, Throwable error) {
+            if (error != null) {
+                failed.incrementAndGet();
+                log.debug("Warm-up fetch failed for {} {}: {}",
+                    pair.countryCode(), pair.year(), Futures.unwrap(error).getMessage());
+            } else {
+                loaded.incrementAndGet();
+            }
+
+            done.countDown();
+            long finished = total - done.getCount();
+            if (finished % logStep == 0 && finished < total) {
+                log.info("Holiday cache warm-up: {}/{} done, {} failed", finished, total, failed.get());
+            }
+        }
+    }
+}
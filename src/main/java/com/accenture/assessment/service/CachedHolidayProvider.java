@@ -1,61 +1,670 @@
 package com.accenture.assessment.service;
 
+import com.accenture.assessment.model.HolidayCalendar;
 import com.accenture.assessment.model.PublicHoliday;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
 
-import java.util.LinkedHashMap;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Holiday Provider that adds Caching layer to another provider.
  * <p>
  * Thread-safe implementation with LRU (Least Recently Used) eviction policy
- * when the cache reaches its maximum size.
+ * when the cache reaches its maximum size. The size is either a number of entries or, with
+ * {@link Builder#maxCacheBytes(long)}, a memory budget: each entry is weighed by its estimated
+ * retained size and the least recently used are evicted until the total fits the budget.
+ * <p>
+ * Cache hits are lock-free and allocate nothing: entries are keyed by a {@code long} packing the year
+ * with an index interned per country code, in a {@link LongKeyedTable}. Recency is tracked with an access
+ * epoch that only inserts advance, so hits on different entries never write shared state; LRU order is
+ * kept at the granularity of inserts. Misses are loaded with per-key
+ * single-flight semantics: concurrent misses for the same key share one call to the underlying provider,
+ * while misses for different keys load in parallel.
+ * <p>
+ * Each entry holds the {@link HolidayCalendar} of its holidays, built once when the data enters the cache,
+ * and nothing else: the holiday list served is the calendar's view, so holidays without a date or dated
+ * in another year are dropped and the others are served sorted by date.
+ * <p>
+ * Entries can be given a time to live with {@link Builder#expireAfterWrite(Duration)}. Expired entries
+ * are still served immediately while a single background refresh replaces them (stale-while-revalidate),
+ * so keeping data fresh never puts an upstream call on the caller's path. When a refresh fails the entry
+ * is dropped, unless {@link Builder#serveStaleOnError(boolean)} is set, in which case it keeps being
+ * served and the refresh is retried after {@link Builder#refreshRetryInterval(Duration)}.
+ * <p>
+ * Lookups the underlying provider rejects as unknown ({@link HolidayProviderException#isUnknownKey()}),
+ * such as an unknown country code, can be remembered for {@link Builder#negativeCacheTtl(Duration)}: until then
+ * the same failure is thrown again without an upstream call. Negative entries are held apart from the cache,
+ * so bad input cannot evict holidays.
+ * <p>
+ * Hits, misses, evictions and size are published as the standard Micrometer cache meters
+ * ({@code cache.gets}, {@code cache.evictions}, {@code cache.size}) once bound to a registry,
+ * together with {@code holiday.cache.refreshes} for background refreshes and
+ * {@code holiday.cache.negative.hits} for failures answered from the negative cache.
  */
-public class CachedHolidayProvider implements HolidayProvider {
+public class CachedHolidayProvider implements HolidayProvider, MeterBinder {
 
     private static final int DEFAULT_MAX_CACHE_SIZE = 100;
+    private static final Duration DEFAULT_REFRESH_RETRY_INTERVAL = Duration.ofSeconds(30);
+    private static final String CACHE_NAME = "holidays";
+    private static final int MAX_NEGATIVE_ENTRIES = 1024;
 
     private final HolidayProvider underlyingProvider;
-    private final Map<String, List<PublicHoliday>> cache;
+    private final LongKeyedTable<CacheEntry> cache;
+    private final LongKeyedTable<NegativeEntry> negativeCache;
+    private final ConcurrentMap<Long, CompletableFuture<CacheEntry>> inFlightLoads;
+    private final ConcurrentMap<String, Integer> countryIndexes;
+    private final AtomicInteger nextCountryIndex;
+    /**
+     * Access epoch for LRU ordering, advanced by inserts only.
+     */
+    private final AtomicLong accessClock;
+    private final Object evictionLock;
     private final int maxCacheSize;
+    private final long maxCacheBytes;
+    private final AtomicLong totalWeight;
+    private final long expireAfterWriteMillis;
+    private final long negativeCacheTtlMillis;
+    private final boolean serveStaleOnError;
+    private final long refreshRetryIntervalMillis;
+    private final Executor refreshExecutor;
+    private final Clock clock;
+    private final LongAdder hitCount;
+    private final LongAdder missCount;
+    private final LongAdder evictionCount;
+    private final LongAdder refreshSuccessCount;
+    private final LongAdder refreshFailureCount;
+    private final LongAdder negativeHitCount;
 
     public CachedHolidayProvider(HolidayProvider underlyingProvider) {
         this(underlyingProvider, DEFAULT_MAX_CACHE_SIZE);
     }
 
     public CachedHolidayProvider(HolidayProvider underlyingProvider, int maxCacheSize) {
-        this.underlyingProvider = underlyingProvider;
-        this.maxCacheSize = maxCacheSize;
-        this.cache = createLruCache(maxCacheSize);
+        this(builder(underlyingProvider).maxCacheSize(maxCacheSize));
+    }
+
+    private CachedHolidayProvider(Builder builder) {
+        this.underlyingProvider = builder.underlyingProvider;
+        this.maxCacheBytes = builder.maxCacheBytes;
+        this.maxCacheSize = maxCacheBytes > 0 ? Integer.MAX_VALUE : builder.maxCacheSize;
+        this.totalWeight = new AtomicLong();
+        this.expireAfterWriteMillis = builder.expireAfterWrite == null ? -1 : builder.expireAfterWrite.toMillis();
+        this.negativeCacheTtlMillis = builder.negativeCacheTtl == null ? -1 : builder.negativeCacheTtl.toMillis();
+        this.serveStaleOnError = builder.serveStaleOnError;
+        this.refreshRetryIntervalMillis = builder.refreshRetryInterval.toMillis();
+        this.refreshExecutor = builder.refreshExecutor;
+        this.clock = builder.clock;
+        this.cache = new LongKeyedTable<>();
+        this.negativeCache = new LongKeyedTable<>();
+        this.inFlightLoads = new ConcurrentHashMap<>();
+        this.countryIndexes = new ConcurrentHashMap<>();
+        this.nextCountryIndex = new AtomicInteger();
+        this.accessClock = new AtomicLong();
+        this.evictionLock = new Object();
+        this.hitCount = new LongAdder();
+        this.missCount = new LongAdder();
+        this.evictionCount = new LongAdder();
+        this.refreshSuccessCount = new LongAdder();
+        this.refreshFailureCount = new LongAdder();
+        this.negativeHitCount = new LongAdder();
+    }
+
+    /**
+     * @param underlyingProvider the provider whose results are cached
+     * @return a builder for a cache over the given provider
+     */
+    public static Builder builder(HolidayProvider underlyingProvider) {
+        return new Builder(underlyingProvider);
     }
 
     @Override
     public List<PublicHoliday> getPublicHolidays(int year, String countryCode) {
-        String cacheKey = buildCacheKey(year, countryCode);
+        CacheEntry entry = getEntry(year, countryCode);
+        return entry == null ? null : entry.calendar.getHolidays();
+    }
+
+    @Override
+    public CompletableFuture<List<PublicHoliday>> getPublicHolidaysAsync(int year, String countryCode) {
+        return getEntryAsync(year, countryCode).thenApply(entry -> entry == null ? null : entry.calendar.getHolidays());
+    }
+
+    @Override
+    public HolidayCalendar getHolidayCalendar(int year, String countryCode) {
+        CacheEntry entry = getEntry(year, countryCode);
+        return entry == null ? null : entry.calendar;
+    }
+
+    @Override
+    public CompletableFuture<HolidayCalendar> getHolidayCalendarAsync(int year, String countryCode) {
+        return getEntryAsync(year, countryCode).thenApply(entry -> entry == null ? null : entry.calendar);
+    }
+
+    private CacheEntry getEntry(int year, String countryCode) {
+        CacheEntry cachedEntry = lookup(year, countryCode);
+        if (cachedEntry != null) {
+            return cachedEntry;
+        }
+
+        long cacheKey = buildCacheKey(year, countryCode);
+        HolidayProviderException knownFailure = knownFailure(cacheKey);
+        if (knownFailure != null) {
+            throw knownFailure;
+        }
+        missCount.increment();
+        return load(cacheKey, year, countryCode);
+    }
+
+    private CompletableFuture<CacheEntry> getEntryAsync(int year, String countryCode) {
+        CacheEntry cachedEntry = lookup(year, countryCode);
+        if (cachedEntry != null) {
+            return CompletableFuture.completedFuture(cachedEntry);
+        }
+
+        long cacheKey = buildCacheKey(year, countryCode);
+        HolidayProviderException knownFailure = knownFailure(cacheKey);
+        if (knownFailure != null) {
+            return CompletableFuture.failedFuture(knownFailure);
+        }
+        missCount.increment();
+        return loadAsync(cacheKey, year, countryCode);
+    }
+
+    /**
+     * Hit path: returns the cached entry, recording the access, or null on a miss.
+     * A country code that was never interned cannot have an entry, so it misses without interning.
+     *
+     * @throws IllegalArgumentException if the country code is null
+     */
+    private CacheEntry lookup(int year, String countryCode) {
+        if (countryCode == null) {
+            throw new IllegalArgumentException("Country code must not be null");
+        }
+        Integer countryIndex = countryIndexes.get(countryCode);
+        if (countryIndex == null) {
+            return null;
+        }
+        long cacheKey = packKey(year, countryIndex);
+        CacheEntry cachedEntry = cache.get(cacheKey);
+        if (cachedEntry != null) {
+            recordAccess(cachedEntry);
+            refreshIfExpired(cacheKey, year, countryCode, cachedEntry);
+        }
+        return cachedEntry;
+    }
+
+    /**
+     * Loads a missing entry. The first thread to claim the key performs the upstream call,
+     * every other thread missing on the same key waits for that call's outcome.
+     */
+    private CacheEntry load(long cacheKey, int year, String countryCode) {
+        CompletableFuture<CacheEntry> loading = new CompletableFuture<>();
+        CompletableFuture<CacheEntry> existing = inFlightLoads.putIfAbsent(cacheKey, loading);
+        if (existing != null) {
+            return Futures.join(existing);
+        }
+
+        try {
+            // Another loader may have published the entry between our miss and claiming the key
+            CacheEntry entry = cache.get(cacheKey);
+            if (entry == null) {
+                entry = store(cacheKey, year, underlyingProvider.getPublicHolidays(year, countryCode));
+            }
+            loading.complete(entry);
+            return entry;
+        } catch (RuntimeException | Error e) {
+            rememberFailure(cacheKey, e);
+            loading.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightLoads.remove(cacheKey, loading);
+        }
+    }
+
+    /**
+     * Asynchronous counterpart of {@link #load}: shares the in-flight map with synchronous misses,
+     * so a key is only ever fetched once however its callers arrive.
+     */
+    private CompletableFuture<CacheEntry> loadAsync(long cacheKey, int year, String countryCode) {
+        CompletableFuture<CacheEntry> loading = new CompletableFuture<>();
+        CompletableFuture<CacheEntry> existing = inFlightLoads.putIfAbsent(cacheKey, loading);
+        if (existing != null) {
+            return existing.copy();
+        }
+
+        CacheEntry cachedEntry = cache.get(cacheKey);
+        if (cachedEntry != null) {
+            loading.complete(cachedEntry);
+            inFlightLoads.remove(cacheKey, loading);
+            return loading.copy();
+        }
 
-        synchronized (cache) {
-            List<PublicHoliday> cachedResult = cache.get(cacheKey);
-            if (cachedResult != null) {
-                return cachedResult;
+        CompletableFuture<List<PublicHoliday>> upstream;
+        try {
+            upstream = underlyingProvider.getPublicHolidaysAsync(year, countryCode);
+        } catch (RuntimeException e) {
+            upstream = CompletableFuture.failedFuture(e);
+        }
+
+        upstream.whenComplete((result, error) -> {
+            CacheEntry entry = null;
+            if (error == null) {
+                try {
+                    entry = store(cacheKey, year, result);
+                } catch (RuntimeException e) {
+                    error = e;
+                }
+            }
+            if (error != null) {
+                error = Futures.unwrap(error);
+                rememberFailure(cacheKey, error);
             }
+            inFlightLoads.remove(cacheKey, loading);
+            if (error != null) {
+                loading.completeExceptionally(error);
+            } else {
+                loading.complete(entry);
+            }
+        });
+        return loading.copy();
+    }
 
-            List<PublicHoliday> result = underlyingProvider.getPublicHolidays(year, countryCode);
-            cache.put(cacheKey, result);
-            return result;
+    /**
+     * @return a fresh copy of the failure remembered for the key, or null if there is none or it has expired
+     */
+    private HolidayProviderException knownFailure(long cacheKey) {
+        if (negativeCacheTtlMillis < 0) {
+            return null;
         }
+        NegativeEntry negativeEntry = negativeCache.get(cacheKey);
+        if (negativeEntry == null) {
+            return null;
+        }
+        if (clock.millis() >= negativeEntry.expiresAt) {
+            negativeCache.remove(cacheKey, negativeEntry);
+            return null;
+        }
+        negativeHitCount.increment();
+        return new HolidayProviderException(negativeEntry.message, negativeEntry.statusCode);
     }
 
-    private String buildCacheKey(int year, String countryCode) {
-        return year + ":" + countryCode;
+    /**
+     * Remembers an unknown key for the negative cache TTL. Other failures, such as timeouts, rate limiting or
+     * server errors, may succeed on the next attempt and are not remembered.
+     */
+    private void rememberFailure(long cacheKey, Throwable error) {
+        if (negativeCacheTtlMillis < 0
+                || !(error instanceof HolidayProviderException providerError) || !providerError.isUnknownKey()) {
+            return;
+        }
+        negativeCache.put(cacheKey, new NegativeEntry(providerError.getMessage(), providerError.getStatusCode(),
+            clock.millis() + negativeCacheTtlMillis));
+        if (negativeCache.size() > MAX_NEGATIVE_ENTRIES) {
+            evictEarliestExpiringFailure();
+        }
     }
 
-    private Map<String, List<PublicHoliday>> createLruCache(int maxSize) {
-        return new LinkedHashMap<>(16, 0.75f, true) {
-            @Override
-            protected boolean removeEldestEntry(Map.Entry<String, List<PublicHoliday>> eldest) {
-                return size() > maxSize;
+    private void evictEarliestExpiringFailure() {
+        synchronized (evictionLock) {
+            EarliestExpiringFailure earliest = new EarliestExpiringFailure();
+            while (negativeCache.size() > MAX_NEGATIVE_ENTRIES) {
+                earliest.entry = null;
+                negativeCache.forEach(earliest);
+                if (earliest.entry == null) {
+                    return;
+                }
+                negativeCache.remove(earliest.key, earliest.entry);
             }
-        };
+        }
+    }
+
+    /**
+     * Starts a background refresh of an expired entry, unless one is already running or a failed
+     * refresh is still backing off. The caller keeps the stale entry it already has.
+     */
+    private void refreshIfExpired(long cacheKey, int year, String countryCode, CacheEntry entry) {
+        if (expireAfterWriteMillis < 0) {
+            return;
+        }
+        long now = clock.millis();
+        if (now - entry.loadedAt < expireAfterWriteMillis
+                || now - entry.lastRefreshFailure < refreshRetryIntervalMillis
+                || !entry.refreshing.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            refreshExecutor.execute(() -> refresh(cacheKey, year, countryCode, entry));
+        } catch (RuntimeException e) {
+            // Refresh executor saturated or shut down: keep serving the entry and retry on a later hit
+            entry.refreshing.set(false);
+        }
+    }
+
+    private void refresh(long cacheKey, int year, String countryCode, CacheEntry staleEntry) {
+        CompletableFuture<List<PublicHoliday>> upstream;
+        try {
+            // Nobody waits on a refresh, so it yields to interactive fetches upstream
+            upstream = RequestPriority.BACKGROUND.call(() -> underlyingProvider.getPublicHolidaysAsync(year, countryCode));
+        } catch (RuntimeException e) {
+            upstream = CompletableFuture.failedFuture(e);
+        }
+
+        upstream.whenComplete((result, error) -> {
+            if (error == null && result != null) {
+                refreshSuccessCount.increment();
+                CacheEntry refreshed = newEntry(year, result);
+                refreshed.lastAccess = staleEntry.lastAccess;
+                // An entry evicted while refreshing stays evicted
+                if (cache.replace(cacheKey, staleEntry, refreshed)) {
+                    totalWeight.addAndGet(refreshed.weight - staleEntry.weight);
+                    evictIfOverCapacity();
+                }
+                return;
+            }
+
+            refreshFailureCount.increment();
+            if (error != null && serveStaleOnError) {
+                staleEntry.lastRefreshFailure = clock.millis();
+                staleEntry.refreshing.set(false);
+            } else if (cache.remove(cacheKey, staleEntry)) {
+                totalWeight.addAndGet(-staleEntry.weight);
+            }
+        });
+    }
+
+    /**
+     * Caches the holidays and builds their calendar. Null results are returned as a null entry and not cached,
+     * as are entries weighing more than the whole memory budget.
+     */
+    private CacheEntry store(long cacheKey, int year, List<PublicHoliday> holidays) {
+        if (holidays == null) {
+            return null;
+        }
+
+        CacheEntry entry = newEntry(year, holidays);
+        if (maxCacheBytes > 0 && entry.weight > maxCacheBytes) {
+            return entry;
+        }
+        CacheEntry previous = cache.put(cacheKey, entry);
+        totalWeight.addAndGet(previous == null ? entry.weight : entry.weight - previous.weight);
+        evictIfOverCapacity();
+        return entry;
+    }
+
+    private CacheEntry newEntry(int year, List<PublicHoliday> holidays) {
+        HolidayCalendar calendar = HolidayCalendar.of(year, holidays);
+        long weight = maxCacheBytes > 0 ? HolidayWeigher.weigh(calendar) : 0;
+        // The insert takes one stamp and opens a new epoch above it, so later hits rank above this entry
+        long stamp = accessClock.addAndGet(2) - 1;
+        return new CacheEntry(calendar, weight, stamp, clock.millis());
+    }
+
+    private boolean isOverCapacity() {
+        return cache.size() > maxCacheSize || (maxCacheBytes > 0 && totalWeight.get() > maxCacheBytes);
+    }
+
+    private void evictIfOverCapacity() {
+        if (isOverCapacity()) {
+            evictLeastRecentlyUsed();
+        }
+    }
+
+    /**
+     * Evicts entries with the oldest access stamp until the cache is back within its limit.
+     * Only runs after a miss has been loaded, so the linear scan never sits on the hit path.
+     */
+    private void evictLeastRecentlyUsed() {
+        synchronized (evictionLock) {
+            EldestEntry eldest = new EldestEntry();
+            while (isOverCapacity()) {
+                eldest.entry = null;
+                cache.forEach(eldest);
+                if (eldest.entry == null) {
+                    return;
+                }
+                if (cache.remove(eldest.key, eldest.entry)) {
+                    totalWeight.addAndGet(-eldest.entry.weight);
+                    evictionCount.increment();
+                }
+            }
+        }
+    }
+
+    /**
+     * Stamps the entry with the current access epoch. Only inserts advance the clock, so hits read the shared
+     * clock but never write it, and write the entry only on its first hit of an epoch. Entries used since the
+     * same insert rank equally; eviction still prefers any entry untouched since an earlier insert.
+     */
+    private void recordAccess(CacheEntry entry) {
+        hitCount.increment();
+        long epoch = accessClock.get();
+        if (entry.lastAccess != epoch) {
+            entry.lastAccess = epoch;
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cache.gets", hitCount, LongAdder::sum)
+            .tags("cache", CACHE_NAME, "result", "hit")
+            .description("The number of times cache lookup methods have returned a cached value.")
+            .register(registry);
+        FunctionCounter.builder("cache.gets", missCount, LongAdder::sum)
+            .tags("cache", CACHE_NAME, "result", "miss")
+            .description("The number of times cache lookup methods have not returned a cached value.")
+            .register(registry);
+        FunctionCounter.builder("cache.evictions", evictionCount, LongAdder::sum)
+            .tags("cache", CACHE_NAME)
+            .description("The number of times the cache was evicted.")
+            .register(registry);
+        Gauge.builder("cache.size", cache, LongKeyedTable::size)
+            .tags("cache", CACHE_NAME)
+            .description("The number of entries in this cache.")
+            .register(registry);
+        if (maxCacheBytes > 0) {
+            Gauge.builder("holiday.cache.weight", totalWeight, AtomicLong::get)
+                .tags("cache", CACHE_NAME)
+                .description("The estimated heap retained by the cached entries.")
+                .baseUnit(BaseUnits.BYTES)
+                .register(registry);
+        }
+        FunctionCounter.builder("holiday.cache.refreshes", refreshSuccessCount, LongAdder::sum)
+            .tags("cache", CACHE_NAME, "result", "success")
+            .description("The number of expired entries refreshed in the background.")
+            .register(registry);
+        FunctionCounter.builder("holiday.cache.refreshes", refreshFailureCount, LongAdder::sum)
+            .tags("cache", CACHE_NAME, "result", "failure")
+            .description("The number of background refreshes that failed or returned no data.")
+            .register(registry);
+        FunctionCounter.builder("holiday.cache.negative.hits", negativeHitCount, LongAdder::sum)
+            .tags("cache", CACHE_NAME)
+            .description("The number of lookups failed from the negative cache without an upstream call.")
+            .register(registry);
+    }
+
+    /**
+     * Packs the year with the country code's interned index, interning codes seen for the first time.
+     * Only called on misses; indexes are never reclaimed, so the interned set grows with the distinct codes queried.
+     */
+    private long buildCacheKey(int year, String countryCode) {
+        int countryIndex = countryIndexes.computeIfAbsent(countryCode, code -> nextCountryIndex.getAndIncrement());
+        return packKey(year, countryIndex);
+    }
+
+    private static long packKey(int year, int countryIndex) {
+        return ((long) countryIndex << 32) | (year & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Builder for a {@link CachedHolidayProvider} with expiry and refresh settings.
+     */
+    public static final class Builder {
+
+        private final HolidayProvider underlyingProvider;
+        private int maxCacheSize = DEFAULT_MAX_CACHE_SIZE;
+        private long maxCacheBytes;
+        private Duration expireAfterWrite;
+        private Duration negativeCacheTtl;
+        private boolean serveStaleOnError;
+        private Duration refreshRetryInterval = DEFAULT_REFRESH_RETRY_INTERVAL;
+        private Executor refreshExecutor = ForkJoinPool.commonPool();
+        private Clock clock = Clock.systemUTC();
+
+        private Builder(HolidayProvider underlyingProvider) {
+            this.underlyingProvider = underlyingProvider;
+        }
+
+        /**
+         * @param maxCacheSize the maximum number of entries before the least recently used is evicted
+         */
+        public Builder maxCacheSize(int maxCacheSize) {
+            this.maxCacheSize = maxCacheSize;
+            return this;
+        }
+
+        /**
+         * Bounds the cache by memory instead of entry count: entries are weighed by their estimated
+         * retained size, and the maximum entry count no longer applies.
+         *
+         * @param maxCacheBytes the memory budget in bytes; zero or less bounds by entry count
+         */
+        public Builder maxCacheBytes(long maxCacheBytes) {
+            this.maxCacheBytes = maxCacheBytes;
+            return this;
+        }
+
+        /**
+         * @param expireAfterWrite how long after loading an entry is refreshed in the background; null never expires
+         */
+        public Builder expireAfterWrite(Duration expireAfterWrite) {
+            this.expireAfterWrite = expireAfterWrite;
+            return this;
+        }
+
+        /**
+         * @param negativeCacheTtl how long a client error from the underlying provider is remembered and thrown
+         *                         again without an upstream call; null remembers nothing
+         */
+        public Builder negativeCacheTtl(Duration negativeCacheTtl) {
+            this.negativeCacheTtl = negativeCacheTtl;
+            return this;
+        }
+
+        /**
+         * @param serveStaleOnError whether an expired entry keeps being served when its refresh fails
+         */
+        public Builder serveStaleOnError(boolean serveStaleOnError) {
+            this.serveStaleOnError = serveStaleOnError;
+            return this;
+        }
+
+        /**
+         * @param refreshRetryInterval how long to wait before retrying a failed refresh of a stale entry
+         */
+        public Builder refreshRetryInterval(Duration refreshRetryInterval) {
+            this.refreshRetryInterval = refreshRetryInterval;
+            return this;
+        }
+
+        /**
+         * @param refreshExecutor the executor background refreshes are started on
+         */
+        public Builder refreshExecutor(Executor refreshExecutor) {
+            this.refreshExecutor = refreshExecutor;
+            return this;
+        }
+
+        /**
+         * @param clock the clock entry ages are measured with
+         */
+        public Builder clock(Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        public CachedHolidayProvider build() {
+            return new CachedHolidayProvider(this);
+        }
+    }
+
+    /**
+     * Tracks the least recently used entry while visiting the cache.
+     */
+    private static final class EldestEntry implements LongKeyedTable.EntryVisitor<CacheEntry> {
+
+        private long key;
+        private CacheEntry entry;
+
+        @Override
+        public void visit(long key, CacheEntry candidate) {
+            if (entry == null || candidate.lastAccess < entry.lastAccess) {
+                this.key = key;
+                this.entry = candidate;
+            }
+        }
+    }
+
+    /**
+     * Tracks the negative entry closest to expiry while visiting the negative cache.
+     */
+    private static final class EarliestExpiringFailure implements LongKeyedTable.EntryVisitor<NegativeEntry> {
+
+        private long key;
+        private NegativeEntry entry;
+
+        @Override
+        public void visit(long key, NegativeEntry candidate) {
+            if (entry == null || candidate.expiresAt < entry.expiresAt) {
+                this.key = key;
+                this.entry = candidate;
+            }
+        }
+    }
+
+    private static final class NegativeEntry {
+
+        private final String message;
+        private final int statusCode;
+        private final long expiresAt;
+
+        private NegativeEntry(String message, int statusCode, long expiresAt) {
+            this.message = message;
+            this.statusCode = statusCode;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private static final class CacheEntry {
+
+        private final HolidayCalendar calendar;
+        private final long weight;
+        private final long loadedAt;
+        private final AtomicBoolean refreshing;
+        private volatile long lastAccess;
+        private volatile long lastRefreshFailure;
+
+        private CacheEntry(HolidayCalendar calendar, long weight, long lastAccess, long loadedAt) {
+            this.calendar = calendar;
+            this.weight = weight;
+            this.loadedAt = loadedAt;
+            this.refreshing = new AtomicBoolean();
+            this.lastAccess = lastAccess;
+            this.lastRefreshFailure = Long.MIN_VALUE / 2;
+        }
     }
 }
@@ -0,0 +1,73 @@
+package com.accenture.assessment.service;
+
+import com.accenture.assessment.model.HolidayCalendar;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiFunction;
+
+/**
+ * Bounded memo of values derived from holiday calendars, such as their working-day tables.
+ * <p>
+ * A caching provider weighs each calendar when it stores it, so structures built from the calendar later
+ * are kept here rather than on the calendar, where they would escape that memory budget. The memo is
+ * direct-mapped: each (calendar, argument) pair, both compared by identity, hashes to one of a fixed number
+ * of slots, and a pair landing on an occupied slot replaces the value there. Reads and writes are lock-free;
+ * racing threads may build the same value twice, and the last write wins harmlessly. Calendars are referenced
+ * weakly, so a calendar evicted from the cache is not kept alive by the values derived from it.
+ *
+ * @param <A> what the value is built from besides the calendar, compared by identity
+ * @param <V> the derived value type; values must not reference their calendar
+ */
+final class CalendarMemo<A, V> {
+
+    private final AtomicReferenceArray<Slot<A, V>> slots;
+    private final BiFunction<HolidayCalendar, A, V> builder;
+
+    /**
+     * @param capacity the number of values kept, rounded up to a power of two
+     * @param builder builds the value of a calendar and argument
+     */
+    CalendarMemo(int capacity, BiFunction<HolidayCalendar, A, V> builder) {
+        this.slots = new AtomicReferenceArray<>(capacity <= 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1);
+        this.builder = builder;
+    }
+
+    /**
+     * @return the value built from the calendar and argument, building it if it is not kept
+     */
+    V get(HolidayCalendar calendar, A argument) {
+        int index = spread(System.identityHashCode(calendar) * 31 + System.identityHashCode(argument))
+            & (slots.length() - 1);
+        Slot<A, V> slot = slots.get(index);
+        if (slot != null && slot.argument == argument && slot.get() == calendar) {
+            return slot.value;
+        }
+        V value = builder.apply(calendar, argument);
+        slots.set(index, new Slot<>(calendar, argument, value));
+        return value;
+    }
+
+    /**
+     * @return the maximum number of values kept
+     */
+    int capacity() {
+        return slots.length();
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static final class Slot<A, V> extends WeakReference<HolidayCalendar> {
+
+        private final A argument;
+        private final V value;
+
+        private Slot(HolidayCalendar calendar, A argument, V value) {
+            super(calendar);
+            this.argument = argument;
+            this.value = value;
+        }
+    }
+}
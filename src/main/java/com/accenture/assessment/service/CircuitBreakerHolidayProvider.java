@@ -0,0 +1,165 @@
+package com.accenture.assessment.service;
+
+import com.accenture.assessment.model.PublicHoliday;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Holiday Provider that fails fast while another provider is failing.
+ * <p>
+ * The circuit starts {@link State#CLOSED}, passing every request through. After
+ * {@code failureThreshold} consecutive failures it opens: requests are rejected immediately with a
+ * {@link HolidayProviderException} instead of waiting on the upstream. Once {@code openDuration}
+ * has passed the circuit is {@link State#HALF_OPEN} and lets a single probe through; the probe
+ * closes the circuit if it succeeds and reopens it if it fails.
+ * <p>
+ * Unknown keys ({@link HolidayProviderException#isUnknownKey()}), such as an unknown country code,
+ * show the upstream is answering and count as successes. Timeouts and rate limiting (408, 429) count as
+ * failures, like server errors.
+ * <p>
+ * The state and the number of rejected requests are published as {@code holiday.upstream.circuit.state}
+ * and {@code holiday.upstream.circuit.rejections} once bound to a registry.
+ */
+public class CircuitBreakerHolidayProvider implements HolidayProvider, MeterBinder {
+
+    /**
+     * States of the circuit; the ordinal is the value of the state gauge.
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final HolidayProvider underlyingProvider;
+    private final int failureThreshold;
+    private final long openDurationMillis;
+    private final Clock clock;
+    private final AtomicReference<State> state;
+    private final AtomicInteger consecutiveFailures;
+    private final LongAdder rejectionCount;
+    private volatile long openedAt;
+
+    public CircuitBreakerHolidayProvider(HolidayProvider underlyingProvider, int failureThreshold, Duration openDuration) {
+        this(underlyingProvider, failureThreshold, openDuration, Clock.systemUTC());
+    }
+
+    public CircuitBreakerHolidayProvider(HolidayProvider underlyingProvider, int failureThreshold,
+                                         Duration openDuration, Clock clock) {
+        if (failureThreshold < 1) {
+            throw new IllegalArgumentException("failureThreshold must be at least 1, got " + failureThreshold);
+        }
+        this.underlyingProvider = underlyingProvider;
+        this.failureThreshold = failureThreshold;
+        this.openDurationMillis = openDuration.toMillis();
+        this.clock = clock;
+        this.state = new AtomicReference<>(State.CLOSED);
+        this.consecutiveFailures = new AtomicInteger();
+        this.rejectionCount = new LongAdder();
+    }
+
+    @Override
+    public List<PublicHoliday> getPublicHolidays(int year, String countryCode) {
+        acquirePermission(year, countryCode);
+        List<PublicHoliday> holidays;
+        try {
+            holidays = underlyingProvider.getPublicHolidays(year, countryCode);
+        } catch (RuntimeException e) {
+            onFailure(e);
+            throw e;
+        }
+        onSuccess();
+        return holidays;
+    }
+
+    @Override
+    public CompletableFuture<List<PublicHoliday>> getPublicHolidaysAsync(int year, String countryCode) {
+        try {
+            acquirePermission(year, countryCode);
+        } catch (HolidayProviderException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        CompletableFuture<List<PublicHoliday>> upstream;
+        try {
+            upstream = underlyingProvider.getPublicHolidaysAsync(year, countryCode);
+        } catch (RuntimeException e) {
+            onFailure(e);
+            return CompletableFuture.failedFuture(e);
+        }
+        return upstream.whenComplete((holidays, error) -> {
+            if (error == null) {
+                onSuccess();
+            } else {
+                onFailure(Futures.unwrap(error));
+            }
+        });
+    }
+
+    /**
+     * @return the current state; an open circuit only turns half-open when a request arrives after the open duration
+     */
+    public State getState() {
+        return state.get();
+    }
+
+    /**
+     * Lets the request through, or rejects it while the circuit is open or a half-open probe is in flight.
+     */
+    private void acquirePermission(int year, String countryCode) {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return;
+        }
+        if (current == State.OPEN && clock.millis() - openedAt >= openDurationMillis
+                && state.compareAndSet(State.OPEN, State.HALF_OPEN)) {
+            // This request is the probe
+            return;
+        }
+        rejectionCount.increment();
+        throw new HolidayProviderException(String.format(
+            "Upstream circuit is %s, not requesting %s %d", current == State.OPEN ? "open" : "half-open probing",
+            countryCode, year), HolidayProviderException.NO_STATUS);
+    }
+
+    private void onSuccess() {
+        consecutiveFailures.set(0);
+        state.compareAndSet(State.HALF_OPEN, State.CLOSED);
+    }
+
+    private void onFailure(Throwable error) {
+        if (error instanceof HolidayProviderException providerError && providerError.isUnknownKey()) {
+            onSuccess();
+            return;
+        }
+        if (state.get() == State.HALF_OPEN) {
+            open(State.HALF_OPEN);
+        } else if (consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            open(State.CLOSED);
+        }
+    }
+
+    private void open(State from) {
+        // Stamp before publishing the state, so no request sees OPEN with an old timestamp
+        openedAt = clock.millis();
+        state.compareAndSet(from, State.OPEN);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("holiday.upstream.circuit.state", state, reference -> reference.get().ordinal())
+            .description("State of the upstream circuit breaker: 0 closed, 1 open, 2 half-open.")
+            .register(registry);
+        FunctionCounter.builder("holiday.upstream.circuit.rejections", rejectionCount, LongAdder::sum)
+            .description("The number of upstream requests rejected while the circuit was open.")
+            .register(registry);
+    }
+}
@@ -0,0 +1,132 @@
+package com.accenture.assessment.service;
+
+import com.accenture.assessment.model.PublicHoliday;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Holiday Provider that persists another provider's results in a local file.
+ * <p>
+ * Sits between the in-memory {@link CachedHolidayProvider} and the upstream provider: lookups read
+ * through to the file and misses are written back to it, so a restarted instance answers
+ * previously seen (country, year) pairs without any network calls.
+ * <p>
+ * With a maximum age, records older than that are fetched again from upstream so refreshes of the
+ * in-memory tier reach fresh data; if that fetch fails the old record is served instead.
+ */
+public class DiskCachedHolidayProvider implements HolidayProvider, Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(DiskCachedHolidayProvider.class);
+
+    private final HolidayProvider underlyingProvider;
+    private final HolidayRecordFile recordFile;
+    private final Duration maxAge;
+    private final int loadedEntryCount;
+    private final Duration loadDuration;
+
+    public DiskCachedHolidayProvider(HolidayProvider underlyingProvider, Path file) {
+        this(underlyingProvider, file, null);
+    }
+
+    /**
+     * @param underlyingProvider the provider to fetch missing or outdated records from
+     * @param file the record file, created if missing
+     * @param maxAge how long a record is served before it is fetched again; null serves records forever
+     */
+    public DiskCachedHolidayProvider(HolidayProvider underlyingProvider, Path file, Duration maxAge) {
+        this.underlyingProvider = underlyingProvider;
+        this.maxAge = maxAge;
+
+        long start = System.nanoTime();
+        this.recordFile = HolidayRecordFile.open(file, true);
+        this.loadDuration = Duration.ofNanos(System.nanoTime() - start);
+        this.loadedEntryCount = recordFile.size();
+
+        log.info("Loaded {} holiday cache entries from {} in {} ms",
+            loadedEntryCount, file, loadDuration.toMillis());
+    }
+
+    @Override
+    public List<PublicHoliday> getPublicHolidays(int year, String countryCode) {
+        List<PublicHoliday> stored = recordFile.read(year, countryCode);
+        if (stored != null && !isOutdated(year, countryCode)) {
+            return stored;
+        }
+
+        try {
+            return writeBack(year, countryCode, underlyingProvider.getPublicHolidays(year, countryCode));
+        } catch (RuntimeException e) {
+            if (stored != null) {
+                return stored;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public CompletableFuture<List<PublicHoliday>> getPublicHolidaysAsync(int year, String countryCode) {
+        List<PublicHoliday> stored;
+        try {
+            stored = recordFile.read(year, countryCode);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        if (stored != null && !isOutdated(year, countryCode)) {
+            return CompletableFuture.completedFuture(stored);
+        }
+
+        CompletableFuture<List<PublicHoliday>> fetched = underlyingProvider.getPublicHolidaysAsync(year, countryCode)
+            .thenApply(holidays -> writeBack(year, countryCode, holidays));
+        return stored == null ? fetched : fetched.exceptionally(error -> stored);
+    }
+
+    /**
+     * @return the number of entries found in the file when this tier was opened
+     */
+    public int getLoadedEntryCount() {
+        return loadedEntryCount;
+    }
+
+    /**
+     * @return how long opening and indexing the file took
+     */
+    public Duration getLoadDuration() {
+        return loadDuration;
+    }
+
+    /**
+     * @return the number of entries currently stored in the file
+     */
+    public int getEntryCount() {
+        return recordFile.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        recordFile.close();
+    }
+
+    private boolean isOutdated(int year, String countryCode) {
+        return maxAge != null && System.currentTimeMillis() - recordFile.storedAt(year, countryCode) > maxAge.toMillis();
+    }
+
+    private List<PublicHoliday> writeBack(int year, String countryCode, List<PublicHoliday> holidays) {
+        if (holidays != null) {
+            try {
+                recordFile.append(year, countryCode, holidays, System.currentTimeMillis());
+            } catch (UncheckedIOException e) {
+                // The disk tier is an optimisation; a failed write must not fail the lookup
+                log.warn("Unable to persist holidays for {} {}: {}", countryCode, year, e.getMessage());
+            }
+        }
+        return holidays;
+    }
+}
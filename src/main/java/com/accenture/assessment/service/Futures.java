@@ -0,0 +1,49 @@
+package com.accenture.assessment.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Helpers for bridging {@link CompletableFuture} results back to synchronous callers.
+ */
+public final class Futures {
+
+    private Futures() {
+    }
+
+    /**
+     * Waits for the future and rethrows its failure as the original unchecked exception,
+     * so synchronous callers see the same exceptions the provider would have thrown directly.
+     */
+    static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw propagate(e.getCause());
+        }
+    }
+
+    /**
+     * Strips the {@link CompletionException} / {@link ExecutionException} wrappers added by future composition.
+     */
+    public static Throwable unwrap(Throwable error) {
+        Throwable current = error;
+        while ((current instanceof CompletionException || current instanceof ExecutionException)
+                && current.getCause() != null) {
+            current = current.getCause();
+        }
+        return current;
+    }
+
+    private static RuntimeException propagate(Throwable error) {
+        Throwable cause = unwrap(error);
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error fatal) {
+            throw fatal;
+        }
+        return new CompletionException(cause);
+    }
+}
@@ -1,8 +1,10 @@
 package com.accenture.assessment.service;
 
+import com.accenture.assessment.model.HolidayCalendar;
 import com.accenture.assessment.model.PublicHoliday;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Interface for fetching Holidays from different providers.
@@ -17,4 +19,49 @@ public interface HolidayProvider {
      * @return list of public holidays
      */
     List<PublicHoliday> getPublicHolidays(int year, String countryCode);
+
+    /**
+     * Retrieves all public holidays for a specific year and country without blocking the caller.
+     * <p>
+     * The default implementation runs {@link #getPublicHolidays(int, String)} on the calling thread;
+     * providers backed by remote calls override it to fetch on their own executor.
+     *
+     * @param year the year
+     * @param countryCode the ISO 3166-1 alpha-2 country code
+     * @return future completed with the list of public holidays
+     */
+    default CompletableFuture<List<PublicHoliday>> getPublicHolidaysAsync(int year, String countryCode) {
+        try {
+            return CompletableFuture.completedFuture(getPublicHolidays(year, countryCode));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Retrieves the holidays for a specific year and country as a day-of-year bitset.
+     * <p>
+     * The default implementation builds the calendar from {@link #getPublicHolidays(int, String)}
+     * on every call; caching providers override it to build the calendar once per entry.
+     *
+     * @param year the year
+     * @param countryCode the ISO 3166-1 alpha-2 country code
+     * @return the holiday calendar, or null if the provider returned no holidays
+     */
+    default HolidayCalendar getHolidayCalendar(int year, String countryCode) {
+        List<PublicHoliday> holidays = getPublicHolidays(year, countryCode);
+        return holidays == null ? null : HolidayCalendar.of(year, holidays);
+    }
+
+    /**
+     * Asynchronous variant of {@link #getHolidayCalendar(int, String)}.
+     *
+     * @param year the year
+     * @param countryCode the ISO 3166-1 alpha-2 country code
+     * @return future completed with the holiday calendar, or null if the provider returned no holidays
+     */
+    default CompletableFuture<HolidayCalendar> getHolidayCalendarAsync(int year, String countryCode) {
+        return getPublicHolidaysAsync(year, countryCode)
+            .thenApply(holidays -> holidays == null ? null : HolidayCalendar.of(year, holidays));
+    }
 }
@@ -0,0 +1,48 @@
+package com.accenture.assessment.service;
+
+/**
+ * Thrown when a holiday provider cannot answer a request, carrying the upstream HTTP status when there is one.
+ */
+public class HolidayProviderException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Status used when the request failed without an HTTP response, e.g. on a timeout or connection error.
+     */
+    public static final int NO_STATUS = -1;
+
+    private final int statusCode;
+
+    public HolidayProviderException(String message, int statusCode) {
+        super(message);
+        this.statusCode = statusCode;
+    }
+
+    public HolidayProviderException(String message, Throwable cause) {
+        super(message, cause);
+        this.statusCode = NO_STATUS;
+    }
+
+    /**
+     * @return the upstream HTTP status, or {@link #NO_STATUS} if no response was received
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * @return true if the upstream rejected what was asked for (400 or 404), e.g. an unknown country code,
+     *         so that asking again gives the same answer
+     */
+    public boolean isUnknownKey() {
+        return statusCode == 400 || statusCode == 404;
+    }
+
+    /**
+     * @return true if the upstream asked to be called again later (408 or 429), e.g. when rate limiting
+     */
+    public boolean isRetryLater() {
+        return statusCode == 408 || statusCode == 429;
+    }
+}
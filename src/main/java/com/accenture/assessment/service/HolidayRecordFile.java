@@ -0,0 +1,383 @@
+package com.accenture.assessment.service;
+
+import com.accenture.assessment.model.PublicHoliday;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UTFDataFormatException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+/**
+ * Compact append-only binary file of holiday lists keyed by year and country.
+ * <p>
+ * Records present when the file is opened are memory-mapped and indexed by a single scan;
+ * records appended afterwards are read back with positional reads. When a key is written
+ * more than once the last record wins; the superseded records stay in the file until it is
+ * compacted, which happens when it is opened for writing with enough of them.
+ * <p>
+ * Layout: a header ({@code magic}, {@code version}) followed by records of
+ * {@code [int bodyLength][int bodyCrc32][int year][string countryCode][long storedAtMillis][int count][holiday...]}.
+ * Strings are stored as an unsigned {@code short} byte length followed by UTF-8 bytes, {@code 0xFFFF}
+ * meaning null; string lists likewise start with an unsigned {@code short} count.
+ */
+final class HolidayRecordFile implements Closeable {
+
+    private static final int MAGIC = 0x484F4C59; // "HOLY"
+    private static final int VERSION = 2;
+    private static final int HEADER_SIZE = Integer.BYTES * 2;
+    private static final int RECORD_HEADER_SIZE = Integer.BYTES * 2;
+
+    /**
+     * Superseded records needed before opening the file for writing compacts it, provided they also
+     * make up at least half of the records.
+     */
+    static final int COMPACTION_MIN_DEAD_RECORDS = 32;
+
+    private static final int NULL_LENGTH = 0xFFFF;
+    private static final int MAX_LENGTH = NULL_LENGTH - 1;
+    private static final int NULL_INT = Integer.MIN_VALUE;
+    private static final byte FLAG_FIXED_PRESENT = 1;
+    private static final byte FLAG_FIXED = 1 << 1;
+    private static final byte FLAG_GLOBAL_PRESENT = 1 << 2;
+    private static final byte FLAG_GLOBAL = 1 << 3;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer mappedRecords;
+    private final Map<String, Slot> index;
+    private long endOfFile;
+
+    private HolidayRecordFile(FileChannel channel, MappedByteBuffer mappedRecords, Map<String, Slot> index, long endOfFile) {
+        this.channel = channel;
+        this.mappedRecords = mappedRecords;
+        this.index = index;
+        this.endOfFile = endOfFile;
+    }
+
+    /**
+     * Opens (creating if necessary) the record file and indexes every intact record in it.
+     * Reading stops at the first record that is torn, left by a crash mid-append, or fails its
+     * checksum; when writable, the file is truncated there. A file with an unknown header is
+     * discarded and started afresh, and a writable file with enough superseded records is compacted.
+     *
+     * @param path the file location
+     * @param writable whether records may be appended
+     * @return the opened file
+     */
+    static HolidayRecordFile open(Path path, boolean writable) {
+        try {
+            if (writable && path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            FileChannel channel = writable
+                ? FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE)
+                : FileChannel.open(path, StandardOpenOption.READ);
+
+            long size = channel.size();
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (size < HEADER_SIZE || mapped.getInt(0) != MAGIC || mapped.getInt(Integer.BYTES) != VERSION) {
+                if (!writable) {
+                    channel.close();
+                    throw new IOException("Not a holiday record file: " + path);
+                }
+                channel.truncate(0);
+                channel.write(ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putInt(VERSION).flip(), 0);
+                return new HolidayRecordFile(channel, channel.map(FileChannel.MapMode.READ_ONLY, 0, 0),
+                    new ConcurrentHashMap<>(), HEADER_SIZE);
+            }
+
+            Map<String, Slot> index = new ConcurrentHashMap<>();
+            int deadRecords = 0;
+            long position = HEADER_SIZE;
+            while (position + RECORD_HEADER_SIZE <= size) {
+                int bodyLength = mapped.getInt((int) position);
+                int bodyCrc = mapped.getInt((int) position + Integer.BYTES);
+                long bodyStart = position + RECORD_HEADER_SIZE;
+                if (bodyLength <= 0 || bodyStart + bodyLength > size) {
+                    break;
+                }
+                ByteBuffer body = mapped.duplicate().position((int) bodyStart).limit((int) (bodyStart + bodyLength));
+                if (crc(body.duplicate()) != bodyCrc) {
+                    break;
+                }
+                int year = body.getInt();
+                String countryCode = readString(body);
+                long storedAt = body.getLong();
+                if (index.put(key(year, countryCode), new Slot(bodyStart, bodyLength, storedAt)) != null) {
+                    deadRecords++;
+                }
+                position = bodyStart + bodyLength;
+            }
+
+            if (writable && deadRecords >= COMPACTION_MIN_DEAD_RECORDS && deadRecords >= index.size()) {
+                Path compacted = path.resolveSibling(path.getFileName() + ".compact");
+                writeCompacted(compacted, mapped, index);
+                channel.close();
+                Files.move(compacted, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                return open(path, true);
+            }
+            if (writable && position < size) {
+                channel.truncate(position);
+            }
+            return new HolidayRecordFile(channel, mapped, index, position);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to open holiday record file " + path, e);
+        }
+    }
+
+    /**
+     * @return the number of distinct (year, country) records in the file
+     */
+    int size() {
+        return index.size();
+    }
+
+    /**
+     * @return the country codes that have at least one record
+     */
+    Set<String> countryCodes() {
+        Set<String> countryCodes = new HashSet<>();
+        for (String key : index.keySet()) {
+            countryCodes.add(key.substring(key.indexOf(':') + 1));
+        }
+        return countryCodes;
+    }
+
+    /**
+     * @return the time the record for the given key was written, or -1 if there is none
+     */
+    long storedAt(int year, String countryCode) {
+        Slot slot = index.get(key(year, countryCode));
+        return slot == null ? -1 : slot.storedAt;
+    }
+
+    /**
+     * Reads the holidays stored for the given key.
+     *
+     * @return the stored holidays, or null if the key has no record
+     */
+    List<PublicHoliday> read(int year, String countryCode) {
+        Slot slot = index.get(key(year, countryCode));
+        if (slot == null) {
+            return null;
+        }
+
+        ByteBuffer body;
+        if (slot.offset + slot.length <= mappedRecords.capacity()) {
+            body = mappedRecords.duplicate()
+                .position((int) slot.offset)
+                .limit((int) (slot.offset + slot.length));
+        } else {
+            body = ByteBuffer.allocate(slot.length);
+            try {
+                while (body.hasRemaining()) {
+                    if (channel.read(body, slot.offset + body.position()) < 0) {
+                        throw new IOException("Unexpected end of holiday record file");
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            body.flip();
+        }
+
+        body.getInt();    // year
+        readString(body); // country code
+        body.getLong();   // stored at
+        return decodeHolidays(body);
+    }
+
+    /**
+     * Appends a record for the given key, replacing any earlier record in the index.
+     *
+     * @throws UncheckedIOException if the write fails, or a string or string list is too long to store,
+     *                              in which case nothing is written
+     */
+    synchronized void append(int year, String countryCode, List<PublicHoliday> holidays, long storedAt) {
+        byte[] body = encode(year, countryCode, holidays, storedAt);
+        ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_SIZE + body.length)
+            .putInt(body.length)
+            .putInt(crc(ByteBuffer.wrap(body)))
+            .put(body)
+            .flip();
+        try {
+            long position = endOfFile;
+            while (record.hasRemaining()) {
+                position += channel.write(record, position);
+            }
+            index.put(key(year, countryCode), new Slot(endOfFile + RECORD_HEADER_SIZE, body.length, storedAt));
+            endOfFile = position;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private static String key(int year, String countryCode) {
+        return year + ":" + countryCode;
+    }
+
+    private static int crc(ByteBuffer bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Writes a file holding only the indexed records, in their original order, and syncs it to disk.
+     */
+    private static void writeCompacted(Path target, MappedByteBuffer mapped, Map<String, Slot> index) throws IOException {
+        List<Slot> live = new ArrayList<>(index.values());
+        live.sort(Comparator.comparingLong(Slot::offset));
+        try (FileChannel out = FileChannel.open(target,
+                StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putInt(VERSION).flip();
+            long position = 0;
+            while (header.hasRemaining()) {
+                position += out.write(header, position);
+            }
+            for (Slot slot : live) {
+                int recordStart = (int) slot.offset - RECORD_HEADER_SIZE;
+                ByteBuffer record = mapped.duplicate()
+                    .position(recordStart)
+                    .limit(recordStart + RECORD_HEADER_SIZE + slot.length);
+                while (record.hasRemaining()) {
+                    position += out.write(record, position);
+                }
+            }
+            out.force(true);
+        }
+    }
+
+    private static byte[] encode(int year, String countryCode, List<PublicHoliday> holidays, long storedAt) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + holidays.size() * 96);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(year);
+            writeString(out, countryCode);
+            out.writeLong(storedAt);
+            out.writeInt(holidays.size());
+            for (PublicHoliday holiday : holidays) {
+                out.writeInt(holiday.getDate() == null ? NULL_INT : (int) holiday.getDate().toEpochDay());
+                writeString(out, holiday.getLocalName());
+                writeString(out, holiday.getName());
+                writeString(out, holiday.getCountryCode());
+                out.writeByte(flags(holiday));
+                out.writeInt(holiday.getLaunchYear() == null ? NULL_INT : holiday.getLaunchYear());
+                writeStrings(out, holiday.getCounties());
+                writeStrings(out, holiday.getTypes());
+            }
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static List<PublicHoliday> decodeHolidays(ByteBuffer in) {
+        int count = in.getInt();
+        List<PublicHoliday> holidays = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            PublicHoliday holiday = new PublicHoliday();
+            int epochDay = in.getInt();
+            holiday.setDate(epochDay == NULL_INT ? null : LocalDate.ofEpochDay(epochDay));
+            holiday.setLocalName(readString(in));
+            holiday.setName(readString(in));
+            holiday.setCountryCode(readString(in));
+            byte flags = in.get();
+            holiday.setFixed((flags & FLAG_FIXED_PRESENT) == 0 ? null : (flags & FLAG_FIXED) != 0);
+            holiday.setGlobal((flags & FLAG_GLOBAL_PRESENT) == 0 ? null : (flags & FLAG_GLOBAL) != 0);
+            int launchYear = in.getInt();
+            holiday.setLaunchYear(launchYear == NULL_INT ? null : launchYear);
+            holiday.setCounties(readStrings(in));
+            holiday.setTypes(readStrings(in));
+            holidays.add(holiday);
+        }
+        return holidays;
+    }
+
+    private static byte flags(PublicHoliday holiday) {
+        int flags = 0;
+        if (holiday.getFixed() != null) {
+            flags |= FLAG_FIXED_PRESENT | (holiday.getFixed() ? FLAG_FIXED : 0);
+        }
+        if (holiday.getGlobal() != null) {
+            flags |= FLAG_GLOBAL_PRESENT | (holiday.getGlobal() ? FLAG_GLOBAL : 0);
+        }
+        return (byte) flags;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeShort(NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_LENGTH) {
+            throw new UTFDataFormatException("String of " + bytes.length + " bytes exceeds " + MAX_LENGTH);
+        }
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    private static void writeStrings(DataOutputStream out, List<String> values) throws IOException {
+        if (values == null) {
+            out.writeShort(NULL_LENGTH);
+            return;
+        }
+        if (values.size() > MAX_LENGTH) {
+            throw new IOException("List of " + values.size() + " strings exceeds " + MAX_LENGTH);
+        }
+        out.writeShort(values.size());
+        for (String value : values) {
+            writeString(out, value);
+        }
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = Short.toUnsignedInt(in.getShort());
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static List<String> readStrings(ByteBuffer in) {
+        int count = Short.toUnsignedInt(in.getShort());
+        if (count == NULL_LENGTH) {
+            return null;
+        }
+        List<String> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(readString(in));
+        }
+        return Collections.unmodifiableList(values);
+    }
+
+    private record Slot(long offset, int length, long storedAt) {
+    }
+}
@@ -1,27 +1,93 @@
 package com.accenture.assessment.service;
 
 import com.accenture.assessment.model.CountryHolidayCount;
+import com.accenture.assessment.model.HolidayCalendar;
+import com.accenture.assessment.model.NonWeekendHolidayMatrix;
 import com.accenture.assessment.model.PublicHoliday;
 import com.accenture.assessment.model.SharedHoliday;
+import com.accenture.assessment.model.SharedHolidayMatrix;
+import com.accenture.assessment.model.SubdivisionCalendars;
+import com.accenture.assessment.model.WorkingDayTable;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
  * Service class for processing public holiday data.
+ * <p>
+ * Wherever a query takes a country code it also accepts an ISO 3166-2 subdivision code such as {@code DE-BY},
+ * and then answers for the holidays observed there: the nationwide holidays and those of the subdivision.
+ * A subdivision is known once a regional holiday of any of its country's years lists it; in a year where none
+ * does, it observes the nationwide holidays alone. A code that neither the years already seen nor the current
+ * year list fails the query with a 404 {@link HolidayProviderException}, like an unknown country code.
+ * Regional calendars come from an index of each country calendar's subdivisions, kept in a bounded memo,
+ * so a regional query costs about the same as a national one. Weekends are those of the subdivision's country.
  */
 @Service
 public class HolidayService {
 
+    private static final int DEFAULT_LAST_CELEBRATED = 3;
+
+    /**
+     * Maximum number of years walked back or forward when looking for celebrated or upcoming holidays.
+     */
+    private static final int MAX_YEARS_SEARCHED = 10;
+
+    /**
+     * Maximum number of years in a range query.
+     */
+    private static final int MAX_YEARS_IN_RANGE = 100;
+
+    /**
+     * Number of cells, (country, year) or country pairs, below which a parallel aggregation is no longer split.
+     */
+    private static final int AGGREGATION_LEAF_CELLS = 256;
+
+    /**
+     * Number of working-day tables kept, about 750 bytes each, e.g. 50 countries over 20 years.
+     */
+    private static final int WORKING_DAY_TABLES = 1024;
+
+    /**
+     * Number of subdivision indexes kept, one per country calendar with regional holidays queried.
+     */
+    private static final int SUBDIVISION_INDEXES = 256;
+
     private final HolidayProvider holidayProvider;
+    private final MeterRegistry meterRegistry;
+    private final WeekendRules weekendRules;
+    private final LongKeyedTable<long[]> weekendMasks = new LongKeyedTable<>();
+    private final CalendarMemo<long[], WorkingDayTable> workingDayTables =
+        new CalendarMemo<>(WORKING_DAY_TABLES, HolidayCalendar::getWorkingDays);
+    private final CalendarMemo<Void, SubdivisionCalendars> subdivisionCalendars =
+        new CalendarMemo<>(SUBDIVISION_INDEXES, (calendar, ignored) -> indexSubdivisions(calendar));
+    private final Set<String> knownSubdivisions = ConcurrentHashMap.newKeySet();
 
-    @Autowired
     public HolidayService(HolidayProvider holidayProvider) {
+        this(holidayProvider, new SimpleMeterRegistry());
+    }
+
+    public HolidayService(HolidayProvider holidayProvider, MeterRegistry meterRegistry) {
+        this(holidayProvider, meterRegistry, WeekendRules.standard());
+    }
+
+    @Autowired
+    public HolidayService(HolidayProvider holidayProvider, MeterRegistry meterRegistry, WeekendRules weekendRules) {
         this.holidayProvider = holidayProvider;
+        this.meterRegistry = meterRegistry;
+        this.weekendRules = weekendRules;
     }
 
     /**
@@ -32,30 +98,153 @@ public class HolidayService {
      * @return list of the last 3 celebrated holidays
      */
     public List<PublicHoliday> getLastCelebratedHolidays(String countryCode) {
-        LocalDate today = LocalDate.now();
-        int currentYear = today.getYear();
+        return getLastCelebratedHolidays(countryCode, DEFAULT_LAST_CELEBRATED, LocalDate.now());
+    }
 
-        // Collect holidays from current and previous years
-        List<PublicHoliday> allHolidays = new ArrayList<>();
+    /**
+     * Retrieves the last {@code count} holidays of a country celebrated before the reference date,
+     * most recent first. Holidays on the same day keep the provider's order.
+     *
+     * @param countryCode the ISO 3166-1 alpha-2 country code
+     * @param count the maximum number of holidays to return
+     * @param referenceDate only holidays strictly before this date are returned
+     * @return list of at most {@code count} holidays sorted by date descending
+     */
+    public List<PublicHoliday> getLastCelebratedHolidays(String countryCode, int count, LocalDate referenceDate) {
+        return Futures.join(getLastCelebratedHolidaysAsync(countryCode, count, referenceDate));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getLastCelebratedHolidays(String)}.
+     *
+     * @param countryCode the ISO 3166-1 alpha-2 country code
+     * @return future completed with the list of the last 3 celebrated holidays
+     */
+    public CompletableFuture<List<PublicHoliday>> getLastCelebratedHolidaysAsync(String countryCode) {
+        return getLastCelebratedHolidaysAsync(countryCode, DEFAULT_LAST_CELEBRATED, LocalDate.now());
+    }
 
-        // Get holidays from current year and previous year to ensure we have enough past holidays
-        for (int year = currentYear; year >= currentYear - 1; year--) {
-            List<PublicHoliday> yearHolidays = holidayProvider.getPublicHolidays(year, countryCode);
-            if (yearHolidays != null) {
-                allHolidays.addAll(yearHolidays);
+    /**
+     * Asynchronous variant of {@link #getLastCelebratedHolidays(String, int, LocalDate)}.
+     * <p>
+     * Each year's calendar locates the reference date in constant time, then holidays are taken
+     * walking backwards. Earlier years are fetched one at a time only while more holidays are
+     * needed, so the cost depends on {@code count}, not on how many years are cached.
+     *
+     * @param countryCode the ISO 3166-1 alpha-2 country code
+     * @param count the maximum number of holidays to return
+     * @param referenceDate only holidays strictly before this date are returned
+     * @return future completed with at most {@code count} holidays sorted by date descending
+     */
+    public CompletableFuture<List<PublicHoliday>> getLastCelebratedHolidaysAsync(String countryCode, int count,
+                                                                               LocalDate referenceDate) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Count must not be negative: " + count);
+        }
+        RequestPriority priority = RequestPriority.current();
+        return timed("last-celebrated", () -> collectCelebratedBefore(
+            countryCode, referenceDate.getYear(), referenceDate, count, new ArrayList<>(), 0, priority));
+    }
+
+    private CompletableFuture<List<PublicHoliday>> collectCelebratedBefore(String countryCode, int year,
+                                                                          LocalDate referenceDate, int count,
+                                                                          List<PublicHoliday> collected,
+                                                                          int yearsSearched,
+                                                                          RequestPriority priority) {
+        if (collected.size() >= count || yearsSearched >= MAX_YEARS_SEARCHED) {
+            return CompletableFuture.completedFuture(collected);
+        }
+
+        // Earlier years are fetched from completion callbacks, on threads that do not carry the caller's priority
+        return priority.call(() -> calendarOf(year, countryCode)).thenCompose(calendar -> {
+            // A year without data marks the start of the provider's coverage
+            if (calendar == null || calendar.getHolidayCount() == 0) {
+                return CompletableFuture.completedFuture(collected);
             }
+
+            List<PublicHoliday> holidays = calendar.getHolidays();
+            int end = calendar.countHolidaysBefore(referenceDate);
+            while (end > 0 && collected.size() < count) {
+                // Emit each day's holidays in provider order while walking the days backwards
+                LocalDate date = holidays.get(end - 1).getDate();
+                int start = end - 1;
+                while (start > 0 && holidays.get(start - 1).getDate().equals(date)) {
+                    start--;
+                }
+                for (int i = start; i < end && collected.size() < count; i++) {
+                    collected.add(holidays.get(i));
+                }
+                end = start;
+            }
+
+            return collectCelebratedBefore(countryCode, year - 1, referenceDate, count, collected, yearsSearched + 1,
+                priority);
+        });
+    }
+
+    /**
+     * Retrieves the next {@code count} holidays of a country from the reference date onwards, earliest first.
+     * Holidays on the same day keep the provider's order.
+     *
+     * @param countryCode the ISO 3166-1 alpha-2 country code
+     * @param count the maximum number of holidays to return
+     * @param referenceDate only holidays on or after this date are returned
+     * @return list of at most {@code count} holidays sorted by date ascending
+     */
+    public List<PublicHoliday> getUpcomingHolidays(String countryCode, int count, LocalDate referenceDate) {
+        return Futures.join(getUpcomingHolidaysAsync(countryCode, count, referenceDate));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getUpcomingHolidays(String, int, LocalDate)}.
+     * <p>
+     * The reference year's calendar locates the reference date in constant time, then holidays are taken
+     * walking forwards. The next year is fetched only when the current one runs out before {@code count}
+     * holidays are found, so a typical call reads one cached year and never requests a year it does not need.
+     *
+     * @param countryCode the ISO 3166-1 alpha-2 country code
+     * @param count the maximum number of holidays to return
+     * @param referenceDate only holidays on or after this date are returned
+     * @return future completed with at most {@code count} holidays sorted by date ascending
+     */
+    public CompletableFuture<List<PublicHoliday>> getUpcomingHolidaysAsync(String countryCode, int count,
+                                                                          LocalDate referenceDate) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Count must not be negative: " + count);
         }
+        RequestPriority priority = RequestPriority.current();
+        return timed("upcoming", () -> collectUpcomingFrom(
+            countryCode, referenceDate.getYear(), referenceDate, count, new ArrayList<>(), 0, priority));
+    }
 
-        // Filter holidays that have already passed and sort by date descending
-        return allHolidays.stream()
-            .filter(holiday -> holiday.getDate().isBefore(today))
-            .sorted(Comparator.comparing(PublicHoliday::getDate).reversed())
-            .limit(3)
-            .collect(Collectors.toList());
+    private CompletableFuture<List<PublicHoliday>> collectUpcomingFrom(String countryCode, int year,
+                                                                      LocalDate referenceDate, int count,
+                                                                      List<PublicHoliday> collected,
+                                                                      int yearsSearched,
+                                                                      RequestPriority priority) {
+        if (collected.size() >= count || yearsSearched >= MAX_YEARS_SEARCHED) {
+            return CompletableFuture.completedFuture(collected);
+        }
+
+        // Later years are fetched from completion callbacks, on threads that do not carry the caller's priority
+        return priority.call(() -> calendarOf(year, countryCode)).thenCompose(calendar -> {
+            // A year without data marks the end of the provider's coverage
+            if (calendar == null || calendar.getHolidayCount() == 0) {
+                return CompletableFuture.completedFuture(collected);
+            }
+
+            List<PublicHoliday> holidays = calendar.getHolidays();
+            for (int i = calendar.countHolidaysBefore(referenceDate); i < holidays.size() && collected.size() < count; i++) {
+                collected.add(holidays.get(i));
+            }
+
+            return collectUpcomingFrom(countryCode, year + 1, referenceDate, count, collected, yearsSearched + 1,
+                priority);
+        });
     }
 
     /**
-     * For each given country, returns the number of public holidays not falling on weekends.
+     * For each given country, returns the number of public holidays not falling on that country's weekend.
      * Results are sorted in descending order by holiday count.
      *
      * @param year the year to check
@@ -63,22 +252,104 @@ public class HolidayService {
      * @return list of country holiday counts sorted in descending order
      */
     public List<CountryHolidayCount> getNonWeekendHolidayCount(int year, List<String> countryCodes) {
-        return countryCodes.stream()
-            .map(countryCode -> {
-                List<PublicHoliday> holidays = holidayProvider.getPublicHolidays(year, countryCode);
-
-                if (holidays == null) {
-                    return new CountryHolidayCount(countryCode, 0);
-                }
+        return Futures.join(getNonWeekendHolidayCountAsync(year, countryCodes));
+    }
 
-                long nonWeekendCount = holidays.stream()
-                    .filter(this::isWeekday)
-                    .count();
+    /**
+     * Asynchronous variant of {@link #getNonWeekendHolidayCount(int, List)}.
+     * All countries are fetched concurrently, so latency tracks the slowest single fetch.
+     *
+     * @param year the year to check
+     * @param countryCodes list of country codes
+     * @return future completed with the country holiday counts sorted in descending order
+     */
+    public CompletableFuture<List<CountryHolidayCount>> getNonWeekendHolidayCountAsync(int year, List<String> countryCodes) {
+        return timed("non-weekend-count", () -> countNonWeekendHolidays(year, countryCodes));
+    }
 
-                return new CountryHolidayCount(countryCode, (int) nonWeekendCount);
-            })
-            .sorted() // Uses the Comparable implementation in CountryHolidayCount
+    private CompletableFuture<List<CountryHolidayCount>> countNonWeekendHolidays(int year, List<String> countryCodes) {
+        List<CompletableFuture<CountryHolidayCount>> counts = countryCodes.stream()
+            .map(countryCode -> calendarOf(year, countryCode)
+                .thenApply(calendar -> new CountryHolidayCount(countryCode,
+                    calendar == null ? 0 : calendar.countHolidaysExcluding(weekendMask(countryCode, year)))))
             .collect(Collectors.toList());
+
+        return CompletableFuture.allOf(counts.toArray(new CompletableFuture<?>[0]))
+            .thenApply(ignored -> counts.stream()
+                .map(CompletableFuture::join)
+                .sorted() // Uses the Comparable implementation in CountryHolidayCount
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * For each given country and each year of a range, returns the number of public holidays not falling
+     * on that country's weekend, with totals per country, per year and overall.
+     *
+     * @param countryCodes list of country codes; duplicates are counted once
+     * @param fromYear first year of the range
+     * @param toYear last year of the range, inclusive
+     * @return the country by year matrix of counts
+     * @throws IllegalArgumentException if no country is given, or the range is empty or longer than 100 years
+     */
+    public NonWeekendHolidayMatrix getNonWeekendHolidayCounts(List<String> countryCodes, int fromYear, int toYear) {
+        return Futures.join(getNonWeekendHolidayCountsAsync(countryCodes, fromYear, toYear));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getNonWeekendHolidayCounts(List, int, int)}.
+     * Every (country, year) calendar is fetched concurrently; once all are available the counts are
+     * aggregated in parallel on the common fork-join pool, split by ranges of countries.
+     *
+     * @param countryCodes list of country codes; duplicates are counted once
+     * @param fromYear first year of the range
+     * @param toYear last year of the range, inclusive
+     * @return future completed with the country by year matrix of counts
+     * @throws IllegalArgumentException if no country is given, or the range is empty or longer than 100 years
+     */
+    public CompletableFuture<NonWeekendHolidayMatrix> getNonWeekendHolidayCountsAsync(List<String> countryCodes,
+                                                                                      int fromYear, int toYear) {
+        if (fromYear > toYear || toYear - fromYear >= MAX_YEARS_IN_RANGE) {
+            throw new IllegalArgumentException("Year range must cover 1 to " + MAX_YEARS_IN_RANGE
+                + " years, got " + fromYear + "-" + toYear);
+        }
+        if (countryCodes.isEmpty()) {
+            throw new IllegalArgumentException("At least one country code is required");
+        }
+        return timed("non-weekend-count-range", () -> countNonWeekendHolidays(
+            List.copyOf(new LinkedHashSet<>(countryCodes)), fromYear, toYear));
+    }
+
+    private CompletableFuture<NonWeekendHolidayMatrix> countNonWeekendHolidays(List<String> countryCodes,
+                                                                              int fromYear, int toYear) {
+        int years = toYear - fromYear + 1;
+        HolidayCalendar[][] calendars = new HolidayCalendar[countryCodes.size()][years];
+        CompletableFuture<?>[] fetches = new CompletableFuture<?>[countryCodes.size() * years];
+        for (int row = 0; row < countryCodes.size(); row++) {
+            HolidayCalendar[] countryCalendars = calendars[row];
+            for (int column = 0; column < years; column++) {
+                int index = column;
+                fetches[row * years + column] = calendarOf(fromYear + column, countryCodes.get(row))
+                    .thenAccept(calendar -> countryCalendars[index] = calendar);
+            }
+        }
+
+        return CompletableFuture.allOf(fetches).thenApply(ignored -> {
+            long[][][] weekendDays = new long[countryCodes.size()][years][];
+            for (int row = 0; row < countryCodes.size(); row++) {
+                for (int column = 0; column < years; column++) {
+                    weekendDays[row][column] = weekendMask(countryCodes.get(row), fromYear + column);
+                }
+            }
+            int[][] counts = new int[countryCodes.size()][years];
+            int[] countryTotals = new int[countryCodes.size()];
+            int[] yearTotals = ForkJoinPool.commonPool().invoke(new NonWeekendCountTask(
+                calendars, weekendDays, counts, countryTotals, 0, countryCodes.size()));
+            long total = 0;
+            for (int yearTotal : yearTotals) {
+                total += yearTotal;
+            }
+            return new NonWeekendHolidayMatrix(countryCodes, fromYear, toYear, counts, countryTotals, yearTotals, total);
+        });
     }
 
     /**
@@ -90,54 +361,575 @@ public class HolidayService {
      * @return list of shared holidays
      */
     public List<SharedHoliday> getSharedHolidays(int year, String countryCode1, String countryCode2) {
-        List<PublicHoliday> holidays1 = holidayProvider.getPublicHolidays(year, countryCode1);
-        List<PublicHoliday> holidays2 = holidayProvider.getPublicHolidays(year, countryCode2);
+        return Futures.join(getSharedHolidaysAsync(year, countryCode1, countryCode2));
+    }
 
-        if (holidays1 == null || holidays2 == null) {
-            return Collections.emptyList();
+    /**
+     * Asynchronous variant of {@link #getSharedHolidays(int, String, String)}.
+     * Both countries are fetched concurrently.
+     *
+     * @param year the year to check
+     * @param countryCode1 first country code
+     * @param countryCode2 second country code
+     * @return future completed with the list of shared holidays
+     */
+    public CompletableFuture<List<SharedHoliday>> getSharedHolidaysAsync(int year, String countryCode1, String countryCode2) {
+        return getSharedHolidaysAsync(year, List.of(countryCode1, countryCode2));
+    }
+
+    /**
+     * Returns the dates celebrated in all the given countries, each with the local name from every country.
+     *
+     * @param year the year to check
+     * @param countryCodes the country codes; duplicates are ignored
+     * @return list of shared holidays sorted by date
+     */
+    public List<SharedHoliday> getSharedHolidays(int year, List<String> countryCodes) {
+        return Futures.join(getSharedHolidaysAsync(year, countryCodes));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getSharedHolidays(int, List)}.
+     *
+     * @param year the year to check
+     * @param countryCodes the country codes; duplicates are ignored
+     * @return future completed with the list of shared holidays sorted by date
+     */
+    public CompletableFuture<List<SharedHoliday>> getSharedHolidaysAsync(int year, List<String> countryCodes) {
+        return getSharedHolidaysAsync(year, countryCodes, new LinkedHashSet<>(countryCodes).size());
+    }
+
+    /**
+     * Returns the dates celebrated in at least {@code minCountries} of the given countries,
+     * each with the local names from the countries celebrating it.
+     *
+     * @param year the year to check
+     * @param countryCodes the country codes; duplicates are ignored
+     * @param minCountries the minimum number of countries that must share a date, between 1 and the number of countries
+     * @return list of shared holidays sorted by date
+     */
+    public List<SharedHoliday> getSharedHolidays(int year, List<String> countryCodes, int minCountries) {
+        return Futures.join(getSharedHolidaysAsync(year, countryCodes, minCountries));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getSharedHolidays(int, List, int)}.
+     * All countries are fetched concurrently; the shared days are then found by intersecting their day bitsets.
+     *
+     * @param year the year to check
+     * @param countryCodes the country codes; duplicates are ignored
+     * @param minCountries the minimum number of countries that must share a date, between 1 and the number of countries
+     * @return future completed with the list of shared holidays sorted by date
+     */
+    public CompletableFuture<List<SharedHoliday>> getSharedHolidaysAsync(int year, List<String> countryCodes, int minCountries) {
+        List<String> countries = new ArrayList<>(new LinkedHashSet<>(countryCodes));
+        if (minCountries < 1 || minCountries > countries.size()) {
+            throw new IllegalArgumentException(
+                "minCountries must be between 1 and " + countries.size() + " but was " + minCountries);
         }
 
-        // Create a map of dates to holidays for the first country
-        Map<LocalDate, PublicHoliday> holidayMap1 = holidays1.stream()
-            .collect(Collectors.toMap(
-                PublicHoliday::getDate,
-                h -> h,
-                (h1, h2) -> h1 // In case of duplicates, keep the first
-            ));
+        return timed("shared-holidays", () -> {
+            List<CompletableFuture<HolidayCalendar>> calendars = countries.stream()
+                .map(countryCode -> calendarOf(year, countryCode))
+                .collect(Collectors.toList());
 
-        // Find shared dates and create SharedHoliday objects
-        Map<LocalDate, SharedHoliday> sharedHolidayMap = new HashMap<>();
+            return CompletableFuture.allOf(calendars.toArray(new CompletableFuture<?>[0]))
+                .thenApply(ignored -> findSharedHolidays(year, countries,
+                    calendars.stream().map(CompletableFuture::join).toArray(HolidayCalendar[]::new), minCountries));
+        });
+    }
 
-        for (PublicHoliday holiday2 : holidays2) {
-            LocalDate date = holiday2.getDate();
-            if (holidayMap1.containsKey(date)) {
-                SharedHoliday sharedHoliday = sharedHolidayMap.computeIfAbsent(
-                    date,
-                    SharedHoliday::new
-                );
+    /**
+     * Walks the day bitsets word by word: an AND of all calendars when every country must share the day,
+     * otherwise the union filtered by the number of calendars containing each day.
+     * Set bits come out in date order. A country without a calendar has no holidays.
+     */
+    private List<SharedHoliday> findSharedHolidays(int year, List<String> countryCodes,
+                                                   HolidayCalendar[] calendars, int minCountries) {
+        boolean requireAll = minCountries == calendars.length;
+        List<SharedHoliday> sharedHolidays = new ArrayList<>();
 
-                // Add local names from both countries
-                PublicHoliday holiday1 = holidayMap1.get(date);
-                sharedHoliday.addLocalName(countryCode1, holiday1.getLocalName());
-                sharedHoliday.addLocalName(countryCode2, holiday2.getLocalName());
+        for (int w = 0; w < HolidayCalendar.WORDS; w++) {
+            long candidateDays = requireAll ? -1L : 0L;
+            for (HolidayCalendar calendar : calendars) {
+                long days = calendar == null ? 0L : calendar.word(w);
+                candidateDays = requireAll ? candidateDays & days : candidateDays | days;
+            }
+
+            while (candidateDays != 0) {
+                long dayBit = Long.lowestOneBit(candidateDays);
+                candidateDays &= candidateDays - 1;
+
+                int dayOfYear = (w << 6) + Long.numberOfTrailingZeros(dayBit) + 1;
+                if (!requireAll && countCalendarsWithDay(calendars, w, dayBit) < minCountries) {
+                    continue;
+                }
+
+                SharedHoliday sharedHoliday = new SharedHoliday(LocalDate.ofYearDay(year, dayOfYear));
+                for (int c = 0; c < calendars.length; c++) {
+                    if (calendars[c] != null && (calendars[c].word(w) & dayBit) != 0) {
+                        sharedHoliday.addLocalName(countryCodes.get(c), calendars[c].getLocalName(dayOfYear));
+                    }
+                }
+                sharedHolidays.add(sharedHoliday);
             }
         }
+        return sharedHolidays;
+    }
 
-        // Return sorted by date
-        return sharedHolidayMap.values().stream()
-            .sorted(Comparator.comparing(SharedHoliday::getDate))
-            .collect(Collectors.toList());
+    private int countCalendarsWithDay(HolidayCalendar[] calendars, int wordIndex, long dayBit) {
+        int count = 0;
+        for (HolidayCalendar calendar : calendars) {
+            if (calendar != null && (calendar.word(wordIndex) & dayBit) != 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * For every pair of the given countries, returns the number of holiday dates both celebrate in the year,
+     * and optionally the dates themselves.
+     *
+     * @param year the year to check
+     * @param countryCodes the country codes; duplicates are ignored
+     * @param includeDates whether to return the shared dates of each pair as well as their number
+     * @return the symmetric country by country matrix of shared dates
+     */
+    public SharedHolidayMatrix getSharedHolidayMatrix(int year, List<String> countryCodes, boolean includeDates) {
+        return Futures.join(getSharedHolidayMatrixAsync(year, countryCodes, includeDates));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getSharedHolidayMatrix(int, List, boolean)}.
+     * All countries are fetched concurrently; once all are available their day bitsets are copied into one
+     * array and every pair is counted with an AND and a popcount per word, in parallel on the common
+     * fork-join pool, split by ranges of countries.
+     *
+     * @param year the year to check
+     * @param countryCodes the country codes; duplicates are ignored
+     * @param includeDates whether to return the shared dates of each pair as well as their number
+     * @return future completed with the symmetric country by country matrix of shared dates
+     */
+    public CompletableFuture<SharedHolidayMatrix> getSharedHolidayMatrixAsync(int year, List<String> countryCodes,
+                                                                              boolean includeDates) {
+        List<String> countries = List.copyOf(new LinkedHashSet<>(countryCodes));
+        return timed("shared-holiday-matrix", () -> {
+            List<CompletableFuture<HolidayCalendar>> calendars = countries.stream()
+                .map(countryCode -> calendarOf(year, countryCode))
+                .collect(Collectors.toList());
+
+            return CompletableFuture.allOf(calendars.toArray(new CompletableFuture<?>[0])).thenApply(ignored -> {
+                // One contiguous array keeps the inner loop on consecutive words
+                long[] days = new long[countries.size() * HolidayCalendar.WORDS];
+                for (int row = 0; row < countries.size(); row++) {
+                    HolidayCalendar calendar = calendars.get(row).join();
+                    for (int w = 0; calendar != null && w < HolidayCalendar.WORDS; w++) {
+                        days[row * HolidayCalendar.WORDS + w] = calendar.word(w);
+                    }
+                }
+
+                int[][] counts = new int[countries.size()][countries.size()];
+                // One slot per row, each set by the task that owns the row
+                List<List<List<LocalDate>>> sharedDates = includeDates
+                    ? new ArrayList<>(Collections.nCopies(countries.size(), null))
+                    : null;
+                ForkJoinPool.commonPool().invoke(
+                    new SharedDayCountTask(year, days, counts, sharedDates, 0, countries.size()));
+                return new SharedHolidayMatrix(countries, year, counts,
+                    includeDates ? sharedDatesByCountry(countries, sharedDates) : null);
+            });
+        });
+    }
+
+    private static Map<String, Map<String, List<LocalDate>>> sharedDatesByCountry(List<String> countryCodes,
+                                                                                  List<List<List<LocalDate>>> sharedDates) {
+        Map<String, Map<String, List<LocalDate>>> byCountry = new LinkedHashMap<>();
+        for (int row = 0; row < countryCodes.size(); row++) {
+            Map<String, List<LocalDate>> pairs = new LinkedHashMap<>();
+            for (int column = row + 1; column < countryCodes.size(); column++) {
+                pairs.put(countryCodes.get(column), sharedDates.get(row).get(column - row - 1));
+            }
+            byCountry.put(countryCodes.get(row), pairs);
+        }
+        return byCountry;
+    }
+
+    /**
+     * Returns the date the given number of business days away from a date in a country. Business days are
+     * days that are neither on the country's weekend nor a public holiday of the country.
+     *
+     * @param countryCode the ISO 3166-1 alpha-2 country code
+     * @param date the start date, which need not be a business day
+     * @param businessDays business days to move: positive counts forward from the day after {@code date},
+     *                     negative backwards from the day before it, and zero returns {@code date}
+     * @return the resulting business day
+     * @throws IllegalArgumentException if the result is more than 100 years away
+     */
+    public LocalDate addBusinessDays(String countryCode, LocalDate date, int businessDays) {
+        return Futures.join(addBusinessDaysAsync(countryCode, date, businessDays));
+    }
+
+    /**
+     * Asynchronous variant of {@link #addBusinessDays(String, LocalDate, int)}.
+     * The start year's working-day table gives the rank of the start date, and the target rank is found by
+     * binary search; only the years the result moves through are fetched, one at a time.
+     *
+     * @param countryCode the ISO 3166-1 alpha-2 country code
+     * @param date the start date, which need not be a business day
+     * @param businessDays business days to move: positive counts forward, negative backwards, zero returns {@code date}
+     * @return future completed with the resulting business day
+     */
+    public CompletableFuture<LocalDate> addBusinessDaysAsync(String countryCode, LocalDate date, int businessDays) {
+        if (businessDays == 0) {
+            return CompletableFuture.completedFuture(date);
+        }
+        RequestPriority priority = RequestPriority.current();
+        return timed("add-business-days", () -> workingDays(countryCode, date.getYear()).thenCompose(table -> {
+            int dayOfYear = date.getDayOfYear();
+            int rank = businessDays > 0
+                ? table.countWorkingDaysBefore(dayOfYear + 1) + businessDays
+                : table.countWorkingDaysBefore(dayOfYear) + businessDays + 1;
+            return nthBusinessDay(countryCode, table, rank, 0, priority);
+        }));
+    }
+
+    /**
+     * Resolves the business day of the given rank in a year, moving into later years while the rank exceeds
+     * the year's working days and into earlier years while it is not positive. Those years are fetched from
+     * completion callbacks, so with the caller's priority re-established.
+     */
+    private CompletableFuture<LocalDate> nthBusinessDay(String countryCode, WorkingDayTable table, int rank,
+                                                        int yearsSearched, RequestPriority priority) {
+        int workingDays = table.getWorkingDayCount();
+        if (rank >= 1 && rank <= workingDays) {
+            return CompletableFuture.completedFuture(LocalDate.ofYearDay(table.getYear(), table.nthWorkingDay(rank)));
+        }
+        if (yearsSearched >= MAX_YEARS_IN_RANGE) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException(
+                "No such business day within " + MAX_YEARS_IN_RANGE + " years in " + countryCode));
+        }
+        if (rank > workingDays) {
+            return priority.call(() -> workingDays(countryCode, table.getYear() + 1))
+                .thenCompose(next -> nthBusinessDay(countryCode, next, rank - workingDays, yearsSearched + 1, priority));
+        }
+        return priority.call(() -> workingDays(countryCode, table.getYear() - 1))
+            .thenCompose(previous -> nthBusinessDay(countryCode, previous,
+                previous.getWorkingDayCount() + rank, yearsSearched + 1, priority));
+    }
+
+    /**
+     * Counts the business days of a country from a start date, inclusive, to an end date, exclusive.
+     *
+     * @param countryCode the ISO 3166-1 alpha-2 country code
+     * @param startInclusive the first date counted
+     * @param endExclusive the date after the last date counted
+     * @return the number of business days, negative if the end is before the start
+     * @throws IllegalArgumentException if the dates span more than 100 calendar years
+     */
+    public int countBusinessDays(String countryCode, LocalDate startInclusive, LocalDate endExclusive) {
+        return Futures.join(countBusinessDaysAsync(countryCode, startInclusive, endExclusive));
+    }
+
+    /**
+     * Asynchronous variant of {@link #countBusinessDays(String, LocalDate, LocalDate)}.
+     * The working-day tables of every year spanned are fetched concurrently; the count is then the sum of the
+     * whole years' totals adjusted by a table lookup at each end.
+     *
+     * @param countryCode the ISO 3166-1 alpha-2 country code
+     * @param startInclusive the first date counted
+     * @param endExclusive the date after the last date counted
+     * @return future completed with the number of business days, negative if the end is before the start
+     */
+    public CompletableFuture<Integer> countBusinessDaysAsync(String countryCode, LocalDate startInclusive,
+                                                             LocalDate endExclusive) {
+        if (endExclusive.isBefore(startInclusive)) {
+            return countBusinessDaysAsync(countryCode, endExclusive, startInclusive).thenApply(count -> -count);
+        }
+        int fromYear = startInclusive.getYear();
+        int toYear = endExclusive.getYear();
+        if (toYear - fromYear >= MAX_YEARS_IN_RANGE) {
+            throw new IllegalArgumentException("Business day spans must cover at most " + MAX_YEARS_IN_RANGE
+                + " calendar years, got " + startInclusive + " to " + endExclusive);
+        }
+
+        return timed("count-business-days", () -> {
+            List<CompletableFuture<WorkingDayTable>> tables = new ArrayList<>(toYear - fromYear + 1);
+            for (int year = fromYear; year <= toYear; year++) {
+                tables.add(workingDays(countryCode, year));
+            }
+            return CompletableFuture.allOf(tables.toArray(new CompletableFuture<?>[0])).thenApply(ignored -> {
+                int count = -tables.get(0).join().countWorkingDaysBefore(startInclusive.getDayOfYear());
+                for (int i = 0; i < tables.size() - 1; i++) {
+                    count += tables.get(i).join().getWorkingDayCount();
+                }
+                return count + tables.get(tables.size() - 1).join().countWorkingDaysBefore(endExclusive.getDayOfYear());
+            });
+        });
+    }
+
+    /**
+     * Returns the country's working-day table of a year, built from its holiday calendar and weekend and kept
+     * in a bounded memo keyed by both. A year without a calendar has no holidays.
+     */
+    private CompletableFuture<WorkingDayTable> workingDays(String countryCode, int year) {
+        return calendarOf(year, countryCode).thenApply(calendar -> {
+            long[] weekendDays = weekendMask(countryCode, year);
+            return calendar != null
+                ? workingDayTables.get(calendar, weekendDays)
+                : WorkingDayTable.of(year, new long[HolidayCalendar.WORDS], weekendDays);
+        });
+    }
+
+    /**
+     * Records the time from starting a query until its future completes in the
+     * {@code holiday.service.queries} timer, tagged by operation and outcome.
+     */
+    private <T> CompletableFuture<T> timed(String operation, Supplier<CompletableFuture<T>> query) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        CompletableFuture<T> result;
+        try {
+            result = query.get();
+        } catch (RuntimeException e) {
+            sample.stop(queryTimer(operation, "error"));
+            throw e;
+        }
+        return result.whenComplete((value, error) ->
+            sample.stop(queryTimer(operation, error == null ? "success" : "error")));
+    }
+
+    private Timer queryTimer(String operation, String outcome) {
+        return Timer.builder("holiday.service.queries")
+            .description("Latency of holiday service queries")
+            .tags("operation", operation, "outcome", outcome)
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Counts the non-weekend holidays of a range of countries, filling their rows of the matrix and their
+     * totals, and returns the per-year totals of those rows. Ranges larger than
+     * {@link #AGGREGATION_LEAF_CELLS} cells are split in two and their year totals summed.
+     */
+    @SuppressWarnings("serial") // Fork-join tasks are never serialized
+    private static final class NonWeekendCountTask extends RecursiveTask<int[]> {
+
+        private final HolidayCalendar[][] calendars;
+        private final long[][][] weekendDays;
+        private final int[][] counts;
+        private final int[] countryTotals;
+        private final int fromRow;
+        private final int toRow;
+
+        private NonWeekendCountTask(HolidayCalendar[][] calendars, long[][][] weekendDays, int[][] counts,
+                                    int[] countryTotals, int fromRow, int toRow) {
+            this.calendars = calendars;
+            this.weekendDays = weekendDays;
+            this.counts = counts;
+            this.countryTotals = countryTotals;
+            this.fromRow = fromRow;
+            this.toRow = toRow;
+        }
+
+        @Override
+        protected int[] compute() {
+            int years = counts[fromRow].length;
+            if (toRow - fromRow > 1 && (toRow - fromRow) * years > AGGREGATION_LEAF_CELLS) {
+                int middle = (fromRow + toRow) >>> 1;
+                NonWeekendCountTask upper = new NonWeekendCountTask(
+                    calendars, weekendDays, counts, countryTotals, middle, toRow);
+                upper.fork();
+                int[] yearTotals = new NonWeekendCountTask(
+                    calendars, weekendDays, counts, countryTotals, fromRow, middle).compute();
+                int[] upperTotals = upper.join();
+                for (int column = 0; column < years; column++) {
+                    yearTotals[column] += upperTotals[column];
+                }
+                return yearTotals;
+            }
+
+            int[] yearTotals = new int[years];
+            for (int row = fromRow; row < toRow; row++) {
+                int countryTotal = 0;
+                for (int column = 0; column < years; column++) {
+                    HolidayCalendar calendar = calendars[row][column];
+                    int count = calendar == null ? 0 : calendar.countHolidaysExcluding(weekendDays[row][column]);
+                    counts[row][column] = count;
+                    countryTotal += count;
+                    yearTotals[column] += count;
+                }
+                countryTotals[row] = countryTotal;
+            }
+            return yearTotals;
+        }
+    }
+
+    /**
+     * Counts the days shared by a range of countries with themselves and every later country, filling both
+     * halves of the symmetric matrix, and collects the dates of each pair when asked to. Ranges covering more
+     * than {@link #AGGREGATION_LEAF_CELLS} pairs are split in two. Each task writes only its own rows and the
+     * mirrored cells of those rows, so tasks share no cell.
+     */
+    @SuppressWarnings("serial") // Fork-join tasks are never serialized
+    private static final class SharedDayCountTask extends RecursiveAction {
+
+        private final int year;
+        private final long[] days;
+        private final int[][] counts;
+        private final List<List<List<LocalDate>>> sharedDates;
+        private final int fromRow;
+        private final int toRow;
+
+        private SharedDayCountTask(int year, long[] days, int[][] counts, List<List<List<LocalDate>>> sharedDates,
+                                   int fromRow, int toRow) {
+            this.year = year;
+            this.days = days;
+            this.counts = counts;
+            this.sharedDates = sharedDates;
+            this.fromRow = fromRow;
+            this.toRow = toRow;
+        }
+
+        @Override
+        protected void compute() {
+            int countries = counts.length;
+            // Row r covers the pairs (r, r..countries-1)
+            long pairs = (long) (toRow - fromRow) * (2L * countries - fromRow - toRow + 1) / 2;
+            if (toRow - fromRow > 1 && pairs > AGGREGATION_LEAF_CELLS) {
+                int middle = (fromRow + toRow) >>> 1;
+                invokeAll(new SharedDayCountTask(year, days, counts, sharedDates, fromRow, middle),
+                    new SharedDayCountTask(year, days, counts, sharedDates, middle, toRow));
+                return;
+            }
+
+            for (int row = fromRow; row < toRow; row++) {
+                int rowOffset = row * HolidayCalendar.WORDS;
+                List<List<LocalDate>> rowDates = sharedDates != null ? new ArrayList<>(countries - row - 1) : null;
+                for (int column = row; column < countries; column++) {
+                    int columnOffset = column * HolidayCalendar.WORDS;
+                    int count = 0;
+                    for (int w = 0; w < HolidayCalendar.WORDS; w++) {
+                        count += Long.bitCount(days[rowOffset + w] & days[columnOffset + w]);
+                    }
+                    counts[row][column] = count;
+                    counts[column][row] = count;
+                    if (rowDates != null && column > row) {
+                        rowDates.add(datesOf(rowOffset, columnOffset, count));
+                    }
+                }
+                if (sharedDates != null) {
+                    sharedDates.set(row, rowDates);
+                }
+            }
+        }
+
+        private List<LocalDate> datesOf(int rowOffset, int columnOffset, int count) {
+            List<LocalDate> dates = new ArrayList<>(count);
+            for (int w = 0; w < HolidayCalendar.WORDS; w++) {
+                long shared = days[rowOffset + w] & days[columnOffset + w];
+                while (shared != 0) {
+                    dates.add(LocalDate.ofYearDay(year, (w << 6) + Long.numberOfTrailingZeros(shared) + 1));
+                    shared &= shared - 1;
+                }
+            }
+            return dates;
+        }
+    }
+
+    /**
+     * Returns the country's weekend days in the given year as a day-of-year bitset. Masks are computed once
+     * per weekend definition and year, and shared by every country resting on the same days.
+     *
+     * @param locationCode the country, or a subdivision of the country, whose weekend applies
+     * @param year the year
+     * @return the weekend mask
+     */
+    private long[] weekendMask(String locationCode, int year) {
+        String countryCode = countryOf(locationCode);
+        int weekendBits = weekendRules.weekendBits(countryCode, year);
+        long key = ((long) weekendBits << 32) | (year & 0xFFFFFFFFL);
+        long[] mask = weekendMasks.get(key);
+        if (mask == null) {
+            // Racing threads compute the same mask, so the last write wins harmlessly
+            mask = HolidayCalendar.daysOfWeekMask(year, weekendRules.weekendOf(countryCode, year));
+            weekendMasks.put(key, mask);
+        }
+        return mask;
+    }
+
+    /**
+     * Returns the holiday calendar of a country, or of a subdivision given as an ISO 3166-2 code: the calendar
+     * of its country narrowed to the holidays observed in the subdivision.
+     *
+     * @param year the year
+     * @param locationCode a country code such as {@code DE} or a subdivision code such as {@code DE-BY}
+     * @return future completed with the calendar, or null if the provider has none; failed with a 404
+     *         {@link HolidayProviderException} if the subdivision is unknown
+     */
+    private CompletableFuture<HolidayCalendar> calendarOf(int year, String locationCode) {
+        String countryCode = countryOf(locationCode);
+        if (countryCode.equals(locationCode)) {
+            return holidayProvider.getHolidayCalendarAsync(year, countryCode);
+        }
+        RequestPriority priority = RequestPriority.current();
+        return holidayProvider.getHolidayCalendarAsync(year, countryCode).thenCompose(calendar -> {
+            if (calendar == null) {
+                return CompletableFuture.completedFuture(null);
+            }
+            SubdivisionCalendars subdivisions = subdivisionCalendars.get(calendar, null);
+            HolidayCalendar subdivision = subdivisions.get(locationCode);
+            if (subdivision != null) {
+                return CompletableFuture.completedFuture(subdivision);
+            }
+            // No regional holiday this year: a known subdivision observes the nationwide ones alone
+            return requireKnownSubdivision(countryCode, locationCode, priority)
+                .thenApply(ignored -> subdivisions.getNationwide());
+        });
+    }
+
+    /**
+     * Checks a subdivision code against those listed in any year of its country seen so far, and failing that
+     * against the country's current year, so that a valid code does not depend on the years a query walks.
+     *
+     * @return future completed once the code is known; failed with a 404 {@link HolidayProviderException}
+     *         if the current year does not list it either
+     */
+    private CompletableFuture<Void> requireKnownSubdivision(String countryCode, String subdivisionCode,
+                                                            RequestPriority priority) {
+        if (knownSubdivisions.contains(subdivisionCode)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        int currentYear = LocalDate.now().getYear();
+        return priority.call(() -> holidayProvider.getHolidayCalendarAsync(currentYear, countryCode))
+            .thenApply(calendar -> {
+                if (calendar != null) {
+                    subdivisionCalendars.get(calendar, null);
+                }
+                if (!knownSubdivisions.contains(subdivisionCode)) {
+                    throw new HolidayProviderException("Unknown subdivision " + subdivisionCode, 404);
+                }
+                return null;
+            });
+    }
+
+    /**
+     * Indexes a country calendar's subdivisions and records their codes as known.
+     */
+    private SubdivisionCalendars indexSubdivisions(HolidayCalendar calendar) {
+        SubdivisionCalendars subdivisions = SubdivisionCalendars.of(calendar);
+        knownSubdivisions.addAll(subdivisions.getSubdivisionCodes());
+        return subdivisions;
     }
 
     /**
-     * Checks if a holiday falls on a weekday (Monday-Friday).
+     * Returns the country whose holidays answer a query for the given code: the code itself for a country,
+     * the part before the hyphen for an ISO 3166-2 subdivision.
      *
-     * @param holiday the holiday to check
-     * @return true if the holiday is on a weekday
+     * @param locationCode a country code such as {@code DE} or a subdivision code such as {@code DE-BY}
+     * @return the country code
      */
-    private boolean isWeekday(PublicHoliday holiday) {
-        DayOfWeek dayOfWeek = holiday.getDate().getDayOfWeek();
-        // TODO: Islamic countries may have different holidays, need to check this
-        return dayOfWeek != DayOfWeek.SATURDAY && dayOfWeek != DayOfWeek.SUNDAY;
+    public static String countryOf(String locationCode) {
+        int separator = locationCode.indexOf('-');
+        return separator < 0 ? locationCode : locationCode.substring(0, separator);
     }
 }
@@ -0,0 +1,95 @@
+package com.accenture.assessment.service;
+
+import com.accenture.assessment.model.HolidayCalendar;
+import com.accenture.assessment.model.PublicHoliday;
+
+import java.util.List;
+
+/**
+ * Estimates the heap retained by one cached (country, year) entry, in bytes.
+ * <p>
+ * Sizes assume a 64-bit JVM with compressed references: 12-byte object headers, 4-byte references
+ * and 8-byte alignment. Strings are counted as Latin-1 unless they hold wider characters. A string or
+ * list shared between entries, such as the decoder's pooled names and types, is counted in every entry
+ * referencing it, so the estimate errs high and a byte budget is never exceeded because of sharing.
+ */
+final class HolidayWeigher {
+
+    private static final int HEADER = 12;
+    private static final int REFERENCE = 4;
+    private static final int ARRAY_HEADER = 16;
+
+    /** Cache entry with its refresh flag. */
+    private static final long ENTRY_OVERHEAD = align(HEADER + 2 * REFERENCE + 4 * Long.BYTES) + align(HEADER + 4);
+    private static final long HOLIDAY = align(HEADER + 9 * REFERENCE);
+    private static final long LOCAL_DATE = align(HEADER + 4 + 2 + 2);
+    private static final long INTEGER = align(HEADER + 4);
+    /** Calendar with its two day bitsets and the unmodifiable list view over its holiday array. */
+    private static final long CALENDAR = align(HEADER + 4 + 5 * REFERENCE)
+        + 2 * align(ARRAY_HEADER + (long) HolidayCalendar.WORDS * Long.BYTES)
+        + align(HEADER + REFERENCE) + align(HEADER + 2 * REFERENCE);
+
+    private HolidayWeigher() {
+    }
+
+    /**
+     * @param calendar the cached calendar, the only holder of its holidays
+     * @return the estimated retained size in bytes
+     */
+    static long weigh(HolidayCalendar calendar) {
+        long weight = ENTRY_OVERHEAD + CALENDAR
+            + referenceArray(calendar.getHolidayCount())
+            + align(ARRAY_HEADER + (long) (calendar.getDayCount() + 1) * Integer.BYTES);
+        for (PublicHoliday holiday : calendar.getHolidays()) {
+            weight += weigh(holiday);
+        }
+        return weight;
+    }
+
+    private static long weigh(PublicHoliday holiday) {
+        long weight = HOLIDAY;
+        if (holiday.getDate() != null) {
+            weight += LOCAL_DATE;
+        }
+        weight += weigh(holiday.getLocalName()) + weigh(holiday.getName()) + weigh(holiday.getCountryCode());
+        weight += weigh(holiday.getCounties()) + weigh(holiday.getTypes());
+        // Boolean.TRUE and FALSE are shared constants, so only the launch year is boxed per holiday
+        if (holiday.getLaunchYear() != null) {
+            weight += INTEGER;
+        }
+        return weight;
+    }
+
+    private static long weigh(List<String> values) {
+        if (values == null) {
+            return 0;
+        }
+        long weight = align(HEADER + REFERENCE + 4) + referenceArray(values.size());
+        for (String value : values) {
+            weight += weigh(value);
+        }
+        return weight;
+    }
+
+    private static long weigh(String value) {
+        if (value == null) {
+            return 0;
+        }
+        int bytesPerChar = 1;
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 0xFF) {
+                bytesPerChar = 2;
+                break;
+            }
+        }
+        return align(HEADER + REFERENCE + 4 + 4) + align(ARRAY_HEADER + (long) value.length() * bytesPerChar);
+    }
+
+    private static long referenceArray(int length) {
+        return align(ARRAY_HEADER + (long) length * REFERENCE);
+    }
+
+    private static long align(long size) {
+        return (size + 7) & ~7L;
+    }
+}
@@ -0,0 +1,188 @@
+package com.accenture.assessment.service;
+
+/**
+ * Map from primitive {@code long} keys to values, with lock-free reads that allocate nothing.
+ * <p>
+ * Entries live in an open-addressing table of parallel key and value arrays probed linearly.
+ * The table is copy-on-write: readers follow one volatile reference to an immutable snapshot,
+ * while writers serialize on this map, copy the snapshot with their change applied and publish it.
+ * This suits caches that are read far more often than written; each write costs a copy of the table.
+ *
+ * @param <V> the value type; values cannot be null
+ */
+final class LongKeyedTable<V> {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private volatile Snapshot snapshot = new Snapshot(MIN_CAPACITY);
+
+    /**
+     * @return the value mapped to the key, or null if there is none
+     */
+    @SuppressWarnings("unchecked")
+    V get(long key) {
+        Snapshot table = snapshot;
+        int mask = table.keys.length - 1;
+        for (int slot = spread(key) & mask; ; slot = (slot + 1) & mask) {
+            Object value = table.values[slot];
+            if (value == null) {
+                return null;
+            }
+            if (table.keys[slot] == key) {
+                return (V) value;
+            }
+        }
+    }
+
+    /**
+     * Maps the key to the value, replacing any previous value.
+     *
+     * @return the previous value, or null if there was none
+     */
+    @SuppressWarnings("unchecked")
+    synchronized V put(long key, V value) {
+        Snapshot table = snapshot;
+        int slot = table.find(key);
+        Snapshot copy;
+        V previous = null;
+        if (slot >= 0) {
+            previous = (V) table.values[slot];
+            copy = table.copy(table.keys.length);
+            copy.values[slot] = value;
+        } else {
+            copy = table.copy(capacityFor(table.size + 1));
+            copy.insert(key, value);
+        }
+        snapshot = copy;
+        return previous;
+    }
+
+    /**
+     * Replaces the key's value only while it is still {@code expected}.
+     *
+     * @return whether the value was replaced
+     */
+    synchronized boolean replace(long key, V expected, V value) {
+        Snapshot table = snapshot;
+        int slot = table.find(key);
+        if (slot < 0 || table.values[slot] != expected) {
+            return false;
+        }
+        Snapshot copy = table.copy(table.keys.length);
+        copy.values[slot] = value;
+        snapshot = copy;
+        return true;
+    }
+
+    /**
+     * Removes the key only while it is still mapped to {@code expected}.
+     *
+     * @return whether the key was removed
+     */
+    synchronized boolean remove(long key, V expected) {
+        Snapshot table = snapshot;
+        int slot = table.find(key);
+        if (slot < 0 || table.values[slot] != expected) {
+            return false;
+        }
+        // Rebuilding without the key keeps probe sequences intact without tombstones
+        Snapshot copy = new Snapshot(capacityFor(table.size - 1));
+        for (int i = 0; i < table.keys.length; i++) {
+            if (table.values[i] != null && i != slot) {
+                copy.insert(table.keys[i], table.values[i]);
+            }
+        }
+        snapshot = copy;
+        return true;
+    }
+
+    int size() {
+        return snapshot.size;
+    }
+
+    /**
+     * Visits every entry of the current snapshot. Writes made during the visit are not seen.
+     */
+    @SuppressWarnings("unchecked")
+    void forEach(EntryVisitor<? super V> visitor) {
+        Snapshot table = snapshot;
+        for (int i = 0; i < table.keys.length; i++) {
+            Object value = table.values[i];
+            if (value != null) {
+                visitor.visit(table.keys[i], (V) value);
+            }
+        }
+    }
+
+    /**
+     * Keeps the table at most half full, so probe sequences stay short.
+     */
+    private static int capacityFor(int size) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < size * 2) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static int spread(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    @FunctionalInterface
+    interface EntryVisitor<V> {
+        void visit(long key, V value);
+    }
+
+    private static final class Snapshot {
+
+        private final long[] keys;
+        private final Object[] values;
+        private int size;
+
+        private Snapshot(int capacity) {
+            this.keys = new long[capacity];
+            this.values = new Object[capacity];
+        }
+
+        private int find(long key) {
+            int mask = keys.length - 1;
+            for (int slot = spread(key) & mask; ; slot = (slot + 1) & mask) {
+                if (values[slot] == null) {
+                    return -1;
+                }
+                if (keys[slot] == key) {
+                    return slot;
+                }
+            }
+        }
+
+        private void insert(long key, Object value) {
+            int mask = keys.length - 1;
+            int slot = spread(key) & mask;
+            while (values[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            values[slot] = value;
+            size++;
+        }
+
+        private Snapshot copy(int capacity) {
+            Snapshot copy = new Snapshot(capacity);
+            if (capacity == keys.length) {
+                System.arraycopy(keys, 0, copy.keys, 0, keys.length);
+                System.arraycopy(values, 0, copy.values, 0, values.length);
+                copy.size = size;
+            } else {
+                for (int i = 0; i < keys.length; i++) {
+                    if (values[i] != null) {
+                        copy.insert(keys[i], values[i]);
+                    }
+                }
+            }
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package com.accenture.assessment.service;
+
+import com.accenture.assessment.model.PublicHoliday;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Streaming decoder for Nager.Date {@code PublicHolidays} responses.
+ * <p>
+ * Reads the JSON token by token straight into {@link PublicHoliday} instances instead of going
+ * through data binding. Strings are deduplicated through a bounded pool, so the country code,
+ * names and type names repeated across responses and cached years share one instance, and the
+ * {@code types} and {@code counties} lists are canonical immutable lists. Fields the model does
+ * not know are skipped without being materialised.
+ */
+public final class NagerHolidayDecoder {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    /**
+     * Upper bound on canonical lists kept; beyond it new lists are returned without being pooled.
+     */
+    private static final int MAX_CANONICAL_LISTS = 4_096;
+
+    private static final StringPool STRINGS = new StringPool(8_192);
+    private static final Map<List<String>, List<String>> CANONICAL_LISTS = new ConcurrentHashMap<>();
+
+    private NagerHolidayDecoder() {
+    }
+
+    /**
+     * @param json a response body
+     * @return the decoded holidays, or null if the body is empty or the JSON {@code null}
+     * @throws IOException if the body is not a JSON array of holidays
+     */
+    public static List<PublicHoliday> decode(byte[] json) throws IOException {
+        if (json.length == 0) {
+            return null;
+        }
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            return decode(parser);
+        }
+    }
+
+    /**
+     * @param json a response body stream, which is not closed
+     * @return the decoded holidays, or null if the body is empty or the JSON {@code null}
+     * @throws IOException if the body is not a JSON array of holidays
+     */
+    public static List<PublicHoliday> decode(InputStream json) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            return decode(parser);
+        }
+    }
+
+    /**
+     * Decodes an {@code AvailableCountries} response, keeping only the country codes.
+     *
+     * @param json a response body stream, which is not closed
+     * @return the country codes in response order, or null if the body is empty or the JSON {@code null}
+     * @throws IOException if the body is not a JSON array of countries
+     */
+    public static List<String> decodeCountryCodes(InputStream json) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            JsonToken token = parser.nextToken();
+            if (token == null || token == JsonToken.VALUE_NULL) {
+                return null;
+            }
+            expect(parser, token, JsonToken.START_ARRAY);
+
+            List<String> countryCodes = new ArrayList<>(128);
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                expect(parser, token, JsonToken.START_OBJECT);
+                String field;
+                while ((field = parser.nextFieldName()) != null) {
+                    JsonToken value = parser.nextToken();
+                    if (field.equals("countryCode")) {
+                        String countryCode = readString(parser, value);
+                        if (countryCode != null) {
+                            countryCodes.add(countryCode);
+                        }
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            }
+            return countryCodes;
+        }
+    }
+
+    private static List<PublicHoliday> decode(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == null || token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expect(parser, token, JsonToken.START_ARRAY);
+
+        List<PublicHoliday> holidays = new ArrayList<>(32);
+        List<String> listBuffer = new ArrayList<>(8);
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            expect(parser, token, JsonToken.START_OBJECT);
+            holidays.add(decodeHoliday(parser, listBuffer));
+        }
+        return holidays;
+    }
+
+    private static PublicHoliday decodeHoliday(JsonParser parser, List<String> listBuffer) throws IOException {
+        PublicHoliday holiday = new PublicHoliday();
+        String field;
+        // Field names are canonicalised by the parser, so the switch compares interned strings
+        while ((field = parser.nextFieldName()) != null) {
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "date" -> holiday.setDate(readDate(parser, value));
+                case "localName" -> holiday.setLocalName(readString(parser, value));
+                case "name" -> holiday.setName(readString(parser, value));
+                case "countryCode" -> holiday.setCountryCode(readString(parser, value));
+                case "fixed" -> holiday.setFixed(readBoolean(value));
+                case "global" -> holiday.setGlobal(readBoolean(value));
+                case "counties" -> holiday.setCounties(readStrings(parser, value, listBuffer));
+                case "launchYear" -> holiday.setLaunchYear(value == JsonToken.VALUE_NUMBER_INT ? parser.getIntValue() : null);
+                case "types" -> holiday.setTypes(readStrings(parser, value, listBuffer));
+                default -> parser.skipChildren();
+            }
+        }
+        return holiday;
+    }
+
+    private static String readString(JsonParser parser, JsonToken value) throws IOException {
+        if (value != JsonToken.VALUE_STRING) {
+            parser.skipChildren();
+            return null;
+        }
+        return STRINGS.get(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+    }
+
+    private static Boolean readBoolean(JsonToken value) {
+        if (value == JsonToken.VALUE_TRUE) {
+            return Boolean.TRUE;
+        }
+        return value == JsonToken.VALUE_FALSE ? Boolean.FALSE : null;
+    }
+
+    private static List<String> readStrings(JsonParser parser, JsonToken value, List<String> buffer) throws IOException {
+        if (value != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return null;
+        }
+        buffer.clear();
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            buffer.add(readString(parser, token));
+        }
+        if (buffer.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> canonical = CANONICAL_LISTS.get(buffer);
+        if (canonical != null) {
+            return canonical;
+        }
+        // List.copyOf rejects nulls; a null element is kept in a plain unmodifiable copy
+        List<String> copy = buffer.contains(null)
+            ? Collections.unmodifiableList(new ArrayList<>(buffer))
+            : List.copyOf(buffer);
+        if (CANONICAL_LISTS.size() >= MAX_CANONICAL_LISTS) {
+            return copy;
+        }
+        List<String> existing = CANONICAL_LISTS.putIfAbsent(copy, copy);
+        return existing != null ? existing : copy;
+    }
+
+    /**
+     * Parses {@code yyyy-MM-dd} straight from the parser's buffer, falling back to
+     * {@link LocalDate#parse} for anything else.
+     */
+    private static LocalDate readDate(JsonParser parser, JsonToken value) throws IOException {
+        if (value != JsonToken.VALUE_STRING) {
+            parser.skipChildren();
+            return null;
+        }
+        char[] chars = parser.getTextCharacters();
+        int offset = parser.getTextOffset();
+        if (parser.getTextLength() == 10 && chars[offset + 4] == '-' && chars[offset + 7] == '-') {
+            int year = digits(chars, offset, 4);
+            int month = digits(chars, offset + 5, 2);
+            int day = digits(chars, offset + 8, 2);
+            if (year >= 0 && month >= 0 && day >= 0) {
+                return LocalDate.of(year, month, day);
+            }
+        }
+        return LocalDate.parse(parser.getText());
+    }
+
+    private static int digits(char[] chars, int offset, int length) {
+        int value = 0;
+        for (int i = offset; i < offset + length; i++) {
+            int digit = chars[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+
+    /**
+     * Lossy, fixed-size string deduplication table looked up by character range, so a repeated
+     * string costs no allocation. A collision replaces the slot; the table never grows.
+     * Racy slot writes are harmless because strings are immutable and safely published.
+     */
+    static final class StringPool {
+
+        private final String[] slots;
+        private final int mask;
+
+        StringPool(int size) {
+            if (Integer.bitCount(size) != 1) {
+                throw new IllegalArgumentException("Size must be a power of two: " + size);
+            }
+            this.slots = new String[size];
+            this.mask = size - 1;
+        }
+
+        String get(char[] chars, int offset, int length) {
+            int hash = 0;
+            for (int i = offset; i < offset + length; i++) {
+                hash = 31 * hash + chars[i];
+            }
+            int slot = (hash ^ (hash >>> 16)) & mask;
+
+            String pooled = slots[slot];
+            if (pooled != null && matches(pooled, chars, offset, length)) {
+                return pooled;
+            }
+            String value = new String(chars, offset, length);
+            slots[slot] = value;
+            return value;
+        }
+
+        private static boolean matches(String pooled, char[] chars, int offset, int length) {
+            if (pooled.length() != length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (pooled.charAt(i) != chars[offset + i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
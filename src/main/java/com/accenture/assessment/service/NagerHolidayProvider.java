@@ -1,39 +1,236 @@
 package com.accenture.assessment.service;
 
+import com.accenture.assessment.config.NagerProperties;
 import com.accenture.assessment.model.PublicHoliday;
-import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.zip.GZIPInputStream;
 
 /**
  * Holiday Provider using Nager.Date public holidays API.
+ * <p>
+ * Requests share one {@link HttpClient}, which keeps connections alive between fetches and
+ * negotiates HTTP/2 where the server supports it, so the TLS handshake is paid once rather than
+ * per request. Responses are requested gzip-compressed, every request is bounded by the configured
+ * timeouts. Bodies are decoded by the streaming {@link NagerHolidayDecoder}.
+ * <p>
+ * Every request waits for a permit from the shared {@link UpstreamRequestScheduler}, which enforces the
+ * rate limit and connection cap and admits requests by the caller's {@link RequestPriority}. Asynchronous
+ * fetches wait for their permit and their response without occupying a fetch thread: they are sent with
+ * {@link HttpClient#sendAsync}, and only the response is decoded on the fetch executor. The synchronous
+ * methods block the calling thread on the response.
+ * <p>
+ * Every request is timed in the {@code holiday.upstream.requests} histogram, tagged by outcome.
  */
 @Component
 public class NagerHolidayProvider implements HolidayProvider {
 
-    private static final String BASE_URL = "https://date.nager.at/api/v3";
-    private final RestTemplate restTemplate;
+    private final NagerProperties properties;
+    private final HttpClient httpClient;
+    private final UpstreamRequestScheduler scheduler;
+    private final Executor fetchExecutor;
+    private final MeterRegistry meterRegistry;
 
-    public NagerHolidayProvider() {
-        this.restTemplate = new RestTemplate();
+    public NagerHolidayProvider(NagerProperties properties,
+                                @Qualifier("holidayFetchExecutor") Executor fetchExecutor,
+                                UpstreamRequestScheduler scheduler,
+                                MeterRegistry meterRegistry) {
+        this.properties = properties;
+        // The client keeps its own executor: sharing the fetch pool could leave every fetch thread
+        // blocked on a response that needs a pool thread to be delivered
+        this.httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .connectTimeout(properties.getConnectTimeout())
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+        this.scheduler = scheduler;
+        this.fetchExecutor = fetchExecutor;
+        this.meterRegistry = meterRegistry;
     }
 
     @Override
     public List<PublicHoliday> getPublicHolidays(int year, String countryCode) {
-        String url = String.format("%s/PublicHolidays/%d/%s", BASE_URL, year, countryCode);
+        scheduler.acquireBlocking(RequestPriority.current());
+        try {
+            return fetchPublicHolidays(year, countryCode);
+        } finally {
+            scheduler.release();
+        }
+    }
 
-        ResponseEntity<List<PublicHoliday>> response = restTemplate.exchange(
-            url,
-            HttpMethod.GET,
-            null,
-                new ParameterizedTypeReference<>() {
+    @Override
+    public CompletableFuture<List<PublicHoliday>> getPublicHolidaysAsync(int year, String countryCode) {
+        // The priority belongs to the calling thread, so the permit is requested before switching threads
+        CompletableFuture<Void> permit = scheduler.acquire(RequestPriority.current());
+        return permit.thenCompose(granted -> fetchPublicHolidaysAsync(year, countryCode))
+            .whenComplete((holidays, error) -> {
+                // However the fetch ended, a granted permit is returned once; a failed acquire holds none
+                if (!permit.isCompletedExceptionally()) {
+                    scheduler.release();
                 }
-        );
+            });
+    }
+
+    /**
+     * Fetches the codes of every country Nager.Date has holidays for.
+     *
+     * @return the country codes in the order listed by the API
+     */
+    public List<String> getAvailableCountryCodes() {
+        HttpResponse<byte[]> response;
+        scheduler.acquireBlocking(RequestPriority.current());
+        try {
+            response = send(request(URI.create(properties.getBaseUrl() + "/AvailableCountries")));
+        } finally {
+            scheduler.release();
+        }
+        int status = response.statusCode();
+        if (status < 200 || status >= 300) {
+            throw new HolidayProviderException("Nager.Date returned " + status + " for available countries", status);
+        }
+        List<String> countryCodes = decode(response, NagerHolidayDecoder::decodeCountryCodes);
+        return countryCodes == null ? List.of() : countryCodes;
+    }
+
+    /**
+     * Sends the request for one (country, year) pair; the caller holds a scheduler permit.
+     */
+    private List<PublicHoliday> fetchPublicHolidays(int year, String countryCode) {
+        HttpRequest request = request(holidaysUri(year, countryCode));
+        Timer.Sample sample = Timer.start(meterRegistry);
+        HttpResponse<byte[]> response;
+        try {
+            response = send(request);
+        } catch (RuntimeException e) {
+            recordRequest(sample, "error");
+            throw e;
+        }
+        return readHolidays(response, year, countryCode, sample);
+    }
+
+    /**
+     * Asynchronous variant of {@link #fetchPublicHolidays(int, String)}; the caller holds a scheduler permit
+     * until the returned future completes.
+     */
+    private CompletableFuture<List<PublicHoliday>> fetchPublicHolidaysAsync(int year, String countryCode) {
+        HttpRequest request = request(holidaysUri(year, countryCode));
+        Timer.Sample sample = Timer.start(meterRegistry);
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+            .handleAsync((response, error) -> {
+                if (error != null) {
+                    recordRequest(sample, "error");
+                    throw failure(request, Futures.unwrap(error));
+                }
+                return readHolidays(response, year, countryCode, sample);
+            }, fetchExecutor);
+    }
+
+    private URI holidaysUri(int year, String countryCode) {
+        return URI.create(String.format("%s/PublicHolidays/%d/%s", properties.getBaseUrl(), year, countryCode));
+    }
+
+    /**
+     * Checks the response status and decodes the holidays, recording the request's outcome.
+     */
+    private List<PublicHoliday> readHolidays(HttpResponse<byte[]> response, int year, String countryCode,
+                                             Timer.Sample sample) {
+        String outcome = "error";
+        try {
+            int status = response.statusCode();
+            if (status < 200 || status >= 300) {
+                outcome = status >= 400 && status < 500 ? "client_error" : "server_error";
+                throw new HolidayProviderException(
+                    String.format("Nager.Date returned %d for %s %d", status, countryCode, year), status);
+            }
+
+            List<PublicHoliday> holidays = decode(response, NagerHolidayDecoder::decode);
+            outcome = "success";
+            return holidays;
+        } finally {
+            recordRequest(sample, outcome);
+        }
+    }
+
+    private void recordRequest(Timer.Sample sample, String outcome) {
+        sample.stop(Timer.builder("holiday.upstream.requests")
+            .description("Latency of Nager.Date public holiday requests")
+            .tag("outcome", outcome)
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .publishPercentileHistogram()
+            .register(meterRegistry));
+    }
+
+    private HttpRequest request(URI uri) {
+        return HttpRequest.newBuilder(uri)
+            .timeout(properties.getRequestTimeout())
+            .header("Accept", "application/json")
+            .header("Accept-Encoding", "gzip")
+            .GET()
+            .build();
+    }
+
+    private HttpResponse<byte[]> send(HttpRequest request) {
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            throw failure(request, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new HolidayProviderException("Interrupted while requesting " + request.uri(), e);
+        }
+    }
+
+    /**
+     * Wraps the failure of a request that got no response.
+     */
+    private static HolidayProviderException failure(HttpRequest request, Throwable error) {
+        if (error instanceof HolidayProviderException providerError) {
+            return providerError;
+        }
+        if (error instanceof HttpTimeoutException) {
+            return new HolidayProviderException("Timed out requesting " + request.uri(), error);
+        }
+        // Connection failures often carry no message, so fall back to the exception type
+        String reason = error.getMessage() != null ? error.getMessage() : error.getClass().getSimpleName();
+        return new HolidayProviderException("Unable to request " + request.uri() + ": " + reason, error);
+    }
+
+    /**
+     * Decodes the response body, or returns null when it is empty.
+     */
+    private static <T> T decode(HttpResponse<byte[]> response, BodyDecoder<T> decoder) {
+        byte[] body = response.body();
+        if (body == null || body.length == 0) {
+            return null;
+        }
+        boolean gzipped = response.headers().firstValue("Content-Encoding")
+            .map(encoding -> encoding.equalsIgnoreCase("gzip"))
+            .orElse(false);
+        try (InputStream in = gzipped
+            ? new GZIPInputStream(new ByteArrayInputStream(body))
+            : new ByteArrayInputStream(body)) {
+            return decoder.decode(in);
+        } catch (IOException e) {
+            throw new HolidayProviderException("Invalid response from " + response.uri() + ": " + e.getMessage(), e);
+        }
+    }
 
-        return response.getBody();
+    @FunctionalInterface
+    private interface BodyDecoder<T> {
+        T decode(InputStream in) throws IOException;
     }
 }
@@ -0,0 +1,143 @@
+package com.accenture.assessment.service;
+
+import com.accenture.assessment.model.PublicHoliday;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Holiday Provider serving a local dataset instead of the Nager.Date API, for air-gapped
+ * deployments and benchmarks.
+ * <p>
+ * The dataset is either a directory of Nager-shaped responses laid out as {@code <year>/<CC>.json},
+ * or a binary record file such as the one written by the disk cache tier. Either way every file is
+ * memory-mapped and indexed once when the provider is created; lookups decode straight from the
+ * mapping without further file system calls.
+ * <p>
+ * A country absent from the dataset fails like an unknown country upstream, with a 404
+ * {@link HolidayProviderException}; a year missing for a known country returns null.
+ */
+public class OfflineHolidayProvider implements HolidayProvider, Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(OfflineHolidayProvider.class);
+    private static final String JSON_SUFFIX = ".json";
+
+    private final Map<String, MappedByteBuffer> jsonFiles;
+    private final HolidayRecordFile recordFile;
+    private final Set<String> countryCodes;
+
+    /**
+     * @param dataset a {@code <year>/<CC>.json} directory or a binary record file
+     */
+    public OfflineHolidayProvider(Path dataset) {
+        long start = System.nanoTime();
+        if (Files.isDirectory(dataset)) {
+            this.jsonFiles = indexDirectory(dataset);
+            this.recordFile = null;
+            this.countryCodes = new HashSet<>();
+            for (String key : jsonFiles.keySet()) {
+                countryCodes.add(key.substring(key.indexOf(':') + 1));
+            }
+        } else {
+            this.jsonFiles = Map.of();
+            this.recordFile = HolidayRecordFile.open(dataset, false);
+            this.countryCodes = recordFile.countryCodes();
+        }
+
+        log.info("Indexed {} offline holiday entries for {} countries from {} in {} ms",
+            getEntryCount(), countryCodes.size(), dataset, Duration.ofNanos(System.nanoTime() - start).toMillis());
+    }
+
+    @Override
+    public List<PublicHoliday> getPublicHolidays(int year, String countryCode) {
+        if (!countryCodes.contains(countryCode)) {
+            throw new HolidayProviderException("No offline holiday data for country " + countryCode, 404);
+        }
+        if (recordFile != null) {
+            return recordFile.read(year, countryCode);
+        }
+
+        MappedByteBuffer file = jsonFiles.get(key(year, countryCode));
+        if (file == null) {
+            return null;
+        }
+        try {
+            return NagerHolidayDecoder.decode(new ByteBufferBackedInputStream(file.duplicate()));
+        } catch (IOException e) {
+            throw new HolidayProviderException("Invalid offline holiday data for " + countryCode + " " + year
+                + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @return the number of (year, country) entries in the dataset
+     */
+    public int getEntryCount() {
+        return recordFile != null ? recordFile.size() : jsonFiles.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (recordFile != null) {
+            recordFile.close();
+        }
+    }
+
+    private static Map<String, MappedByteBuffer> indexDirectory(Path directory) {
+        Map<String, MappedByteBuffer> files = new HashMap<>();
+        try (DirectoryStream<Path> years = Files.newDirectoryStream(directory, Files::isDirectory)) {
+            for (Path yearDirectory : years) {
+                Integer year = parseYear(yearDirectory.getFileName().toString());
+                if (year == null) {
+                    continue;
+                }
+                try (DirectoryStream<Path> countries = Files.newDirectoryStream(yearDirectory, "*" + JSON_SUFFIX)) {
+                    for (Path file : countries) {
+                        String name = file.getFileName().toString();
+                        String countryCode = name.substring(0, name.length() - JSON_SUFFIX.length()).toUpperCase(Locale.ROOT);
+                        files.put(key(year, countryCode), map(file));
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to index offline holiday dataset " + directory, e);
+        }
+        return files;
+    }
+
+    private static MappedByteBuffer map(Path file) throws IOException {
+        // The mapping stays valid after the channel is closed
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    private static Integer parseYear(String name) {
+        try {
+            return Integer.valueOf(name);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String key(int year, String countryCode) {
+        return year + ":" + countryCode;
+    }
+}
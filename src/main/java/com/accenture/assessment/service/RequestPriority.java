@@ -0,0 +1,59 @@
+package com.accenture.assessment.service;
+
+import java.util.function.Supplier;
+
+/**
+ * Priority classes of upstream holiday requests, highest first.
+ * <p>
+ * The priority is scoped to the calling thread: code running background work wraps its provider calls in
+ * {@link #call(Supplier)}, and the {@link UpstreamRequestScheduler} reads {@link #current()} when the
+ * upstream request is submitted. Calls made outside any scope are {@link #INTERACTIVE}.
+ */
+public enum RequestPriority {
+
+    /**
+     * A user is waiting for the answer: command line and HTTP queries.
+     */
+    INTERACTIVE,
+
+    /**
+     * Bulk queries from batch mode.
+     */
+    BATCH,
+
+    /**
+     * Work nobody waits on: cache warm-up and background refreshes.
+     */
+    BACKGROUND;
+
+    private static final ThreadLocal<RequestPriority> CURRENT = new ThreadLocal<>();
+
+    /**
+     * @return the priority of upstream requests made by the calling thread
+     */
+    public static RequestPriority current() {
+        RequestPriority priority = CURRENT.get();
+        return priority != null ? priority : INTERACTIVE;
+    }
+
+    /**
+     * Runs the action with this priority for the upstream requests it submits from the calling thread.
+     * Requests submitted later from other threads, e.g. in completion callbacks, are not covered.
+     *
+     * @param action the action to run
+     * @return the action's result
+     */
+    public <T> T call(Supplier<T> action) {
+        RequestPriority previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return action.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+}
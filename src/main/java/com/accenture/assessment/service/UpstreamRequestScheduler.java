@@ -0,0 +1,273 @@
+package com.accenture.assessment.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Admits upstream requests under a rate limit and a concurrency cap, highest {@link RequestPriority} first.
+ * <p>
+ * Callers {@link #acquire(RequestPriority) acquire} a permit before sending a request and {@link #release()}
+ * it once the response has arrived. A permit is granted while fewer than {@code maxConcurrentRequests}
+ * are in flight and the token bucket, refilled at {@code requestsPerSecond} up to {@code burst} tokens,
+ * holds a token. Waiting requests are queued per priority class and granted strictly in priority order,
+ * first come first served within a class, so interactive requests overtake queued batch and background
+ * work. Permits are handed out as futures, so asynchronous callers wait without holding a thread.
+ * <p>
+ * Queue depth and the time spent waiting for a permit are published per priority as
+ * {@code holiday.upstream.queue.depth} and {@code holiday.upstream.queue.wait}.
+ */
+public class UpstreamRequestScheduler implements AutoCloseable {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final int maxConcurrentRequests;
+    private final double tokensPerNano;
+    private final double burst;
+    private final LongSupplier nanoClock;
+    private final Map<RequestPriority, ArrayDeque<Waiter>> queues;
+    private final Map<RequestPriority, Timer> waitTimers;
+    private final ScheduledExecutorService refillTimer;
+    private final Object lock;
+    private int inFlight;
+    private double tokens;
+    private long lastRefill;
+    private boolean refillScheduled;
+    private boolean closed;
+
+    /**
+     * @param maxConcurrentRequests the maximum number of permits held at once
+     * @param requestsPerSecond     the sustained rate permits are granted at; zero or less is unlimited
+     * @param burst                 the number of permits that can be granted at once after a quiet period
+     * @param meterRegistry         the registry queue metrics are published to
+     */
+    public UpstreamRequestScheduler(int maxConcurrentRequests, double requestsPerSecond, int burst,
+                                    MeterRegistry meterRegistry) {
+        this(maxConcurrentRequests, requestsPerSecond, burst, meterRegistry, System::nanoTime);
+    }
+
+    UpstreamRequestScheduler(int maxConcurrentRequests, double requestsPerSecond, int burst,
+                             MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        if (maxConcurrentRequests < 1) {
+            throw new IllegalArgumentException("maxConcurrentRequests must be at least 1, got " + maxConcurrentRequests);
+        }
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.tokensPerNano = requestsPerSecond > 0 ? requestsPerSecond / NANOS_PER_SECOND : 0;
+        this.burst = Math.max(1, burst);
+        this.nanoClock = nanoClock;
+        this.lock = new Object();
+        this.tokens = this.burst;
+        this.lastRefill = nanoClock.getAsLong();
+        this.queues = new EnumMap<>(RequestPriority.class);
+        this.waitTimers = new EnumMap<>(RequestPriority.class);
+        for (RequestPriority priority : RequestPriority.values()) {
+            ArrayDeque<Waiter> queue = new ArrayDeque<>();
+            queues.put(priority, queue);
+            String tag = priority.name().toLowerCase(Locale.ROOT);
+            Gauge.builder("holiday.upstream.queue.depth", this, scheduler -> scheduler.queueDepth(priority))
+                .tag("priority", tag)
+                .description("Upstream requests waiting for a permit.")
+                .register(meterRegistry);
+            waitTimers.put(priority, Timer.builder("holiday.upstream.queue.wait")
+                .tag("priority", tag)
+                .description("Time upstream requests waited for a permit.")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry));
+        }
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("holiday-upstream-scheduler-");
+        threadFactory.setDaemon(true);
+        this.refillTimer = Executors.newSingleThreadScheduledExecutor(threadFactory);
+    }
+
+    /**
+     * Queues a request for a permit. The caller must {@link #release()} a granted permit exactly once;
+     * a permit cancelled before it is granted is never granted.
+     *
+     * @param priority the request's priority class
+     * @return a future completed when the permit is granted
+     */
+    public CompletableFuture<Void> acquire(RequestPriority priority) {
+        Waiter waiter = new Waiter(priority, nanoClock.getAsLong());
+        synchronized (lock) {
+            if (closed) {
+                return CompletableFuture.failedFuture(new HolidayProviderException(
+                    "Upstream request scheduler is closed", HolidayProviderException.NO_STATUS));
+            }
+            queues.get(priority).add(waiter);
+        }
+        dispatch();
+        return waiter.permit;
+    }
+
+    /**
+     * Waits for a permit on the calling thread.
+     *
+     * @param priority the request's priority class
+     * @throws HolidayProviderException if the thread is interrupted or the scheduler closes while waiting
+     */
+    public void acquireBlocking(RequestPriority priority) {
+        CompletableFuture<Void> permit = acquire(priority);
+        try {
+            permit.get();
+        } catch (InterruptedException e) {
+            // A permit granted while the thread was being interrupted is handed back
+            if (!permit.cancel(false) && !permit.isCompletedExceptionally()) {
+                release();
+            }
+            Thread.currentThread().interrupt();
+            throw new HolidayProviderException("Interrupted while waiting to request the upstream", e);
+        } catch (ExecutionException e) {
+            Throwable cause = Futures.unwrap(e);
+            throw cause instanceof RuntimeException runtimeException
+                ? runtimeException
+                : new HolidayProviderException("Unable to acquire an upstream permit", cause);
+        }
+    }
+
+    /**
+     * Returns a granted permit, letting the next queued request through.
+     */
+    public void release() {
+        synchronized (lock) {
+            inFlight--;
+        }
+        dispatch();
+    }
+
+    /**
+     * @param priority a priority class
+     * @return the number of requests of that class waiting for a permit
+     */
+    public int queueDepth(RequestPriority priority) {
+        synchronized (lock) {
+            return queues.get(priority).size();
+        }
+    }
+
+    /**
+     * Fails every queued request and rejects new ones.
+     */
+    @Override
+    public void close() {
+        List<Waiter> pending = new ArrayList<>();
+        synchronized (lock) {
+            closed = true;
+            for (ArrayDeque<Waiter> queue : queues.values()) {
+                pending.addAll(queue);
+                queue.clear();
+            }
+        }
+        refillTimer.shutdownNow();
+        for (Waiter waiter : pending) {
+            waiter.permit.completeExceptionally(new HolidayProviderException(
+                "Upstream request scheduler is closed", HolidayProviderException.NO_STATUS));
+        }
+    }
+
+    /**
+     * Grants permits to queued requests while slots and tokens allow. Futures are completed outside the lock,
+     * since their callbacks may run inline and start further requests.
+     */
+    private void dispatch() {
+        List<Waiter> granted = new ArrayList<>();
+        synchronized (lock) {
+            while (!closed && inFlight < maxConcurrentRequests) {
+                ArrayDeque<Waiter> queue = nextQueue();
+                if (queue == null) {
+                    break;
+                }
+                long waitNanos = takeToken();
+                if (waitNanos > 0) {
+                    scheduleDispatch(waitNanos);
+                    break;
+                }
+                inFlight++;
+                granted.add(queue.poll());
+            }
+        }
+
+        long now = nanoClock.getAsLong();
+        for (Waiter waiter : granted) {
+            waitTimers.get(waiter.priority).record(now - waiter.queuedAt, TimeUnit.NANOSECONDS);
+            if (!waiter.permit.complete(null)) {
+                // Cancelled while being granted: hand the slot to the next request
+                release();
+            }
+        }
+    }
+
+    /**
+     * @return the highest priority queue with a live waiter at its head, dropping cancelled waiters
+     */
+    private ArrayDeque<Waiter> nextQueue() {
+        for (RequestPriority priority : RequestPriority.values()) {
+            ArrayDeque<Waiter> queue = queues.get(priority);
+            while (!queue.isEmpty() && queue.peek().permit.isDone()) {
+                queue.poll();
+            }
+            if (!queue.isEmpty()) {
+                return queue;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Takes a token from the bucket.
+     *
+     * @return zero if a token was taken, otherwise the nanoseconds until the next token is available
+     */
+    private long takeToken() {
+        if (tokensPerNano == 0) {
+            return 0;
+        }
+        long now = nanoClock.getAsLong();
+        tokens = Math.min(burst, tokens + (now - lastRefill) * tokensPerNano);
+        lastRefill = now;
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return Math.max(1, (long) Math.ceil((1 - tokens) / tokensPerNano));
+    }
+
+    private void scheduleDispatch(long delayNanos) {
+        if (refillScheduled) {
+            return;
+        }
+        refillScheduled = true;
+        refillTimer.schedule(() -> {
+            synchronized (lock) {
+                refillScheduled = false;
+            }
+            dispatch();
+        }, delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static final class Waiter {
+
+        private final RequestPriority priority;
+        private final long queuedAt;
+        private final CompletableFuture<Void> permit;
+
+        private Waiter(RequestPriority priority, long queuedAt) {
+            this.priority = priority;
+            this.queuedAt = queuedAt;
+            this.permit = new CompletableFuture<>();
+        }
+    }
+}
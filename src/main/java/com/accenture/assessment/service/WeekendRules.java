@@ -0,0 +1,165 @@
+package com.accenture.assessment.service;
+
+import java.time.DayOfWeek;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Days of the week each country rests on, by year.
+ * <p>
+ * Countries without a definition of their own use the default weekend, Saturday and Sunday unless configured
+ * otherwise. {@link #standard()} knows the countries whose weekend differs, such as the Friday and Saturday
+ * weekend of most Gulf states, and when those countries moved their weekend: Saudi Arabia rested on Thursday
+ * and Friday before 2013, and the United Arab Emirates moved from Thursday and Friday to Friday and Saturday
+ * in 2006, then to Saturday and Sunday in 2022. A change applies from the start of the year it took effect.
+ * Instances are immutable.
+ */
+public final class WeekendRules {
+
+    /**
+     * The weekend of most countries.
+     */
+    public static final Set<DayOfWeek> SATURDAY_SUNDAY =
+        Collections.unmodifiableSet(EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY));
+
+    private static final Set<DayOfWeek> THURSDAY_FRIDAY = EnumSet.of(DayOfWeek.THURSDAY, DayOfWeek.FRIDAY);
+    private static final Set<DayOfWeek> FRIDAY_SATURDAY = EnumSet.of(DayOfWeek.FRIDAY, DayOfWeek.SATURDAY);
+
+    private static final Map<String, NavigableMap<Integer, Set<DayOfWeek>>> STANDARD_COUNTRY_WEEKENDS = Map.ofEntries(
+        Map.entry("AE", history(THURSDAY_FRIDAY, 2006, FRIDAY_SATURDAY, 2022, SATURDAY_SUNDAY)),
+        Map.entry("AF", history(THURSDAY_FRIDAY)),
+        Map.entry("BD", history(FRIDAY_SATURDAY)),
+        Map.entry("BH", history(THURSDAY_FRIDAY, 2006, FRIDAY_SATURDAY)),
+        Map.entry("DZ", history(THURSDAY_FRIDAY, 2009, FRIDAY_SATURDAY)),
+        Map.entry("EG", history(FRIDAY_SATURDAY)),
+        Map.entry("IL", history(FRIDAY_SATURDAY)),
+        Map.entry("IQ", history(FRIDAY_SATURDAY)),
+        Map.entry("IR", history(EnumSet.of(DayOfWeek.FRIDAY))),
+        Map.entry("JO", history(THURSDAY_FRIDAY, 2000, FRIDAY_SATURDAY)),
+        Map.entry("KW", history(THURSDAY_FRIDAY, 2007, FRIDAY_SATURDAY)),
+        Map.entry("LY", history(FRIDAY_SATURDAY)),
+        Map.entry("MV", history(FRIDAY_SATURDAY)),
+        Map.entry("NP", history(EnumSet.of(DayOfWeek.SATURDAY))),
+        Map.entry("OM", history(THURSDAY_FRIDAY, 2013, FRIDAY_SATURDAY)),
+        Map.entry("QA", history(THURSDAY_FRIDAY, 2003, FRIDAY_SATURDAY)),
+        Map.entry("SA", history(THURSDAY_FRIDAY, 2013, FRIDAY_SATURDAY)),
+        Map.entry("SD", history(FRIDAY_SATURDAY)),
+        Map.entry("SY", history(THURSDAY_FRIDAY, 2004, FRIDAY_SATURDAY)),
+        Map.entry("YE", history(THURSDAY_FRIDAY, 2013, FRIDAY_SATURDAY)));
+
+    private static final WeekendRules STANDARD = new WeekendRules(history(SATURDAY_SUNDAY), STANDARD_COUNTRY_WEEKENDS);
+
+    private final NavigableMap<Integer, Set<DayOfWeek>> defaultWeekend;
+    private final Map<String, NavigableMap<Integer, Set<DayOfWeek>>> countryWeekends;
+
+    /**
+     * @param defaultWeekend  the weekend of countries without a definition of their own
+     * @param countryWeekends the weekend of each country by ISO 3166-1 alpha-2 code, case-insensitive,
+     *                        applying to every year
+     */
+    public WeekendRules(Set<DayOfWeek> defaultWeekend, Map<String, Set<DayOfWeek>> countryWeekends) {
+        this(history(defaultWeekend), allYears(countryWeekends));
+    }
+
+    private WeekendRules(NavigableMap<Integer, Set<DayOfWeek>> defaultWeekend,
+                         Map<String, NavigableMap<Integer, Set<DayOfWeek>>> countryWeekends) {
+        this.defaultWeekend = defaultWeekend;
+        this.countryWeekends = new HashMap<>();
+        countryWeekends.forEach((countryCode, weekends) ->
+            this.countryWeekends.put(countryCode.toUpperCase(Locale.ROOT), weekends));
+    }
+
+    /**
+     * @return Saturday and Sunday, except for the countries known to rest on other days
+     */
+    public static WeekendRules standard() {
+        return STANDARD;
+    }
+
+    /**
+     * @param defaultWeekend the weekend of countries without a definition of their own, in every year
+     * @return rules with the given default and the same country definitions
+     */
+    public WeekendRules withDefaultWeekend(Set<DayOfWeek> defaultWeekend) {
+        return new WeekendRules(history(defaultWeekend), countryWeekends);
+    }
+
+    /**
+     * @param overrides weekends replacing or adding to the country definitions, in every year
+     * @return rules with the overrides applied
+     */
+    public WeekendRules withCountryWeekends(Map<String, Set<DayOfWeek>> overrides) {
+        Map<String, NavigableMap<Integer, Set<DayOfWeek>>> merged = new HashMap<>(countryWeekends);
+        merged.putAll(allYears(overrides));
+        return new WeekendRules(defaultWeekend, merged);
+    }
+
+    /**
+     * @param countryCode the ISO 3166-1 alpha-2 country code
+     * @param year the year
+     * @return the days of the week the country rests on in that year
+     */
+    public Set<DayOfWeek> weekendOf(String countryCode, int year) {
+        return countryWeekends.getOrDefault(countryCode.toUpperCase(Locale.ROOT), defaultWeekend)
+            .floorEntry(year)
+            .getValue();
+    }
+
+    /**
+     * @param countryCode the ISO 3166-1 alpha-2 country code
+     * @param year the year
+     * @return the country's weekend in that year as a 7-bit set, bit {@code DayOfWeek.getValue() - 1} per day
+     */
+    int weekendBits(String countryCode, int year) {
+        int bits = 0;
+        for (DayOfWeek day : weekendOf(countryCode, year)) {
+            bits |= 1 << (day.getValue() - 1);
+        }
+        return bits;
+    }
+
+    private static Map<String, NavigableMap<Integer, Set<DayOfWeek>>> allYears(Map<String, Set<DayOfWeek>> weekends) {
+        Map<String, NavigableMap<Integer, Set<DayOfWeek>>> histories = new HashMap<>();
+        weekends.forEach((countryCode, weekend) ->
+            histories.put(countryCode.toUpperCase(Locale.ROOT), history(weekend)));
+        return histories;
+    }
+
+    private static NavigableMap<Integer, Set<DayOfWeek>> history(Set<DayOfWeek> weekend) {
+        NavigableMap<Integer, Set<DayOfWeek>> history = new TreeMap<>();
+        history.put(Integer.MIN_VALUE, immutableCopy(weekend));
+        return Collections.unmodifiableNavigableMap(history);
+    }
+
+    private static NavigableMap<Integer, Set<DayOfWeek>> history(Set<DayOfWeek> weekend, int changeYear,
+                                                                  Set<DayOfWeek> changedWeekend) {
+        NavigableMap<Integer, Set<DayOfWeek>> history = new TreeMap<>(history(weekend));
+        history.put(changeYear, immutableCopy(changedWeekend));
+        return Collections.unmodifiableNavigableMap(history);
+    }
+
+    private static NavigableMap<Integer, Set<DayOfWeek>> history(Set<DayOfWeek> weekend, int firstChangeYear,
+                                                                  Set<DayOfWeek> firstChangedWeekend,
+                                                                  int secondChangeYear,
+                                                                  Set<DayOfWeek> secondChangedWeekend) {
+        NavigableMap<Integer, Set<DayOfWeek>> history =
+            new TreeMap<>(history(weekend, firstChangeYear, firstChangedWeekend));
+        history.put(secondChangeYear, immutableCopy(secondChangedWeekend));
+        return Collections.unmodifiableNavigableMap(history);
+    }
+
+    private static Set<DayOfWeek> immutableCopy(Set<DayOfWeek> days) {
+        return Collections.unmodifiableSet(days.isEmpty() ? EnumSet.noneOf(DayOfWeek.class) : EnumSet.copyOf(days));
+    }
+
+    @Override
+    public String toString() {
+        return "WeekendRules{default=" + defaultWeekend + ", countries=" + countryWeekends + '}';
+    }
+}
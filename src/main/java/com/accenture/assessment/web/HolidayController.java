@@ -0,0 +1,167 @@
+package com.accenture.assessment.web;
+
+import com.accenture.assessment.model.CountryHolidayCount;
+import com.accenture.assessment.model.NonWeekendHolidayMatrix;
+import com.accenture.assessment.model.PublicHoliday;
+import com.accenture.assessment.model.SharedHoliday;
+import com.accenture.assessment.model.SharedHolidayMatrix;
+import com.accenture.assessment.service.HolidayProviderException;
+import com.accenture.assessment.service.HolidayService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * HTTP API for the holiday and business-day queries.
+ * <p>
+ * Handlers return the service's futures, so Spring MVC completes the response through servlet
+ * async processing: a request waiting on an upstream fetch holds no request thread, and the
+ * number of requests in flight is not bounded by the size of the server's thread pool.
+ * <p>
+ * Country codes may also be ISO 3166-2 subdivision codes such as {@code DE-BY}; see {@link HolidayService}.
+ * Unknown country and subdivision codes are answered with 404.
+ */
+@RestController
+@RequestMapping("/api/holidays")
+public class HolidayController {
+
+    private final HolidayService holidayService;
+
+    public HolidayController(HolidayService holidayService) {
+        this.holidayService = holidayService;
+    }
+
+    /**
+     * {@code GET /api/holidays/{countryCode}/last?count=3&before=2024-06-01}
+     */
+    @GetMapping("/{countryCode}/last")
+    public CompletableFuture<List<PublicHoliday>> getLastCelebratedHolidays(
+            @PathVariable String countryCode,
+            @RequestParam(defaultValue = "3") int count,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate before) {
+        return holidayService.getLastCelebratedHolidaysAsync(normalize(countryCode), count,
+            before != null ? before : LocalDate.now());
+    }
+
+    /**
+     * {@code GET /api/holidays/{countryCode}/next?count=3&from=2024-06-01}
+     */
+    @GetMapping("/{countryCode}/next")
+    public CompletableFuture<List<PublicHoliday>> getUpcomingHolidays(
+            @PathVariable String countryCode,
+            @RequestParam(defaultValue = "3") int count,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from) {
+        return holidayService.getUpcomingHolidaysAsync(normalize(countryCode), count,
+            from != null ? from : LocalDate.now());
+    }
+
+    /**
+     * {@code GET /api/holidays/{countryCode}/business-days/add?date=2024-12-20&days=5}; negative days move backwards.
+     */
+    @GetMapping("/{countryCode}/business-days/add")
+    public CompletableFuture<LocalDate> addBusinessDays(
+            @PathVariable String countryCode,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam int days) {
+        return holidayService.addBusinessDaysAsync(normalize(countryCode), date, days);
+    }
+
+    /**
+     * {@code GET /api/holidays/{countryCode}/business-days/count?from=2024-01-01&to=2025-01-01}; {@code to} is exclusive.
+     */
+    @GetMapping("/{countryCode}/business-days/count")
+    public CompletableFuture<Integer> countBusinessDays(
+            @PathVariable String countryCode,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return holidayService.countBusinessDaysAsync(normalize(countryCode), from, to);
+    }
+
+    /**
+     * {@code GET /api/holidays/non-weekend-count?year=2024&countries=US,GB}
+     */
+    @GetMapping("/non-weekend-count")
+    public CompletableFuture<List<CountryHolidayCount>> getNonWeekendHolidayCount(
+            @RequestParam int year,
+            @RequestParam List<String> countries) {
+        return holidayService.getNonWeekendHolidayCountAsync(year, normalize(countries));
+    }
+
+    /**
+     * {@code GET /api/holidays/non-weekend-count/matrix?from=2005&to=2024&countries=US,GB}
+     */
+    @GetMapping("/non-weekend-count/matrix")
+    public CompletableFuture<NonWeekendHolidayMatrix> getNonWeekendHolidayCounts(
+            @RequestParam int from,
+            @RequestParam int to,
+            @RequestParam List<String> countries) {
+        return holidayService.getNonWeekendHolidayCountsAsync(normalize(countries), from, to);
+    }
+
+    /**
+     * {@code GET /api/holidays/shared?year=2024&countries=US,GB,DE&min=2}; without {@code min}
+     * only dates shared by every country are returned.
+     */
+    @GetMapping("/shared")
+    public CompletableFuture<List<SharedHoliday>> getSharedHolidays(
+            @RequestParam int year,
+            @RequestParam List<String> countries,
+            @RequestParam(required = false) Integer min) {
+        List<String> countryCodes = normalize(countries);
+        return min == null
+            ? holidayService.getSharedHolidaysAsync(year, countryCodes)
+            : holidayService.getSharedHolidaysAsync(year, countryCodes, min);
+    }
+
+    /**
+     * {@code GET /api/holidays/shared/matrix?year=2024&countries=US,GB,DE&dates=true}; without {@code dates}
+     * only the number of shared dates of each pair is returned.
+     */
+    @GetMapping("/shared/matrix")
+    public CompletableFuture<SharedHolidayMatrix> getSharedHolidayMatrix(
+            @RequestParam int year,
+            @RequestParam List<String> countries,
+            @RequestParam(defaultValue = "false") boolean dates) {
+        return holidayService.getSharedHolidayMatrixAsync(year, normalize(countries), dates);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ProblemDetail handleInvalidArgument(IllegalArgumentException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+
+    /**
+     * An unknown key (e.g. an unknown country or subdivision code) is reported as not found, an upstream
+     * asking to be called later (timeout, rate limiting) as service unavailable, and any other upstream
+     * failure as a bad gateway.
+     */
+    @ExceptionHandler(HolidayProviderException.class)
+    public ProblemDetail handleProviderFailure(HolidayProviderException e) {
+        HttpStatus status = e.isUnknownKey() ? HttpStatus.NOT_FOUND
+            : e.isRetryLater() ? HttpStatus.SERVICE_UNAVAILABLE : HttpStatus.BAD_GATEWAY;
+        return ProblemDetail.forStatusAndDetail(status, e.getMessage());
+    }
+
+    private static String normalize(String countryCode) {
+        return countryCode.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private static List<String> normalize(List<String> countryCodes) {
+        return countryCodes.stream()
+            .map(String::trim)
+            .filter(code -> !code.isEmpty())
+            .map(code -> code.toUpperCase(Locale.ROOT))
+            .toList();
+    }
+}
@@ -0,0 +1,207 @@
+package com.accenture.assessment.batch;
+
+import com.accenture.assessment.model.PublicHoliday;
+import com.accenture.assessment.service.CachedHolidayProvider;
+import com.accenture.assessment.service.HolidayProvider;
+import com.accenture.assessment.service.HolidayProviderException;
+import com.accenture.assessment.service.HolidayService;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for HolidayBatchProcessor.
+ */
+class HolidayBatchProcessorTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+        .addModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+        .build();
+
+    private final Map<String, AtomicInteger> fetches = new ConcurrentHashMap<>();
+    private HolidayProvider upstream;
+    private CachedHolidayProvider cache;
+    private HolidayService holidayService;
+
+    @BeforeEach
+    void setUp() {
+        upstream = (year, countryCode) -> {
+            fetches.computeIfAbsent(year + ":" + countryCode, key -> new AtomicInteger()).incrementAndGet();
+            if (countryCode.equals("ZZ")) {
+                throw new HolidayProviderException("Nager.Date returned 404 for ZZ " + year, 404);
+            }
+            if (countryCode.equals("DE")) {
+                PublicHoliday assumption = holiday(LocalDate.of(year, 8, 15), "Assumption Day DE", countryCode);
+                assumption.setCounties(List.of("DE-BY", "DE-SL"));
+                return List.of(
+                    holiday(LocalDate.of(year, 1, 1), "New Year's Day " + countryCode, countryCode),
+                    assumption,
+                    holiday(LocalDate.of(year, 12, 25), "Christmas Day " + countryCode, countryCode));
+            }
+            return List.of(
+                holiday(LocalDate.of(year, 1, 1), "New Year's Day " + countryCode, countryCode),
+                holiday(LocalDate.of(year, 12, 25), "Christmas Day " + countryCode, countryCode));
+        };
+        cache = new CachedHolidayProvider(upstream, 100);
+        holidayService = new HolidayService(cache);
+    }
+
+    @Test
+    void testAnswersEveryLineAndFetchesEachPairOnce() throws IOException {
+        String input = """
+            {"id":"a","query":"shared","year":2024,"countries":["US","GB"]}
+            {"id":"b","query":"shared","year":2024,"countries":["us","gb"]}
+            {"query":"non-weekend-count","year":2024,"countries":["US","GB","DE"]}
+
+            {"query":"last","country":"DE","count":1,"before":"2024-06-01"}
+            """;
+
+        List<JsonNode> results = run(processor(100, 100), input);
+
+        assertEquals(4, results.size());
+        assertEquals(List.of(1L, 2L, 3L, 5L), results.stream().map(node -> node.get("line").asLong()).toList());
+        assertEquals("a", results.get(0).get("id").asText());
+        assertEquals("b", results.get(1).get("id").asText());
+        assertEquals(results.get(0).get("result"), results.get(1).get("result"));
+        assertEquals("2024-01-01", results.get(0).get("result").get(0).get("date").asText());
+        assertEquals(3, results.get(2).get("result").size());
+        assertEquals("New Year's Day DE", results.get(3).get("result").get(0).get("localName").asText());
+
+        assertEquals(3, fetches.size());
+        assertTrue(fetches.values().stream().allMatch(count -> count.get() == 1), fetches.toString());
+    }
+
+    @Test
+    void testPrefetchesSubdivisionsThroughTheirCountry() throws IOException {
+        String input = """
+            {"query":"shared","year":2024,"countries":["DE-BY","DE-SL","DE"]}
+            {"query":"last","country":"DE-BY","count":1,"before":"2024-12-01"}
+            """;
+
+        List<JsonNode> results = run(processor(100, 100), input);
+
+        assertEquals(2, results.size());
+        // The country's calendar lists every regional holiday, so all three share the Assumption Day too
+        assertEquals(3, results.get(0).get("result").size());
+        assertEquals("Assumption Day DE", results.get(1).get("result").get(0).get("localName").asText());
+        // Only the country is sent upstream, once
+        assertEquals(1, fetches.size(), fetches.toString());
+        assertEquals(1, fetches.get("2024:DE").get());
+    }
+
+    @Test
+    void testReportsInvalidAndFailedQueriesPerLine() throws IOException {
+        String input = """
+            {"query":"shared","year":2024,"countries":["US","ZZ"]}
+            not json
+            {"query":"shared","year":2024,"countries":["US"],"min":3}
+            {"query":"unknown"}
+            {"query":"non-weekend-count","countries":["US"]}
+            {"query":"last","country":"US","before":"2024-06-01"}
+            {"id":"n1","query":"shared","year":2024,"countries":["US",null]}
+            """;
+
+        HolidayBatchProcessor processor = processor(100, 100);
+        StringWriter output = new StringWriter();
+        HolidayBatchProcessor.Summary summary = processor.process(new BufferedReader(new StringReader(input)), output);
+        List<JsonNode> results = parse(output);
+
+        assertEquals(7, summary.queries());
+        assertEquals(6, summary.failed());
+        assertTrue(results.get(0).get("error").asText().contains("404"));
+        assertTrue(results.get(1).get("error").asText().startsWith("Invalid query"));
+        assertTrue(results.get(2).get("error").asText().contains("minCountries"));
+        assertTrue(results.get(3).get("error").asText().contains("Unknown query type"));
+        assertEquals("Missing field: year", results.get(4).get("error").asText());
+        // Defaults to the last 3, walking back into 2023
+        assertEquals(3, results.get(5).get("result").size());
+        assertEquals("n1", results.get(6).get("id").asText());
+        assertEquals("Invalid query: Country codes must not be null", results.get(6).get("error").asText());
+    }
+
+    @Test
+    void testChunksByDistinctPairsSoTheyFitInTheCache() throws IOException {
+        StringBuilder input = new StringBuilder();
+        List<String> countries = List.of("AA", "BB", "CC", "DD", "EE", "FF");
+        for (int repeat = 0; repeat < 3; repeat++) {
+            for (String country : countries) {
+                input.append("{\"query\":\"last\",\"country\":\"").append(country)
+                    .append("\",\"count\":1,\"before\":\"2024-06-01\"}\n");
+            }
+        }
+        cache = new CachedHolidayProvider(upstream, 2);
+        holidayService = new HolidayService(cache);
+
+        HolidayBatchProcessor.Summary summary = processor(1_000, 2).process(
+            new BufferedReader(new StringReader(input.toString())), new StringWriter());
+
+        assertEquals(18, summary.queries());
+        assertEquals(0, summary.failed());
+        // Each chunk needs at most two pairs, so its prefetched data is still cached when its queries run:
+        // one fetch per pair per chunk, i.e. once for each of the three passes over the countries
+        assertEquals(6, fetches.size());
+        assertTrue(fetches.values().stream().allMatch(count -> count.get() == 3), fetches.toString());
+    }
+
+    @Test
+    void testDeduplicatesWithinChunksOnly() throws IOException {
+        String line = "{\"query\":\"shared\",\"year\":2024,\"countries\":[\"US\",\"GB\"]}\n";
+
+        HolidayBatchProcessor.Summary summary = processor(2, 100).process(
+            new BufferedReader(new StringReader(line.repeat(5))), new StringWriter());
+
+        assertEquals(5, summary.queries());
+        assertEquals(3, summary.uniqueQueries());
+        assertEquals(1, fetches.get("2024:US").get());
+    }
+
+    private HolidayBatchProcessor processor(int chunkLines, int chunkPairs) {
+        return new HolidayBatchProcessor(holidayService, cache, objectMapper, chunkLines, chunkPairs, 4);
+    }
+
+    private List<JsonNode> run(HolidayBatchProcessor processor, String input) throws IOException {
+        StringWriter output = new StringWriter();
+        processor.process(new BufferedReader(new StringReader(input)), output);
+        return parse(output);
+    }
+
+    private List<JsonNode> parse(StringWriter output) throws IOException {
+        List<JsonNode> results = new ArrayList<>();
+        for (String line : output.toString().split("\n")) {
+            results.add(objectMapper.readTree(line));
+        }
+        // Results are written in completion order
+        results.sort(Comparator.comparingLong(node -> node.get("line").asLong()));
+        return results;
+    }
+
+    private static PublicHoliday holiday(LocalDate date, String localName, String countryCode) {
+        PublicHoliday holiday = new PublicHoliday();
+        holiday.setDate(date);
+        holiday.setLocalName(localName);
+        holiday.setName(localName);
+        holiday.setCountryCode(countryCode);
+        return holiday;
+    }
+}
@@ -0,0 +1,146 @@
+package com.accenture.assessment.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for HolidayCalendar.
+ */
+class HolidayCalendarTest {
+
+    @Test
+    void testContains_SetsOneBitPerHolidayDay() {
+        // Arrange
+        HolidayCalendar calendar = HolidayCalendar.of(2024, Arrays.asList(
+            createHoliday(LocalDate.of(2024, 12, 31), "Silvester"),
+            createHoliday(LocalDate.of(2024, 1, 1), "Neujahr"),
+            createHoliday(LocalDate.of(2024, 3, 4), "Day 64")
+        ));
+
+        // Assert - Covers the first and last bit of the leap year and a word boundary
+        assertTrue(calendar.contains(LocalDate.of(2024, 1, 1)));
+        assertTrue(calendar.contains(LocalDate.of(2024, 3, 4)));
+        assertTrue(calendar.contains(LocalDate.of(2024, 12, 31)));
+        assertFalse(calendar.contains(LocalDate.of(2024, 3, 5)));
+        assertFalse(calendar.contains(LocalDate.of(2025, 1, 1)));
+        assertEquals(3, calendar.getDayCount());
+        assertEquals(3, calendar.getHolidayCount());
+    }
+
+    @Test
+    void testHolidays_AreSortedByDateWithSameDayInProviderOrder() {
+        // Arrange
+        PublicHoliday first = createHoliday(LocalDate.of(2024, 10, 14), "Columbus Day");
+        PublicHoliday second = createHoliday(LocalDate.of(2024, 10, 14), "Indigenous Peoples' Day");
+        PublicHoliday earlier = createHoliday(LocalDate.of(2024, 7, 4), "Independence Day");
+
+        // Act
+        HolidayCalendar calendar = HolidayCalendar.of(2024, Arrays.asList(first, earlier, second));
+
+        // Assert
+        assertEquals(List.of(earlier, first, second), calendar.getHolidays());
+        assertEquals(List.of(first, second), calendar.getHolidaysOn(LocalDate.of(2024, 10, 14).getDayOfYear()));
+        assertEquals("Columbus Day", calendar.getLocalName(LocalDate.of(2024, 10, 14).getDayOfYear()));
+        assertNull(calendar.getLocalName(1));
+        assertEquals(2, calendar.getDayCount());
+        assertEquals(3, calendar.getHolidayCount());
+    }
+
+    @Test
+    void testHolidaysOutsideYear_AreIgnored() {
+        // Act
+        HolidayCalendar calendar = HolidayCalendar.of(2024, Arrays.asList(
+            createHoliday(LocalDate.of(2023, 12, 25), "Christmas Day"),
+            createHoliday(null, "Undated"),
+            createHoliday(LocalDate.of(2024, 12, 25), "Christmas Day")
+        ));
+
+        // Assert
+        assertEquals(1, calendar.getHolidayCount());
+    }
+
+    @Test
+    void testCountHolidaysExcluding_CountsEveryHolidayOnSharedDays() {
+        // Arrange - 2024-11-02 is a Saturday, 2024-11-04 a Monday
+        HolidayCalendar calendar = HolidayCalendar.of(2024, Arrays.asList(
+            createHoliday(LocalDate.of(2024, 11, 2), "Saturday Holiday"),
+            createHoliday(LocalDate.of(2024, 11, 4), "Monday Holiday"),
+            createHoliday(LocalDate.of(2024, 11, 4), "Another Monday Holiday"),
+            createHoliday(LocalDate.of(2024, 11, 5), "Tuesday Holiday")
+        ));
+        long[] weekend = HolidayCalendar.daysOfWeekMask(2024, EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY));
+
+        // Act
+        int count = calendar.countHolidaysExcluding(weekend);
+
+        // Assert
+        assertEquals(3, count);
+    }
+
+    @Test
+    void testCountHolidaysBefore_IndexesSortedHolidays() {
+        // Arrange
+        HolidayCalendar calendar = HolidayCalendar.of(2024, Arrays.asList(
+            createHoliday(LocalDate.of(2024, 1, 1), "Neujahr"),
+            createHoliday(LocalDate.of(2024, 3, 4), "Day 64"),
+            createHoliday(LocalDate.of(2024, 3, 4), "Also Day 64"),
+            createHoliday(LocalDate.of(2024, 12, 31), "Silvester")
+        ));
+
+        // Assert - Strictly before the date, holidays on a shared day counted individually
+        assertEquals(0, calendar.countHolidaysBefore(LocalDate.of(2024, 1, 1)));
+        assertEquals(1, calendar.countHolidaysBefore(LocalDate.of(2024, 1, 2)));
+        assertEquals(1, calendar.countHolidaysBefore(LocalDate.of(2024, 3, 4)));
+        assertEquals(3, calendar.countHolidaysBefore(LocalDate.of(2024, 3, 5)));
+        assertEquals(3, calendar.countHolidaysBefore(LocalDate.of(2024, 12, 31)));
+        assertEquals(0, calendar.countHolidaysBefore(LocalDate.of(2023, 12, 31)));
+        assertEquals(4, calendar.countHolidaysBefore(LocalDate.of(2025, 1, 1)));
+    }
+
+    @Test
+    void testDaysOfWeekMask_SelectsEveryMatchingDay() {
+        // Act
+        long[] leapYearSundays = HolidayCalendar.daysOfWeekMask(2024, EnumSet.of(DayOfWeek.SUNDAY));
+        long[] commonYearFridays = HolidayCalendar.daysOfWeekMask(2023, EnumSet.of(DayOfWeek.FRIDAY));
+
+        // Assert
+        assertEquals(52, Arrays.stream(leapYearSundays).map(Long::bitCount).sum());
+        assertEquals(52, Arrays.stream(commonYearFridays).map(Long::bitCount).sum());
+        // 2024-01-07 is the first Sunday of 2024 (day 7, bit 6)
+        assertEquals(1L << 6, leapYearSundays[0] & 0x7F);
+    }
+
+    @Test
+    void testGetWorkingDays_ExcludesHolidaysAndWeekendMask() {
+        // Arrange - 2024-07-04 is a Thursday
+        HolidayCalendar calendar = HolidayCalendar.of(2024, Arrays.asList(
+            createHoliday(LocalDate.of(2024, 7, 4), "Independence Day")));
+        long[] saturdaySunday = HolidayCalendar.daysOfWeekMask(2024, EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY));
+        long[] fridaySaturday = HolidayCalendar.daysOfWeekMask(2024, EnumSet.of(DayOfWeek.FRIDAY, DayOfWeek.SATURDAY));
+
+        // Act
+        WorkingDayTable first = calendar.getWorkingDays(saturdaySunday);
+        WorkingDayTable other = calendar.getWorkingDays(fridaySaturday);
+
+        // Assert
+        assertEquals(261, first.getWorkingDayCount());
+        assertFalse(first.isWorkingDay(LocalDate.of(2024, 7, 4).getDayOfYear()));
+        assertTrue(other.isWorkingDay(LocalDate.of(2024, 7, 7).getDayOfYear())); // Sunday
+    }
+
+    // Helper method to create a PublicHoliday for testing
+    private PublicHoliday createHoliday(LocalDate date, String localName) {
+        PublicHoliday holiday = new PublicHoliday();
+        holiday.setDate(date);
+        holiday.setLocalName(localName);
+        holiday.setName(localName);
+        return holiday;
+    }
+}
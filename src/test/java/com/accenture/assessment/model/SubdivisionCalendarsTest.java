@@ -0,0 +1,64 @@
+package com.accenture.assessment.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SubdivisionCalendars.
+ */
+class SubdivisionCalendarsTest {
+
+    @Test
+    void testOf_IndexesNationwideAndRegionalHolidays() {
+        // Arrange
+        PublicHoliday newYear = createHoliday(LocalDate.of(2024, 1, 1), "Neujahr");
+        PublicHoliday epiphany = createHoliday(LocalDate.of(2024, 1, 6), "Heilige Drei Könige");
+        epiphany.setCounties(List.of("DE-BW", "DE-BY", "DE-ST"));
+        PublicHoliday assumption = createHoliday(LocalDate.of(2024, 8, 15), "Mariä Himmelfahrt");
+        assumption.setCounties(List.of("DE-SL"));
+        HolidayCalendar calendar = HolidayCalendar.of(2024, Arrays.asList(assumption, epiphany, newYear));
+
+        // Act
+        SubdivisionCalendars subdivisions = SubdivisionCalendars.of(calendar);
+
+        // Assert
+        assertEquals(List.of(newYear, epiphany), subdivisions.get("DE-BY").getHolidays());
+        assertEquals(List.of(newYear, assumption), subdivisions.get("DE-SL").getHolidays());
+        assertEquals(List.of(newYear), subdivisions.getNationwide().getHolidays());
+        assertNull(subdivisions.get("DE-BE"));
+        assertEquals(Set.of("DE-BW", "DE-BY", "DE-SL", "DE-ST"), subdivisions.getSubdivisionCodes());
+        assertEquals(3, calendar.getHolidayCount());
+    }
+
+    @Test
+    void testOf_SameDayHolidaysKeepProviderOrder() {
+        // Arrange
+        PublicHoliday regional = createHoliday(LocalDate.of(2024, 11, 1), "Regional");
+        regional.setCounties(List.of("XX-A"));
+        PublicHoliday nationwide = createHoliday(LocalDate.of(2024, 11, 1), "Nationwide");
+
+        // Act
+        SubdivisionCalendars subdivisions =
+            SubdivisionCalendars.of(HolidayCalendar.of(2024, Arrays.asList(regional, nationwide)));
+
+        // Assert
+        HolidayCalendar subdivision = subdivisions.get("XX-A");
+        assertEquals(List.of(regional, nationwide), subdivision.getHolidays());
+        assertEquals("Regional", subdivision.getLocalName(LocalDate.of(2024, 11, 1).getDayOfYear()));
+    }
+
+    // Helper method to create a PublicHoliday for testing
+    private PublicHoliday createHoliday(LocalDate date, String localName) {
+        PublicHoliday holiday = new PublicHoliday();
+        holiday.setDate(date);
+        holiday.setLocalName(localName);
+        holiday.setName(localName);
+        return holiday;
+    }
+}
@@ -0,0 +1,60 @@
+package com.accenture.assessment.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.EnumSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for WorkingDayTable.
+ */
+class WorkingDayTableTest {
+
+    @Test
+    void testOf_MatchesDayByDayCount() {
+        // Arrange - Holidays on a Monday, a Saturday and across a word boundary; 2024 is a leap year
+        long[] holidayDays = new long[HolidayCalendar.WORDS];
+        for (LocalDate date : new LocalDate[]{
+                LocalDate.of(2024, 1, 1), LocalDate.of(2024, 3, 4), LocalDate.of(2024, 11, 2), LocalDate.of(2024, 12, 31)}) {
+            int bit = date.getDayOfYear() - 1;
+            holidayDays[bit >>> 6] |= 1L << bit;
+        }
+        long[] weekendDays = HolidayCalendar.daysOfWeekMask(2024, EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY));
+
+        // Act
+        WorkingDayTable table = WorkingDayTable.of(2024, holidayDays, weekendDays);
+
+        // Assert
+        int workingDays = 0;
+        for (int dayOfYear = 1; dayOfYear <= 366; dayOfYear++) {
+            assertEquals(workingDays, table.countWorkingDaysBefore(dayOfYear));
+            LocalDate date = LocalDate.ofYearDay(2024, dayOfYear);
+            boolean working = date.getDayOfWeek().getValue() < 6
+                && !date.equals(LocalDate.of(2024, 1, 1))
+                && !date.equals(LocalDate.of(2024, 3, 4))
+                && !date.equals(LocalDate.of(2024, 12, 31));
+            assertEquals(working, table.isWorkingDay(dayOfYear), date.toString());
+            if (working) {
+                workingDays++;
+                assertEquals(dayOfYear, table.nthWorkingDay(workingDays));
+            }
+        }
+        assertEquals(workingDays, table.getWorkingDayCount());
+        assertEquals(workingDays, table.countWorkingDaysBefore(367));
+        assertEquals(259, workingDays);
+    }
+
+    @Test
+    void testNthWorkingDay_RejectsRanksOutsideYear() {
+        long[] weekendDays = HolidayCalendar.daysOfWeekMask(2023, EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY));
+        WorkingDayTable table = WorkingDayTable.of(2023, new long[HolidayCalendar.WORDS], weekendDays);
+
+        assertEquals(2, table.nthWorkingDay(1)); // 2023-01-01 is a Sunday
+        assertEquals(363, table.nthWorkingDay(table.getWorkingDayCount())); // Friday 2023-12-29
+        assertThrows(IllegalArgumentException.class, () -> table.nthWorkingDay(0));
+        assertThrows(IllegalArgumentException.class, () -> table.nthWorkingDay(table.getWorkingDayCount() + 1));
+    }
+}
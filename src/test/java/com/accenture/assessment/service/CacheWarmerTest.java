@@ -0,0 +1,151 @@
+package com.accenture.assessment.service;
+
+import com.accenture.assessment.model.PublicHoliday;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CacheWarmer.
+ */
+class CacheWarmerTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testLoadsEveryCountryAndYearIntoCache() {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        CachedHolidayProvider cache = new CachedHolidayProvider((year, countryCode) -> {
+            upstreamCalls.incrementAndGet();
+            return holidays(year, countryCode);
+        });
+
+        CacheWarmer.Result result = new CacheWarmer(cache)
+            .warmUp(List.of("US", "GB", "DE", "US"), 2023, 2024, 2, Duration.ofSeconds(5));
+
+        assertTrue(result.completed());
+        assertEquals(6, result.requested());
+        assertEquals(6, result.loaded());
+        assertEquals(0, result.failed());
+
+        cache.getPublicHolidays(2023, "DE");
+        assertEquals(6, upstreamCalls.get());
+    }
+
+    @Test
+    void testNeverExceedsMaxConcurrency() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        HolidayProvider slowProvider = new HolidayProvider() {
+            @Override
+            public List<PublicHoliday> getPublicHolidays(int year, String countryCode) {
+                int current = inFlight.incrementAndGet();
+                maxInFlight.accumulateAndGet(current, Math::max);
+                try {
+                    Thread.sleep(10);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                inFlight.decrementAndGet();
+                return holidays(year, countryCode);
+            }
+
+            @Override
+            public CompletableFuture<List<PublicHoliday>> getPublicHolidaysAsync(int year, String countryCode) {
+                return CompletableFuture.supplyAsync(() -> getPublicHolidays(year, countryCode), executor);
+            }
+        };
+
+        CacheWarmer.Result result = new CacheWarmer(slowProvider)
+            .warmUp(List.of("US", "GB", "DE", "FR", "NL", "IT", "ES", "PT"), 2024, 2025, 3, null);
+
+        assertTrue(result.completed());
+        assertEquals(16, result.loaded());
+        assertTrue(maxInFlight.get() <= 3, "max in flight was " + maxInFlight.get());
+    }
+
+    @Test
+    void testCountsFailuresAndContinues() {
+        HolidayProvider provider = (year, countryCode) -> {
+            if (countryCode.equals("ZZ")) {
+                throw new HolidayProviderException("Unknown country", 404);
+            }
+            return holidays(year, countryCode);
+        };
+
+        CacheWarmer.Result result = new CacheWarmer(provider)
+            .warmUp(List.of("US", "ZZ", "GB"), 2024, 2024, 4, Duration.ofSeconds(5));
+
+        assertTrue(result.completed());
+        assertEquals(2, result.loaded());
+        assertEquals(1, result.failed());
+    }
+
+    @Test
+    void testReturnsPartiallyWarmedWhenBudgetRunsOut() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        HolidayProvider provider = new HolidayProvider() {
+            @Override
+            public List<PublicHoliday> getPublicHolidays(int year, String countryCode) {
+                return holidays(year, countryCode);
+            }
+
+            @Override
+            public CompletableFuture<List<PublicHoliday>> getPublicHolidaysAsync(int year, String countryCode) {
+                if (!countryCode.equals("US")) {
+                    return CompletableFuture.completedFuture(getPublicHolidays(year, countryCode));
+                }
+                return CompletableFuture.supplyAsync(() -> {
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return getPublicHolidays(year, countryCode);
+                }, executor);
+            }
+        };
+
+        long start = System.nanoTime();
+        CacheWarmer.Result result = new CacheWarmer(provider)
+            .warmUp(List.of("GB", "US", "DE"), 2024, 2024, 1, Duration.ofMillis(200));
+        release.countDown();
+
+        assertFalse(result.completed());
+        assertEquals(1, result.loaded());
+        assertEquals(0, result.failed());
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 2_000);
+    }
+
+    @Test
+    void testRejectsNonPositiveConcurrency() {
+        CacheWarmer warmer = new CacheWarmer((year, countryCode) -> List.of());
+
+        assertThrows(IllegalArgumentException.class,
+            () -> warmer.warmUp(List.of("US"), 2024, 2024, 0, null));
+    }
+
+    private static List<PublicHoliday> holidays(int year, String countryCode) {
+        PublicHoliday holiday = new PublicHoliday();
+        holiday.setDate(LocalDate.of(year, 1, 1));
+        holiday.setLocalName("New Year's Day");
+        holiday.setCountryCode(countryCode);
+        return List.of(holiday);
+    }
+}
@@ -1,19 +1,33 @@
 package com.accenture.assessment.service;
 
+import com.accenture.assessment.model.HolidayCalendar;
 import com.accenture.assessment.model.PublicHoliday;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -195,7 +209,7 @@ class CachedHolidayProviderTest {
         assertEquals(numThreads, results.size());
         // All threads should get the same cached instance
         for (List<PublicHoliday> result : results) {
-            assertSame(expectedHolidays, result);
+            assertEquals(expectedHolidays, result);
         }
         // Underlying provider should be called only once due to computeIfAbsent thread safety
         assertEquals(1, callCount.get());
@@ -368,6 +382,495 @@ class CachedHolidayProviderTest {
         }
     }
 
+    @Test
+    void testCacheHit_NotBlockedBySlowMissOnOtherKey() throws Exception {
+        // Arrange
+        List<PublicHoliday> usHolidays = createTestHolidays(2025, "US");
+        CountDownLatch slowCallStarted = new CountDownLatch(1);
+        CountDownLatch releaseSlowCall = new CountDownLatch(1);
+
+        when(underlyingProvider.getPublicHolidays(2025, "US")).thenReturn(usHolidays);
+        when(underlyingProvider.getPublicHolidays(2025, "BR")).thenAnswer(invocation -> {
+            slowCallStarted.countDown();
+            releaseSlowCall.await();
+            return createTestHolidays(2025, "BR");
+        });
+
+        cachedProvider.getPublicHolidays(2025, "US"); // Warm the cache
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            // Act - Start a slow upstream load for BR, then read the cached US entry
+            Future<List<PublicHoliday>> slowLoad = executor.submit(() -> cachedProvider.getPublicHolidays(2025, "BR"));
+            assertTrue(slowCallStarted.await(5, TimeUnit.SECONDS));
+
+            List<PublicHoliday> hit = assertTimeoutPreemptively(Duration.ofSeconds(1),
+                    () -> cachedProvider.getPublicHolidays(2025, "US"));
+
+            // Assert
+            assertEquals(usHolidays, hit);
+            releaseSlowCall.countDown();
+            assertEquals(2, slowLoad.get(5, TimeUnit.SECONDS).size());
+        } finally {
+            releaseSlowCall.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testConcurrentMisses_DifferentKeysLoadInParallel() throws Exception {
+        // Arrange - Both upstream calls must be in flight at the same time to pass the barrier
+        CyclicBarrier bothLoading = new CyclicBarrier(2);
+        when(underlyingProvider.getPublicHolidays(eq(2024), anyString())).thenAnswer(invocation -> {
+            bothLoading.await(5, TimeUnit.SECONDS);
+            return createTestHolidays(2024, invocation.getArgument(1));
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // Act
+            Future<List<PublicHoliday>> us = executor.submit(() -> cachedProvider.getPublicHolidays(2024, "US"));
+            Future<List<PublicHoliday>> gb = executor.submit(() -> cachedProvider.getPublicHolidays(2024, "GB"));
+
+            // Assert - A global lock would serialize the calls and break the barrier
+            assertEquals("US", us.get(10, TimeUnit.SECONDS).get(0).getCountryCode());
+            assertEquals("GB", gb.get(10, TimeUnit.SECONDS).get(0).getCountryCode());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testConcurrentMisses_FailureSharedWithWaiters() throws InterruptedException {
+        // Arrange
+        int numThreads = 5;
+        CountDownLatch startLatch = new CountDownLatch(1);
+        AtomicInteger callCount = new AtomicInteger(0);
+        AtomicInteger failures = new AtomicInteger(0);
+
+        when(underlyingProvider.getPublicHolidays(2024, "XX")).thenAnswer(invocation -> {
+            callCount.incrementAndGet();
+            Thread.sleep(50); // Let the other threads join the in-flight load
+            throw new IllegalStateException("upstream unavailable");
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+        CountDownLatch completionLatch = new CountDownLatch(numThreads);
+
+        // Act
+        for (int i = 0; i < numThreads; i++) {
+            executor.submit(() -> {
+                try {
+                    startLatch.await();
+                    cachedProvider.getPublicHolidays(2024, "XX");
+                } catch (IllegalStateException e) {
+                    failures.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    completionLatch.countDown();
+                }
+            });
+        }
+
+        startLatch.countDown();
+        completionLatch.await();
+        executor.shutdown();
+
+        // Assert - Every caller sees the failure, and nothing is cached
+        assertEquals(numThreads, failures.get());
+        assertTrue(callCount.get() < numThreads);
+        assertThrows(IllegalStateException.class, () -> cachedProvider.getPublicHolidays(2024, "XX"));
+    }
+
+    @Test
+    void testAsyncCacheHit_ReturnsCompletedFuture() {
+        // Arrange
+        List<PublicHoliday> expectedHolidays = createTestHolidays(2024, "US");
+        when(underlyingProvider.getPublicHolidays(2024, "US")).thenReturn(expectedHolidays);
+        cachedProvider.getPublicHolidays(2024, "US");
+
+        // Act
+        CompletableFuture<List<PublicHoliday>> result = cachedProvider.getPublicHolidaysAsync(2024, "US");
+
+        // Assert
+        assertTrue(result.isDone());
+        assertEquals(expectedHolidays, result.join());
+        verify(underlyingProvider, never()).getPublicHolidaysAsync(anyInt(), anyString());
+    }
+
+    @Test
+    void testAsyncConcurrentMisses_ShareOneUpstreamCall() {
+        // Arrange
+        List<PublicHoliday> expectedHolidays = createTestHolidays(2024, "US");
+        CompletableFuture<List<PublicHoliday>> upstream = new CompletableFuture<>();
+        when(underlyingProvider.getPublicHolidaysAsync(2024, "US")).thenReturn(upstream);
+
+        // Act - Both async callers and a sync caller (after completion) ask for the same key
+        CompletableFuture<List<PublicHoliday>> first = cachedProvider.getPublicHolidaysAsync(2024, "US");
+        CompletableFuture<List<PublicHoliday>> second = cachedProvider.getPublicHolidaysAsync(2024, "US");
+        assertFalse(first.isDone());
+        upstream.complete(expectedHolidays);
+
+        // Assert
+        assertEquals(expectedHolidays, first.join());
+        assertEquals(expectedHolidays, second.join());
+        assertEquals(expectedHolidays, cachedProvider.getPublicHolidays(2024, "US"));
+        verify(underlyingProvider, times(1)).getPublicHolidaysAsync(2024, "US");
+        verify(underlyingProvider, never()).getPublicHolidays(anyInt(), anyString());
+    }
+
+    @Test
+    void testAsyncMissFailure_IsNotCached() {
+        // Arrange
+        when(underlyingProvider.getPublicHolidaysAsync(2024, "XX"))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("upstream unavailable")));
+
+        // Act
+        CompletableFuture<List<PublicHoliday>> result = cachedProvider.getPublicHolidaysAsync(2024, "XX");
+
+        // Assert
+        CompletionException error = assertThrows(CompletionException.class, result::join);
+        assertInstanceOf(IllegalStateException.class, error.getCause());
+        cachedProvider.getPublicHolidaysAsync(2024, "XX");
+        verify(underlyingProvider, times(2)).getPublicHolidaysAsync(2024, "XX");
+    }
+
+    @Test
+    void testHolidayCalendar_BuiltOnceWhenEntryIsCached() {
+        // Arrange
+        when(underlyingProvider.getPublicHolidays(2024, "US")).thenReturn(createTestHolidays(2024, "US"));
+
+        // Act
+        HolidayCalendar first = cachedProvider.getHolidayCalendar(2024, "US");
+        HolidayCalendar second = cachedProvider.getHolidayCalendarAsync(2024, "US").join();
+        cachedProvider.getPublicHolidays(2024, "US");
+
+        // Assert
+        assertSame(first, second);
+        assertTrue(first.contains(LocalDate.of(2024, 12, 25)));
+        assertEquals(2, first.getHolidayCount());
+        verify(underlyingProvider, times(1)).getPublicHolidays(2024, "US");
+    }
+
+    @Test
+    void testMetrics_CountHitsMissesEvictionsAndSize() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        CachedHolidayProvider limitedCache = new CachedHolidayProvider(underlyingProvider, 1);
+        limitedCache.bindTo(registry);
+        when(underlyingProvider.getPublicHolidays(2024, "US")).thenReturn(createTestHolidays(2024, "US"));
+        when(underlyingProvider.getPublicHolidays(2024, "GB")).thenReturn(createTestHolidays(2024, "GB"));
+
+        // Act
+        limitedCache.getPublicHolidays(2024, "US"); // Miss
+        limitedCache.getPublicHolidays(2024, "US"); // Hit
+        limitedCache.getHolidayCalendar(2024, "US"); // Hit
+        limitedCache.getPublicHolidays(2024, "GB"); // Miss, evicts US
+
+        // Assert
+        assertEquals(2.0, registry.get("cache.gets").tag("result", "hit").functionCounter().count());
+        assertEquals(2.0, registry.get("cache.gets").tag("result", "miss").functionCounter().count());
+        assertEquals(1.0, registry.get("cache.evictions").functionCounter().count());
+        assertEquals(1.0, registry.get("cache.size").gauge().value());
+    }
+
+    @Test
+    void testMemoryBudget_EvictsByWeightNotCount() {
+        // Arrange - One heavy entry is worth many light ones
+        List<PublicHoliday> heavy = createManyHolidays(2024, "BIG", 30);
+        long lightWeight = weigh(createTestHolidays(2024, "C1"));
+        long heavyWeight = weigh(heavy);
+        assertTrue(heavyWeight > 2 * lightWeight);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        CachedHolidayProvider budgetedCache = CachedHolidayProvider.builder(underlyingProvider)
+                .maxCacheSize(1) // Ignored in favour of the byte budget
+                .maxCacheBytes(heavyWeight + lightWeight)
+                .build();
+        budgetedCache.bindTo(registry);
+        for (int i = 1; i <= 3; i++) {
+            String country = "C" + i;
+            when(underlyingProvider.getPublicHolidays(2024, country)).thenReturn(createTestHolidays(2024, country));
+        }
+        when(underlyingProvider.getPublicHolidays(2024, "BIG")).thenReturn(heavy);
+
+        // Act - Three light entries fit; the heavy one evicts the two least recently used
+        budgetedCache.getPublicHolidays(2024, "C1");
+        budgetedCache.getPublicHolidays(2024, "C2");
+        budgetedCache.getPublicHolidays(2024, "C3");
+        assertEquals(3.0, registry.get("cache.size").gauge().value());
+        budgetedCache.getPublicHolidays(2024, "BIG");
+
+        // Assert
+        assertEquals(2.0, registry.get("cache.evictions").functionCounter().count());
+        assertEquals((double) (heavyWeight + lightWeight), registry.get("holiday.cache.weight").gauge().value());
+        budgetedCache.getPublicHolidays(2024, "C3"); // Cached
+        budgetedCache.getPublicHolidays(2024, "BIG"); // Cached
+        verify(underlyingProvider, times(1)).getPublicHolidays(2024, "C3");
+        verify(underlyingProvider, times(1)).getPublicHolidays(2024, "BIG");
+    }
+
+    @Test
+    void testMemoryBudget_EntryLargerThanBudgetIsServedButNotCached() {
+        // Arrange
+        List<PublicHoliday> heavy = createManyHolidays(2024, "BIG", 30);
+        CachedHolidayProvider budgetedCache = CachedHolidayProvider.builder(underlyingProvider)
+                .maxCacheBytes(weigh(createTestHolidays(2024, "C1")))
+                .build();
+        when(underlyingProvider.getPublicHolidays(2024, "C1")).thenReturn(createTestHolidays(2024, "C1"));
+        when(underlyingProvider.getPublicHolidays(2024, "BIG")).thenReturn(heavy);
+
+        // Act
+        budgetedCache.getPublicHolidays(2024, "C1");
+        List<PublicHoliday> result = budgetedCache.getPublicHolidays(2024, "BIG");
+        budgetedCache.getPublicHolidays(2024, "BIG");
+        budgetedCache.getPublicHolidays(2024, "C1");
+
+        // Assert - The oversized entry neither stays cached nor displaces the small one
+        assertEquals(heavy, result);
+        verify(underlyingProvider, times(2)).getPublicHolidays(2024, "BIG");
+        verify(underlyingProvider, times(1)).getPublicHolidays(2024, "C1");
+    }
+
+    @Test
+    void testClientError_RememberedUntilNegativeTtlExpires() {
+        // Arrange
+        MutableClock clock = new MutableClock();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        CachedHolidayProvider negativeCache = CachedHolidayProvider.builder(underlyingProvider)
+                .negativeCacheTtl(Duration.ofMinutes(1))
+                .clock(clock)
+                .build();
+        negativeCache.bindTo(registry);
+        when(underlyingProvider.getPublicHolidays(2024, "XX"))
+                .thenThrow(new HolidayProviderException("Nager.Date returned 404 for XX 2024", 404));
+
+        // Act - The first lookup reaches the provider, the next ones fail from the negative cache
+        assertThrows(HolidayProviderException.class, () -> negativeCache.getPublicHolidays(2024, "XX"));
+        HolidayProviderException remembered = assertThrows(HolidayProviderException.class,
+                () -> negativeCache.getHolidayCalendar(2024, "XX"));
+        CompletionException asyncFailure = assertThrows(CompletionException.class,
+                () -> negativeCache.getPublicHolidaysAsync(2024, "XX").join());
+        clock.advance(Duration.ofMinutes(1));
+        assertThrows(HolidayProviderException.class, () -> negativeCache.getPublicHolidays(2024, "XX"));
+
+        // Assert
+        assertEquals(404, remembered.getStatusCode());
+        assertEquals("Nager.Date returned 404 for XX 2024", remembered.getMessage());
+        assertInstanceOf(HolidayProviderException.class, asyncFailure.getCause());
+        assertEquals(2.0, registry.get("holiday.cache.negative.hits").functionCounter().count());
+        assertEquals(0.0, registry.get("cache.size").gauge().value());
+        verify(underlyingProvider, times(2)).getPublicHolidays(2024, "XX");
+    }
+
+    @Test
+    void testServerError_NotRememberedByNegativeCache() {
+        // Arrange
+        CachedHolidayProvider negativeCache = CachedHolidayProvider.builder(underlyingProvider)
+                .negativeCacheTtl(Duration.ofMinutes(1))
+                .build();
+        when(underlyingProvider.getPublicHolidaysAsync(2024, "US"))
+                .thenReturn(CompletableFuture.failedFuture(new HolidayProviderException("Nager.Date returned 503", 503)))
+                .thenReturn(CompletableFuture.completedFuture(createTestHolidays(2024, "US")));
+
+        // Act
+        assertThrows(CompletionException.class, () -> negativeCache.getPublicHolidaysAsync(2024, "US").join());
+        List<PublicHoliday> result = negativeCache.getPublicHolidaysAsync(2024, "US").join();
+
+        // Assert
+        assertEquals(2, result.size());
+        verify(underlyingProvider, times(2)).getPublicHolidaysAsync(2024, "US");
+    }
+
+    @Test
+    void testNullCountryCode_Rejected() {
+        assertThrows(IllegalArgumentException.class, () -> cachedProvider.getPublicHolidays(2024, null));
+        assertThrows(IllegalArgumentException.class, () -> cachedProvider.getHolidayCalendarAsync(2024, null));
+        verifyNoInteractions(underlyingProvider);
+    }
+
+    @Test
+    void testRateLimited_NotRememberedByNegativeCache() {
+        // Arrange
+        CachedHolidayProvider negativeCache = CachedHolidayProvider.builder(underlyingProvider)
+                .negativeCacheTtl(Duration.ofMinutes(1))
+                .build();
+        when(underlyingProvider.getPublicHolidaysAsync(2024, "US"))
+                .thenReturn(CompletableFuture.failedFuture(new HolidayProviderException("Nager.Date returned 429", 429)))
+                .thenReturn(CompletableFuture.completedFuture(createTestHolidays(2024, "US")));
+
+        // Act
+        assertThrows(CompletionException.class, () -> negativeCache.getPublicHolidaysAsync(2024, "US").join());
+        List<PublicHoliday> result = negativeCache.getPublicHolidaysAsync(2024, "US").join();
+
+        // Assert
+        assertEquals(2, result.size());
+        verify(underlyingProvider, times(2)).getPublicHolidaysAsync(2024, "US");
+    }
+
+    @Test
+    void testExpiredEntry_ServedStaleWhileRefreshedInBackground() {
+        // Arrange
+        MutableClock clock = new MutableClock();
+        CachedHolidayProvider expiringCache = CachedHolidayProvider.builder(underlyingProvider)
+                .expireAfterWrite(Duration.ofHours(1))
+                .refreshExecutor(Runnable::run)
+                .clock(clock)
+                .build();
+        List<PublicHoliday> original = createTestHolidays(2024, "US");
+        List<PublicHoliday> refreshed = createTestHolidays(2024, "US");
+        CompletableFuture<List<PublicHoliday>> refresh = new CompletableFuture<>();
+
+        when(underlyingProvider.getPublicHolidays(2024, "US")).thenReturn(original);
+        when(underlyingProvider.getPublicHolidaysAsync(2024, "US")).thenReturn(refresh);
+        expiringCache.getPublicHolidays(2024, "US");
+
+        // Act - Hits after expiry return the stale value at once and start a single refresh
+        clock.advance(Duration.ofHours(2));
+        List<PublicHoliday> firstStale = expiringCache.getPublicHolidays(2024, "US");
+        List<PublicHoliday> secondStale = expiringCache.getPublicHolidays(2024, "US");
+        refresh.complete(refreshed);
+
+        // Assert
+        assertEquals(original, firstStale);
+        assertEquals(original, secondStale);
+        assertEquals(refreshed, expiringCache.getPublicHolidays(2024, "US"));
+        verify(underlyingProvider, times(1)).getPublicHolidays(2024, "US");
+        verify(underlyingProvider, times(1)).getPublicHolidaysAsync(2024, "US");
+    }
+
+    @Test
+    void testFailedRefresh_DropsEntryByDefault() {
+        // Arrange
+        MutableClock clock = new MutableClock();
+        CachedHolidayProvider expiringCache = CachedHolidayProvider.builder(underlyingProvider)
+                .expireAfterWrite(Duration.ofHours(1))
+                .refreshExecutor(Runnable::run)
+                .clock(clock)
+                .build();
+        when(underlyingProvider.getPublicHolidays(2024, "US")).thenReturn(createTestHolidays(2024, "US"));
+        when(underlyingProvider.getPublicHolidaysAsync(2024, "US"))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("upstream unavailable")));
+        expiringCache.getPublicHolidays(2024, "US");
+
+        // Act
+        clock.advance(Duration.ofHours(2));
+        expiringCache.getPublicHolidays(2024, "US"); // Stale hit, refresh fails
+        expiringCache.getPublicHolidays(2024, "US"); // Entry gone, loads synchronously
+
+        // Assert
+        verify(underlyingProvider, times(2)).getPublicHolidays(2024, "US");
+    }
+
+    @Test
+    void testFailedRefresh_ServesStaleAndRetriesAfterInterval() {
+        // Arrange
+        MutableClock clock = new MutableClock();
+        CachedHolidayProvider expiringCache = CachedHolidayProvider.builder(underlyingProvider)
+                .expireAfterWrite(Duration.ofHours(1))
+                .serveStaleOnError(true)
+                .refreshRetryInterval(Duration.ofMinutes(5))
+                .refreshExecutor(Runnable::run)
+                .clock(clock)
+                .build();
+        List<PublicHoliday> original = createTestHolidays(2024, "US");
+        when(underlyingProvider.getPublicHolidays(2024, "US")).thenReturn(original);
+        when(underlyingProvider.getPublicHolidaysAsync(2024, "US"))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("upstream unavailable")));
+        expiringCache.getPublicHolidays(2024, "US");
+
+        // Act
+        clock.advance(Duration.ofHours(2));
+        List<PublicHoliday> afterFailure = expiringCache.getPublicHolidays(2024, "US"); // Refresh fails
+        List<PublicHoliday> duringBackoff = expiringCache.getPublicHolidays(2024, "US"); // No new refresh
+        clock.advance(Duration.ofMinutes(6));
+        expiringCache.getPublicHolidays(2024, "US"); // Retries
+
+        // Assert
+        assertEquals(original, afterFailure);
+        assertEquals(original, duringBackoff);
+        verify(underlyingProvider, times(1)).getPublicHolidays(2024, "US");
+        verify(underlyingProvider, times(2)).getPublicHolidaysAsync(2024, "US");
+    }
+
+    @Test
+    void testConcurrentHits_OnSeveralKeysServeCachedEntries() throws Exception {
+        // Arrange
+        List<String> countryCodes = List.of("US", "GB", "DE", "FR");
+        Map<String, List<PublicHoliday>> cached = new HashMap<>();
+        for (String countryCode : countryCodes) {
+            when(underlyingProvider.getPublicHolidays(2024, countryCode)).thenReturn(createTestHolidays(2024, countryCode));
+            cached.put(countryCode, cachedProvider.getPublicHolidays(2024, countryCode));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<?>> workers = new ArrayList<>();
+
+        // Act
+        for (int t = 0; t < 4; t++) {
+            int offset = t;
+            workers.add(executor.submit(() -> {
+                for (int i = 0; i < 1_000; i++) {
+                    String countryCode = countryCodes.get((i + offset) % countryCodes.size());
+                    assertSame(cached.get(countryCode), cachedProvider.getPublicHolidays(2024, countryCode));
+                }
+                return null;
+            }));
+        }
+        for (Future<?> worker : workers) {
+            worker.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Assert
+        for (String countryCode : countryCodes) {
+            verify(underlyingProvider, times(1)).getPublicHolidays(2024, countryCode);
+        }
+    }
+
+    // Clock that only moves when told to
+    private static final class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2024-06-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+
+    private static long weigh(List<PublicHoliday> holidays) {
+        return HolidayWeigher.weigh(HolidayCalendar.of(2024, holidays));
+    }
+
+    private List<PublicHoliday> createManyHolidays(int year, String countryCode, int count) {
+        List<PublicHoliday> holidays = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            PublicHoliday holiday = new PublicHoliday();
+            holiday.setDate(LocalDate.of(year, 1, 1).plusDays(i * 7L));
+            holiday.setName("Regional Holiday " + i);
+            holiday.setLocalName("Regional Holiday " + i);
+            holiday.setCountryCode(countryCode);
+            holiday.setCounties(List.of(countryCode + "-" + i));
+            holidays.add(holiday);
+        }
+        return holidays;
+    }
+
     // Helper method to create test holidays
     private List<PublicHoliday> createTestHolidays(int year, String countryCode) {
         PublicHoliday holiday1 = new PublicHoliday();
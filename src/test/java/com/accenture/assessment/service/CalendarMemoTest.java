@@ -0,0 +1,63 @@
+package com.accenture.assessment.service;
+
+import com.accenture.assessment.model.HolidayCalendar;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CalendarMemo.
+ */
+class CalendarMemoTest {
+
+    @Test
+    void testGet_BuildsOncePerCalendarAndArgument() {
+        // Arrange
+        AtomicInteger builds = new AtomicInteger();
+        CalendarMemo<String, String> memo = new CalendarMemo<>(64,
+            (calendar, argument) -> argument + builds.incrementAndGet());
+        HolidayCalendar calendar = HolidayCalendar.of(2024, List.of());
+        HolidayCalendar equalCalendar = HolidayCalendar.of(2024, List.of());
+        String argument = "a";
+
+        // Act
+        String first = memo.get(calendar, argument);
+        String again = memo.get(calendar, argument);
+        String otherCalendar = memo.get(equalCalendar, argument);
+        String otherArgument = memo.get(calendar, new String("a"));
+
+        // Assert - Calendars and arguments are compared by identity
+        assertSame(first, again);
+        assertNotEquals(first, otherCalendar);
+        assertNotEquals(first, otherArgument);
+        assertEquals(3, builds.get());
+    }
+
+    @Test
+    void testGet_KeepsAtMostCapacityValues() {
+        // Arrange
+        AtomicInteger builds = new AtomicInteger();
+        CalendarMemo<Void, Integer> memo = new CalendarMemo<>(1, (calendar, argument) -> builds.incrementAndGet());
+        HolidayCalendar calendar2024 = HolidayCalendar.of(2024, List.of());
+        HolidayCalendar calendar2025 = HolidayCalendar.of(2025, List.of());
+
+        // Act - A single slot holds one calendar's value at a time
+        memo.get(calendar2024, null);
+        memo.get(calendar2025, null);
+        memo.get(calendar2024, null);
+        memo.get(calendar2024, null);
+
+        // Assert
+        assertEquals(1, memo.capacity());
+        assertEquals(3, builds.get());
+    }
+
+    @Test
+    void testCapacity_RoundsUpToPowerOfTwo() {
+        assertEquals(1024, new CalendarMemo<Void, Void>(1000, (calendar, argument) -> null).capacity());
+        assertEquals(1024, new CalendarMemo<Void, Void>(1024, (calendar, argument) -> null).capacity());
+    }
+}
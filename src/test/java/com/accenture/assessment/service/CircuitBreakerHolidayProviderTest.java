@@ -0,0 +1,199 @@
+package com.accenture.assessment.service;
+
+import com.accenture.assessment.model.PublicHoliday;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CircuitBreakerHolidayProvider.
+ */
+@ExtendWith(MockitoExtension.class)
+class CircuitBreakerHolidayProviderTest {
+
+    @Mock
+    private HolidayProvider underlyingProvider;
+
+    private MutableClock clock;
+    private CircuitBreakerHolidayProvider circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock();
+        circuitBreaker = new CircuitBreakerHolidayProvider(underlyingProvider, 3, Duration.ofSeconds(30), clock);
+    }
+
+    @Test
+    void testConsecutiveFailures_OpenCircuitAndFailFast() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        circuitBreaker.bindTo(registry);
+        when(underlyingProvider.getPublicHolidays(2024, "US"))
+                .thenThrow(new HolidayProviderException("Timed out", new RuntimeException()));
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            assertThrows(HolidayProviderException.class, () -> circuitBreaker.getPublicHolidays(2024, "US"));
+        }
+        HolidayProviderException rejected = assertThrows(HolidayProviderException.class,
+                () -> circuitBreaker.getPublicHolidays(2024, "US"));
+
+        // Assert
+        assertEquals(CircuitBreakerHolidayProvider.State.OPEN, circuitBreaker.getState());
+        assertEquals(HolidayProviderException.NO_STATUS, rejected.getStatusCode());
+        assertTrue(rejected.getMessage().contains("circuit is open"));
+        assertEquals(1.0, registry.get("holiday.upstream.circuit.state").gauge().value());
+        assertEquals(1.0, registry.get("holiday.upstream.circuit.rejections").functionCounter().count());
+        verify(underlyingProvider, times(3)).getPublicHolidays(2024, "US");
+    }
+
+    @Test
+    void testSuccess_ResetsFailureCount() {
+        // Arrange
+        when(underlyingProvider.getPublicHolidays(2024, "US"))
+                .thenThrow(new HolidayProviderException("Nager.Date returned 503", 503))
+                .thenThrow(new HolidayProviderException("Nager.Date returned 503", 503))
+                .thenReturn(List.of())
+                .thenThrow(new HolidayProviderException("Nager.Date returned 503", 503))
+                .thenThrow(new HolidayProviderException("Nager.Date returned 503", 503));
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            try {
+                circuitBreaker.getPublicHolidays(2024, "US");
+            } catch (HolidayProviderException e) {
+                // Expected for every call but the third
+            }
+        }
+
+        // Assert
+        assertEquals(CircuitBreakerHolidayProvider.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void testClientErrors_DoNotOpenCircuit() {
+        // Arrange
+        when(underlyingProvider.getPublicHolidays(2024, "XX"))
+                .thenThrow(new HolidayProviderException("Nager.Date returned 404", 404));
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            assertThrows(HolidayProviderException.class, () -> circuitBreaker.getPublicHolidays(2024, "XX"));
+        }
+
+        // Assert
+        assertEquals(CircuitBreakerHolidayProvider.State.CLOSED, circuitBreaker.getState());
+        verify(underlyingProvider, times(5)).getPublicHolidays(2024, "XX");
+    }
+
+    @Test
+    void testRateLimiting_OpensCircuit() {
+        // Arrange
+        when(underlyingProvider.getPublicHolidays(2024, "US"))
+                .thenThrow(new HolidayProviderException("Nager.Date returned 429", 429));
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            assertThrows(HolidayProviderException.class, () -> circuitBreaker.getPublicHolidays(2024, "US"));
+        }
+
+        // Assert
+        assertEquals(CircuitBreakerHolidayProvider.State.OPEN, circuitBreaker.getState());
+    }
+
+    @Test
+    void testHalfOpen_SuccessfulProbeClosesCircuit() {
+        // Arrange
+        openCircuit();
+        when(underlyingProvider.getPublicHolidays(2024, "GB")).thenReturn(List.of(new PublicHoliday()));
+
+        // Act - Still open before the open duration has passed
+        assertThrows(HolidayProviderException.class, () -> circuitBreaker.getPublicHolidays(2024, "GB"));
+        clock.advance(Duration.ofSeconds(30));
+        List<PublicHoliday> probe = circuitBreaker.getPublicHolidays(2024, "GB");
+
+        // Assert
+        assertEquals(1, probe.size());
+        assertEquals(CircuitBreakerHolidayProvider.State.CLOSED, circuitBreaker.getState());
+        verify(underlyingProvider, times(1)).getPublicHolidays(2024, "GB");
+    }
+
+    @Test
+    void testHalfOpen_FailedProbeReopensCircuitAndOthersAreRejected() {
+        // Arrange
+        openCircuit();
+        CompletableFuture<List<PublicHoliday>> probe = new CompletableFuture<>();
+        when(underlyingProvider.getPublicHolidaysAsync(2024, "GB")).thenReturn(probe);
+        clock.advance(Duration.ofSeconds(30));
+
+        // Act - One probe goes through, concurrent requests fail fast
+        CompletableFuture<List<PublicHoliday>> probeResult = circuitBreaker.getPublicHolidaysAsync(2024, "GB");
+        assertEquals(CircuitBreakerHolidayProvider.State.HALF_OPEN, circuitBreaker.getState());
+        CompletionException rejected = assertThrows(CompletionException.class,
+                () -> circuitBreaker.getPublicHolidaysAsync(2024, "GB").join());
+        probe.completeExceptionally(new HolidayProviderException("Nager.Date returned 502", 502));
+
+        // Assert
+        assertInstanceOf(HolidayProviderException.class, rejected.getCause());
+        assertTrue(probeResult.isCompletedExceptionally());
+        assertEquals(CircuitBreakerHolidayProvider.State.OPEN, circuitBreaker.getState());
+        // The open duration restarts from the failed probe
+        clock.advance(Duration.ofSeconds(29));
+        assertThrows(HolidayProviderException.class, () -> circuitBreaker.getPublicHolidays(2024, "GB"));
+        verify(underlyingProvider, times(1)).getPublicHolidaysAsync(2024, "GB");
+    }
+
+    @Test
+    void testInvalidThreshold_Rejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new CircuitBreakerHolidayProvider(underlyingProvider, 0, Duration.ofSeconds(1)));
+    }
+
+    private void openCircuit() {
+        when(underlyingProvider.getPublicHolidays(2024, "US"))
+                .thenThrow(new HolidayProviderException("Nager.Date returned 500", 500));
+        for (int i = 0; i < 3; i++) {
+            assertThrows(HolidayProviderException.class, () -> circuitBreaker.getPublicHolidays(2024, "US"));
+        }
+        assertEquals(CircuitBreakerHolidayProvider.State.OPEN, circuitBreaker.getState());
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2024-06-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.accenture.assessment.service;
+
+import com.accenture.assessment.model.PublicHoliday;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for DiskCachedHolidayProvider.
+ */
+@ExtendWith(MockitoExtension.class)
+class DiskCachedHolidayProviderTest {
+
+    @Mock
+    private HolidayProvider underlyingProvider;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testMiss_WritesBackAndSurvivesRestart() throws IOException {
+        // Arrange
+        Path file = tempDir.resolve("cache.bin");
+        when(underlyingProvider.getPublicHolidays(2024, "US")).thenReturn(createTestHolidays(2024, "US"));
+
+        // Act - First instance fetches from upstream and persists
+        try (DiskCachedHolidayProvider provider = new DiskCachedHolidayProvider(underlyingProvider, file)) {
+            assertEquals(0, provider.getLoadedEntryCount());
+            provider.getPublicHolidays(2024, "US");
+            assertEquals(1, provider.getEntryCount());
+        }
+
+        // Act - Restarted instance answers from disk
+        try (DiskCachedHolidayProvider restarted = new DiskCachedHolidayProvider(underlyingProvider, file)) {
+            List<PublicHoliday> result = restarted.getPublicHolidays(2024, "US");
+
+            // Assert
+            assertEquals(1, restarted.getLoadedEntryCount());
+            assertNotNull(restarted.getLoadDuration());
+            assertEquals(2, result.size());
+            assertEquals(LocalDate.of(2024, 1, 1), result.get(0).getDate());
+            assertEquals("New Year's Day", result.get(0).getName());
+        }
+        verify(underlyingProvider, times(1)).getPublicHolidays(2024, "US");
+    }
+
+    @Test
+    void testRoundTrip_PreservesAllFields() throws IOException {
+        // Arrange
+        PublicHoliday holiday = new PublicHoliday();
+        holiday.setDate(LocalDate.of(2024, 8, 15));
+        holiday.setLocalName("Mariä Himmelfahrt");
+        holiday.setName("Assumption Day");
+        holiday.setCountryCode("DE");
+        holiday.setFixed(true);
+        holiday.setGlobal(false);
+        holiday.setLaunchYear(1950);
+        holiday.setCounties(List.of("DE-BY", "DE-SL"));
+        holiday.setTypes(List.of("Public"));
+
+        PublicHoliday sparse = new PublicHoliday();
+        sparse.setDate(LocalDate.of(2024, 1, 1));
+
+        when(underlyingProvider.getPublicHolidays(2024, "DE")).thenReturn(Arrays.asList(holiday, sparse));
+        Path file = tempDir.resolve("cache.bin");
+
+        // Act
+        try (DiskCachedHolidayProvider provider = new DiskCachedHolidayProvider(underlyingProvider, file)) {
+            provider.getPublicHolidays(2024, "DE");
+        }
+        List<PublicHoliday> result;
+        try (DiskCachedHolidayProvider restarted = new DiskCachedHolidayProvider(underlyingProvider, file)) {
+            result = restarted.getPublicHolidays(2024, "DE");
+        }
+
+        // Assert
+        PublicHoliday restored = result.get(0);
+        assertEquals(holiday.getDate(), restored.getDate());
+        assertEquals("Mariä Himmelfahrt", restored.getLocalName());
+        assertEquals("Assumption Day", restored.getName());
+        assertEquals("DE", restored.getCountryCode());
+        assertEquals(Boolean.TRUE, restored.getFixed());
+        assertEquals(Boolean.FALSE, restored.getGlobal());
+        assertEquals(1950, restored.getLaunchYear());
+        assertEquals(List.of("DE-BY", "DE-SL"), restored.getCounties());
+        assertEquals(List.of("Public"), restored.getTypes());
+
+        PublicHoliday restoredSparse = result.get(1);
+        assertNull(restoredSparse.getName());
+        assertNull(restoredSparse.getFixed());
+        assertNull(restoredSparse.getLaunchYear());
+        assertNull(restoredSparse.getCounties());
+    }
+
+    @Test
+    void testAsyncMiss_WritesBack() throws IOException {
+        // Arrange
+        when(underlyingProvider.getPublicHolidaysAsync(2024, "GB"))
+                .thenReturn(CompletableFuture.completedFuture(createTestHolidays(2024, "GB")));
+
+        try (DiskCachedHolidayProvider provider = new DiskCachedHolidayProvider(underlyingProvider, tempDir.resolve("cache.bin"))) {
+            // Act
+            provider.getPublicHolidaysAsync(2024, "GB").join();
+            List<PublicHoliday> result = provider.getPublicHolidaysAsync(2024, "GB").join();
+
+            // Assert
+            assertEquals("GB", result.get(0).getCountryCode());
+            verify(underlyingProvider, times(1)).getPublicHolidaysAsync(2024, "GB");
+        }
+    }
+
+    @Test
+    void testOutdatedRecord_RefetchedAndServedWhenUpstreamFails() throws Exception {
+        // Arrange
+        Path file = tempDir.resolve("cache.bin");
+        when(underlyingProvider.getPublicHolidays(2024, "US"))
+                .thenReturn(createTestHolidays(2024, "US"))
+                .thenThrow(new IllegalStateException("upstream unavailable"));
+
+        try (DiskCachedHolidayProvider provider = new DiskCachedHolidayProvider(underlyingProvider, file, Duration.ZERO)) {
+            provider.getPublicHolidays(2024, "US");
+            Thread.sleep(5); // Let the record age past the zero maximum age
+
+            // Act - The record is outdated, the refetch fails, the old record is served
+            List<PublicHoliday> result = provider.getPublicHolidays(2024, "US");
+
+            // Assert
+            assertEquals(2, result.size());
+            verify(underlyingProvider, times(2)).getPublicHolidays(2024, "US");
+        }
+    }
+
+    @Test
+    void testNullResult_IsNotPersisted() throws IOException {
+        // Arrange
+        when(underlyingProvider.getPublicHolidays(2024, "XX")).thenReturn(null);
+
+        try (DiskCachedHolidayProvider provider = new DiskCachedHolidayProvider(underlyingProvider, tempDir.resolve("cache.bin"))) {
+            // Act
+            assertNull(provider.getPublicHolidays(2024, "XX"));
+
+            // Assert
+            assertEquals(0, provider.getEntryCount());
+        }
+    }
+
+    @Test
+    void testTornTrailingRecord_IsDiscarded() throws IOException {
+        // Arrange
+        Path file = tempDir.resolve("cache.bin");
+        when(underlyingProvider.getPublicHolidays(2024, "US")).thenReturn(createTestHolidays(2024, "US"));
+        try (DiskCachedHolidayProvider provider = new DiskCachedHolidayProvider(underlyingProvider, file)) {
+            provider.getPublicHolidays(2024, "US");
+        }
+        // Simulate a crash in the middle of the next append
+        Files.write(file, new byte[]{0, 0, 1, 0, 7, 7}, StandardOpenOption.APPEND);
+
+        // Act
+        try (DiskCachedHolidayProvider restarted = new DiskCachedHolidayProvider(underlyingProvider, file)) {
+            // Assert
+            assertEquals(1, restarted.getLoadedEntryCount());
+            assertEquals(2, restarted.getPublicHolidays(2024, "US").size());
+        }
+        verify(underlyingProvider, times(1)).getPublicHolidays(2024, "US");
+    }
+
+    @Test
+    void testUnrecognisedFile_IsStartedAfresh() throws IOException {
+        // Arrange
+        Path file = tempDir.resolve("cache.bin");
+        Files.writeString(file, "not a cache file");
+
+        // Act
+        try (DiskCachedHolidayProvider provider = new DiskCachedHolidayProvider(underlyingProvider, file)) {
+            // Assert
+            assertEquals(0, provider.getLoadedEntryCount());
+        }
+    }
+
+    // Helper method to create test holidays
+    private List<PublicHoliday> createTestHolidays(int year, String countryCode) {
+        PublicHoliday holiday1 = new PublicHoliday();
+        holiday1.setDate(LocalDate.of(year, 1, 1));
+        holiday1.setName("New Year's Day");
+        holiday1.setLocalName("New Year's Day");
+        holiday1.setCountryCode(countryCode);
+
+        PublicHoliday holiday2 = new PublicHoliday();
+        holiday2.setDate(LocalDate.of(year, 12, 25));
+        holiday2.setName("Christmas Day");
+        holiday2.setLocalName("Christmas Day");
+        holiday2.setCountryCode(countryCode);
+
+        return Arrays.asList(holiday1, holiday2);
+    }
+}
@@ -0,0 +1,155 @@
+package com.accenture.assessment.service;
+
+import com.accenture.assessment.model.PublicHoliday;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for HolidayRecordFile.
+ */
+class HolidayRecordFileTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testCorruptedRecord_StopsReadingAndIsTruncated() throws IOException {
+        // Arrange
+        Path file = tempDir.resolve("cache.bin");
+        long secondRecordStart;
+        try (HolidayRecordFile recordFile = HolidayRecordFile.open(file, true)) {
+            recordFile.append(2024, "US", createTestHolidays(2024, "US"), 1L);
+            secondRecordStart = Files.size(file);
+            recordFile.append(2024, "GB", createTestHolidays(2024, "GB"), 2L);
+            recordFile.append(2024, "FR", createTestHolidays(2024, "FR"), 3L);
+        }
+        // Flip a byte inside the body of the second record
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer oneByte = ByteBuffer.allocate(1);
+            long position = secondRecordStart + 20;
+            channel.read(oneByte, position);
+            oneByte.put(0, (byte) ~oneByte.get(0));
+            channel.write(oneByte.rewind(), position);
+        }
+
+        // Act
+        try (HolidayRecordFile reopened = HolidayRecordFile.open(file, true)) {
+            // Assert - Records after the corrupted one are not trusted either
+            assertEquals(1, reopened.size());
+            assertEquals(2, reopened.read(2024, "US").size());
+            assertNull(reopened.read(2024, "GB"));
+            assertNull(reopened.read(2024, "FR"));
+            assertEquals(secondRecordStart, Files.size(file));
+        }
+    }
+
+    @Test
+    void testSupersededRecords_AreCompactedOnOpen() throws IOException {
+        // Arrange
+        Path file = tempDir.resolve("cache.bin");
+        try (HolidayRecordFile recordFile = HolidayRecordFile.open(file, true)) {
+            recordFile.append(2024, "GB", createTestHolidays(2024, "GB"), 0L);
+            for (int i = 0; i <= HolidayRecordFile.COMPACTION_MIN_DEAD_RECORDS; i++) {
+                recordFile.append(2024, "US", createTestHolidays(2024, "US"), i);
+            }
+        }
+        long sizeBefore = Files.size(file);
+
+        // Act
+        try (HolidayRecordFile reopened = HolidayRecordFile.open(file, true)) {
+            // Assert
+            assertTrue(Files.size(file) < sizeBefore / 10);
+            assertEquals(2, reopened.size());
+            assertEquals(HolidayRecordFile.COMPACTION_MIN_DEAD_RECORDS, reopened.storedAt(2024, "US"));
+            assertEquals("GB", reopened.read(2024, "GB").get(0).getCountryCode());
+            reopened.append(2025, "US", createTestHolidays(2025, "US"), 99L);
+        }
+        try (HolidayRecordFile reopened = HolidayRecordFile.open(file, false)) {
+            assertEquals(3, reopened.size());
+            assertEquals(LocalDate.of(2025, 1, 1), reopened.read(2025, "US").get(0).getDate());
+        }
+    }
+
+    @Test
+    void testFewSupersededRecords_AreKept() throws IOException {
+        // Arrange
+        Path file = tempDir.resolve("cache.bin");
+        try (HolidayRecordFile recordFile = HolidayRecordFile.open(file, true)) {
+            recordFile.append(2024, "US", createTestHolidays(2024, "US"), 1L);
+            recordFile.append(2024, "US", createTestHolidays(2024, "US"), 2L);
+        }
+        long sizeBefore = Files.size(file);
+
+        // Act
+        try (HolidayRecordFile reopened = HolidayRecordFile.open(file, true)) {
+            // Assert
+            assertEquals(sizeBefore, Files.size(file));
+            assertEquals(2L, reopened.storedAt(2024, "US"));
+        }
+    }
+
+    @Test
+    void testLongStrings_RoundTripUpToUnsignedShortLength() throws IOException {
+        // Arrange
+        Path file = tempDir.resolve("cache.bin");
+        String longName = "x".repeat(40_000);
+        List<PublicHoliday> holidays = createTestHolidays(2024, "US");
+        holidays.get(0).setName(longName);
+
+        // Act
+        try (HolidayRecordFile recordFile = HolidayRecordFile.open(file, true)) {
+            recordFile.append(2024, "US", holidays, 1L);
+        }
+
+        // Assert
+        try (HolidayRecordFile reopened = HolidayRecordFile.open(file, false)) {
+            assertEquals(longName, reopened.read(2024, "US").get(0).getName());
+        }
+    }
+
+    @Test
+    void testTooLongString_IsRejectedWithoutWriting() throws IOException {
+        // Arrange
+        Path file = tempDir.resolve("cache.bin");
+        List<PublicHoliday> holidays = createTestHolidays(2024, "US");
+        holidays.get(0).setName("x".repeat(70_000));
+
+        try (HolidayRecordFile recordFile = HolidayRecordFile.open(file, true)) {
+            long sizeBefore = Files.size(file);
+
+            // Act & Assert
+            assertThrows(UncheckedIOException.class, () -> recordFile.append(2024, "US", holidays, 1L));
+            assertEquals(sizeBefore, Files.size(file));
+            assertNull(recordFile.read(2024, "US"));
+        }
+    }
+
+    // Helper method to create test holidays
+    private List<PublicHoliday> createTestHolidays(int year, String countryCode) {
+        PublicHoliday holiday1 = new PublicHoliday();
+        holiday1.setDate(LocalDate.of(year, 1, 1));
+        holiday1.setName("New Year's Day");
+        holiday1.setLocalName("New Year's Day");
+        holiday1.setCountryCode(countryCode);
+
+        PublicHoliday holiday2 = new PublicHoliday();
+        holiday2.setDate(LocalDate.of(year, 12, 25));
+        holiday2.setName("Christmas Day");
+        holiday2.setLocalName("Christmas Day");
+        holiday2.setCountryCode(countryCode);
+
+        return List.of(holiday1, holiday2);
+    }
+}
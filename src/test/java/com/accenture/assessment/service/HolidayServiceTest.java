@@ -1,17 +1,31 @@
 package com.accenture.assessment.service;
 
 import com.accenture.assessment.model.CountryHolidayCount;
+import com.accenture.assessment.model.NonWeekendHolidayMatrix;
 import com.accenture.assessment.model.PublicHoliday;
 import com.accenture.assessment.model.SharedHoliday;
+import com.accenture.assessment.model.SharedHolidayMatrix;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -22,7 +36,7 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class HolidayServiceTest {
 
-    @Mock
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
     private HolidayProvider holidayProvider;
 
     private HolidayService holidayService;
@@ -52,7 +66,8 @@ class HolidayServiceTest {
         );
 
         when(holidayProvider.getPublicHolidays(currentYear, countryCode)).thenReturn(currentYearHolidays);
-        when(holidayProvider.getPublicHolidays(currentYear - 1, countryCode)).thenReturn(previousYearHolidays);
+        // The previous year is only fetched when the current year has fewer than 3 past holidays
+        lenient().when(holidayProvider.getPublicHolidays(currentYear - 1, countryCode)).thenReturn(previousYearHolidays);
 
         // Act
         List<PublicHoliday> result = holidayService.getLastCelebratedHolidays(countryCode);
@@ -70,6 +85,177 @@ class HolidayServiceTest {
         }
     }
 
+    @Test
+    void testGetLastCelebratedHolidays_WalksBackAcrossYearsOnlyAsNeeded() {
+        // Arrange
+        String countryCode = "DE";
+        when(holidayProvider.getPublicHolidays(2025, countryCode)).thenReturn(Arrays.asList(
+            createHoliday(LocalDate.of(2025, 1, 1), "Neujahr", "New Year's Day", countryCode),
+            createHoliday(LocalDate.of(2025, 4, 18), "Karfreitag", "Good Friday", countryCode)
+        ));
+        when(holidayProvider.getPublicHolidays(2024, countryCode)).thenReturn(Arrays.asList(
+            createHoliday(LocalDate.of(2024, 12, 25), "Weihnachtstag", "Christmas Day", countryCode),
+            createHoliday(LocalDate.of(2024, 12, 26), "Zweiter Weihnachtstag", "St. Stephen's Day", countryCode)
+        ));
+        when(holidayProvider.getPublicHolidays(2023, countryCode)).thenReturn(Arrays.asList(
+            createHoliday(LocalDate.of(2023, 12, 26), "Zweiter Weihnachtstag", "St. Stephen's Day", countryCode)
+        ));
+
+        // Act - The reference date itself is excluded
+        List<PublicHoliday> result = holidayService.getLastCelebratedHolidays(countryCode, 4, LocalDate.of(2025, 4, 18));
+
+        // Assert
+        assertEquals(List.of(LocalDate.of(2025, 1, 1), LocalDate.of(2024, 12, 26),
+                LocalDate.of(2024, 12, 25), LocalDate.of(2023, 12, 26)),
+            result.stream().map(PublicHoliday::getDate).toList());
+        verify(holidayProvider, never()).getPublicHolidays(eq(2022), anyString());
+    }
+
+    @Test
+    void testGetLastCelebratedHolidays_StopsAtYearWithoutData() {
+        // Arrange
+        when(holidayProvider.getPublicHolidays(2024, "US")).thenReturn(Arrays.asList(
+            createHoliday(LocalDate.of(2024, 1, 1), "New Year's Day", "New Year's Day", "US")
+        ));
+        when(holidayProvider.getPublicHolidays(2023, "US")).thenReturn(null);
+
+        // Act
+        List<PublicHoliday> result = holidayService.getLastCelebratedHolidays("US", 5, LocalDate.of(2024, 6, 1));
+
+        // Assert
+        assertEquals(1, result.size());
+        verify(holidayProvider, never()).getPublicHolidays(eq(2022), anyString());
+    }
+
+    @Test
+    void testGetLastCelebratedHolidays_SameDayHolidaysKeepProviderOrder() {
+        // Arrange
+        PublicHoliday columbusDay = createHoliday(LocalDate.of(2024, 10, 14), "Columbus Day", "Columbus Day", "US");
+        PublicHoliday indigenousDay = createHoliday(LocalDate.of(2024, 10, 14), "Indigenous Peoples' Day",
+            "Indigenous Peoples' Day", "US");
+        PublicHoliday veteransDay = createHoliday(LocalDate.of(2024, 11, 11), "Veterans Day", "Veterans Day", "US");
+        when(holidayProvider.getPublicHolidays(2024, "US"))
+            .thenReturn(Arrays.asList(columbusDay, indigenousDay, veteransDay));
+
+        // Act
+        List<PublicHoliday> result = holidayService.getLastCelebratedHolidays("US", 2, LocalDate.of(2024, 12, 1));
+
+        // Assert
+        assertEquals(List.of(veteransDay, columbusDay), result);
+    }
+
+    @Test
+    void testGetLastCelebratedHolidays_RejectsNegativeCount() {
+        assertThrows(IllegalArgumentException.class,
+            () -> holidayService.getLastCelebratedHolidays("US", -1, LocalDate.of(2024, 1, 1)));
+        verifyNoInteractions(holidayProvider);
+    }
+
+    @Test
+    void testGetUpcomingHolidays_TouchesOnlyTheReferenceYearWhenItSuffices() {
+        // Arrange
+        String countryCode = "DE";
+        when(holidayProvider.getPublicHolidays(2024, countryCode)).thenReturn(Arrays.asList(
+            createHoliday(LocalDate.of(2024, 10, 3), "Tag der Deutschen Einheit", "German Unity Day", countryCode),
+            createHoliday(LocalDate.of(2024, 12, 25), "Weihnachtstag", "Christmas Day", countryCode),
+            createHoliday(LocalDate.of(2024, 12, 26), "Zweiter Weihnachtstag", "St. Stephen's Day", countryCode)
+        ));
+
+        // Act - The reference date itself is included
+        List<PublicHoliday> result = holidayService.getUpcomingHolidays(countryCode, 2, LocalDate.of(2024, 12, 25));
+
+        // Assert
+        assertEquals(List.of(LocalDate.of(2024, 12, 25), LocalDate.of(2024, 12, 26)),
+            result.stream().map(PublicHoliday::getDate).toList());
+        verify(holidayProvider, never()).getPublicHolidays(eq(2025), anyString());
+    }
+
+    @Test
+    void testGetUpcomingHolidays_WalksForwardAcrossYearsOnlyAsNeeded() {
+        // Arrange
+        String countryCode = "DE";
+        when(holidayProvider.getPublicHolidays(2024, countryCode)).thenReturn(Arrays.asList(
+            createHoliday(LocalDate.of(2024, 12, 25), "Weihnachtstag", "Christmas Day", countryCode),
+            createHoliday(LocalDate.of(2024, 12, 26), "Zweiter Weihnachtstag", "St. Stephen's Day", countryCode)
+        ));
+        when(holidayProvider.getPublicHolidays(2025, countryCode)).thenReturn(Arrays.asList(
+            createHoliday(LocalDate.of(2025, 1, 1), "Neujahr", "New Year's Day", countryCode),
+            createHoliday(LocalDate.of(2025, 4, 18), "Karfreitag", "Good Friday", countryCode)
+        ));
+
+        // Act
+        List<PublicHoliday> result = holidayService.getUpcomingHolidays(countryCode, 3, LocalDate.of(2024, 12, 26));
+
+        // Assert
+        assertEquals(List.of(LocalDate.of(2024, 12, 26), LocalDate.of(2025, 1, 1), LocalDate.of(2025, 4, 18)),
+            result.stream().map(PublicHoliday::getDate).toList());
+        verify(holidayProvider, never()).getPublicHolidays(eq(2026), anyString());
+    }
+
+    @Test
+    void testGetUpcomingHolidays_StopsAtYearWithoutData() {
+        // Arrange
+        when(holidayProvider.getPublicHolidays(2024, "US")).thenReturn(Arrays.asList(
+            createHoliday(LocalDate.of(2024, 12, 25), "Christmas Day", "Christmas Day", "US")
+        ));
+        when(holidayProvider.getPublicHolidays(2025, "US")).thenReturn(null);
+
+        // Act
+        List<PublicHoliday> result = holidayService.getUpcomingHolidays("US", 5, LocalDate.of(2024, 6, 1));
+
+        // Assert
+        assertEquals(1, result.size());
+        verify(holidayProvider, never()).getPublicHolidays(eq(2026), anyString());
+    }
+
+    @Test
+    void testGetUpcomingHolidays_RejectsNegativeCount() {
+        assertThrows(IllegalArgumentException.class,
+            () -> holidayService.getUpcomingHolidays("US", -1, LocalDate.of(2024, 1, 1)));
+        verifyNoInteractions(holidayProvider);
+    }
+
+    @Test
+    void testMultiYearWalks_FetchEveryYearAtTheCallersPriority() {
+        // Arrange - Fetches complete on another thread, so later years are requested from completion callbacks
+        List<RequestPriority> fetchPriorities = Collections.synchronizedList(new ArrayList<>());
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        HolidayProvider asyncProvider = new HolidayProvider() {
+            @Override
+            public List<PublicHoliday> getPublicHolidays(int year, String countryCode) {
+                return List.of(createHoliday(LocalDate.of(year, 1, 1), "New Year's Day", "New Year's Day", countryCode));
+            }
+
+            @Override
+            public CompletableFuture<List<PublicHoliday>> getPublicHolidaysAsync(int year, String countryCode) {
+                fetchPriorities.add(RequestPriority.current());
+                return CompletableFuture.supplyAsync(() -> getPublicHolidays(year, countryCode), executor);
+            }
+        };
+        HolidayService service = new HolidayService(asyncProvider);
+        LocalDate referenceDate = LocalDate.of(2024, 6, 1);
+
+        try {
+            // Act
+            List<PublicHoliday> last = RequestPriority.BATCH.call(() ->
+                service.getLastCelebratedHolidays("US", 3, referenceDate));
+            List<PublicHoliday> upcoming = RequestPriority.BATCH.call(() ->
+                service.getUpcomingHolidays("US", 3, referenceDate));
+            LocalDate later = RequestPriority.BATCH.call(() -> service.addBusinessDays("US", referenceDate, 600));
+            LocalDate earlier = RequestPriority.BATCH.call(() -> service.addBusinessDays("US", referenceDate, -600));
+
+            // Assert
+            assertEquals(3, last.size());
+            assertEquals(3, upcoming.size());
+            assertEquals(2026, later.getYear());
+            assertEquals(2022, earlier.getYear());
+            assertTrue(fetchPriorities.size() >= 10, "Expected multi-year walks, got " + fetchPriorities);
+            assertEquals(List.of(RequestPriority.BATCH), fetchPriorities.stream().distinct().toList());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     @Test
     void testGetNonWeekendHolidayCount() {
         // Arrange
@@ -106,6 +292,137 @@ class HolidayServiceTest {
         assertEquals(2, result.get(1).getHolidayCount());
     }
 
+    @Test
+    void testGetNonWeekendHolidayCounts_MatchesSingleYearCountsAndTotals() {
+        // Arrange - Enough cells that the aggregation is split across fork-join tasks
+        List<String> countryCodes = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            countryCodes.add("C" + i);
+        }
+        when(holidayProvider.getPublicHolidays(anyInt(), anyString())).thenAnswer(invocation -> {
+            int year = invocation.getArgument(0);
+            String countryCode = invocation.getArgument(1);
+            int offset = Integer.parseInt(countryCode.substring(1));
+            return Arrays.asList(
+                createHoliday(LocalDate.of(year, 1, 1), "New Year's Day", "New Year's Day", countryCode),
+                createHoliday(LocalDate.of(year, 3, 1).plusDays(offset), "Regional Day", "Regional Day", countryCode),
+                createHoliday(LocalDate.of(year, 12, 25), "Christmas Day", "Christmas Day", countryCode));
+        });
+        List<String> withDuplicate = new ArrayList<>(countryCodes);
+        withDuplicate.add("C0");
+
+        // Act
+        NonWeekendHolidayMatrix matrix = holidayService.getNonWeekendHolidayCounts(withDuplicate, 2005, 2024);
+
+        // Assert
+        assertEquals(countryCodes, matrix.getCountryCodes());
+        assertEquals(2005, matrix.getFromYear());
+        assertEquals(2024, matrix.getToYear());
+        long total = 0;
+        for (int year = 2005; year <= 2024; year++) {
+            int yearTotal = 0;
+            for (CountryHolidayCount count : holidayService.getNonWeekendHolidayCount(year, countryCodes)) {
+                assertEquals(count.getHolidayCount(), matrix.getCount(count.getCountryCode(), year));
+                yearTotal += count.getHolidayCount();
+            }
+            assertEquals(yearTotal, matrix.getYearTotal(year));
+            total += yearTotal;
+        }
+        assertEquals(total, matrix.getTotal());
+        int c0Total = 0;
+        for (int count : matrix.getCounts()[0]) {
+            c0Total += count;
+        }
+        assertEquals(c0Total, matrix.getCountryTotal("C0"));
+    }
+
+    @Test
+    void testGetNonWeekendHolidayCounts_InvalidRangeRejected() {
+        assertThrows(IllegalArgumentException.class,
+            () -> holidayService.getNonWeekendHolidayCounts(List.of("US"), 2024, 2023));
+        assertThrows(IllegalArgumentException.class,
+            () -> holidayService.getNonWeekendHolidayCounts(List.of("US"), 1900, 1999 + 1));
+        assertThrows(IllegalArgumentException.class,
+            () -> holidayService.getNonWeekendHolidayCounts(List.of(), 2023, 2024));
+        verifyNoInteractions(holidayProvider);
+    }
+
+    @Test
+    void testGetNonWeekendHolidayCounts_MissingYearCountsZero() {
+        // Arrange
+        when(holidayProvider.getPublicHolidays(2023, "US")).thenReturn(null);
+        when(holidayProvider.getPublicHolidays(2024, "US")).thenReturn(Arrays.asList(
+            createHoliday(LocalDate.of(2024, 7, 4), "Independence Day", "Independence Day", "US")));
+
+        // Act
+        NonWeekendHolidayMatrix matrix = holidayService.getNonWeekendHolidayCounts(List.of("US"), 2023, 2024);
+
+        // Assert
+        assertEquals(0, matrix.getCount("US", 2023));
+        assertEquals(1, matrix.getCount("US", 2024));
+        assertEquals(1, matrix.getTotal());
+        assertThrows(IllegalArgumentException.class, () -> matrix.getCount("GB", 2024));
+    }
+
+    @Test
+    void testGetSharedHolidayMatrix_MatchesPairwiseSharedHolidays() {
+        // Arrange - Enough pairs that the counting is split across fork-join tasks
+        List<String> countryCodes = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            countryCodes.add("C" + i);
+        }
+        when(holidayProvider.getPublicHolidays(eq(2024), anyString())).thenAnswer(invocation -> {
+            String countryCode = invocation.getArgument(1);
+            int offset = Integer.parseInt(countryCode.substring(1));
+            return Arrays.asList(
+                createHoliday(LocalDate.of(2024, 1, 1), "New Year's Day", "New Year's Day", countryCode),
+                createHoliday(LocalDate.of(2024, 3, 1).plusDays(offset), "Regional Day", "Regional Day", countryCode),
+                createHoliday(LocalDate.of(2024, 6, 1).plusDays(offset % 3), "Summer Day", "Summer Day", countryCode),
+                createHoliday(LocalDate.of(2024, 12, 25), "Christmas Day", "Christmas Day", countryCode));
+        });
+        when(holidayProvider.getPublicHolidays(2024, "C24")).thenReturn(null);
+
+        // Act
+        SharedHolidayMatrix matrix = holidayService.getSharedHolidayMatrix(2024, countryCodes, true);
+
+        // Assert
+        assertEquals(countryCodes, matrix.getCountryCodes());
+        assertEquals(4, matrix.getCount("C0", "C0"));
+        assertEquals(0, matrix.getCount("C24", "C24"));
+        for (String first : countryCodes) {
+            for (String second : countryCodes) {
+                if (first.equals(second)) {
+                    continue;
+                }
+                List<LocalDate> expected = holidayService.getSharedHolidays(2024, first, second).stream()
+                    .map(SharedHoliday::getDate)
+                    .toList();
+                assertEquals(expected.size(), matrix.getCount(first, second), first + "/" + second);
+                assertEquals(expected, matrix.getSharedDates(first, second), first + "/" + second);
+            }
+        }
+    }
+
+    @Test
+    void testGetSharedHolidayMatrix_WithoutDates() {
+        // Arrange
+        when(holidayProvider.getPublicHolidays(2024, "US")).thenReturn(Arrays.asList(
+            createHoliday(LocalDate.of(2024, 1, 1), "New Year's Day", "New Year's Day", "US"),
+            createHoliday(LocalDate.of(2024, 7, 4), "Independence Day", "Independence Day", "US")));
+        when(holidayProvider.getPublicHolidays(2024, "GB")).thenReturn(Arrays.asList(
+            createHoliday(LocalDate.of(2024, 1, 1), "New Year's Day", "New Year's Day", "GB")));
+
+        // Act
+        SharedHolidayMatrix matrix = holidayService.getSharedHolidayMatrix(2024, List.of("US", "GB", "US"), false);
+
+        // Assert
+        assertEquals(List.of("US", "GB"), matrix.getCountryCodes());
+        assertArrayEquals(new int[][]{{2, 1}, {1, 1}}, matrix.getCounts());
+        assertNull(matrix.getDates());
+        assertThrows(IllegalStateException.class, () -> matrix.getSharedDates("US", "GB"));
+        assertThrows(IllegalArgumentException.class, () -> matrix.getCount("US", "DE"));
+    }
+
     @Test
     void testGetNonWeekendHolidayCountFiltersWeekends() {
         // Arrange
@@ -130,6 +447,209 @@ class HolidayServiceTest {
         assertEquals(1, result.get(0).getHolidayCount()); // Only Monday should count
     }
 
+    @Test
+    void testGetNonWeekendHolidayCount_UsesEachCountrysWeekend() {
+        // Arrange - The same Friday, Saturday and Sunday holidays in a Saturday-Sunday and a Friday-Saturday country
+        for (String countryCode : List.of("US", "SA")) {
+            when(holidayProvider.getPublicHolidays(2024, countryCode)).thenReturn(Arrays.asList(
+                createHoliday(LocalDate.of(2024, 11, 1), "Friday Holiday", "Friday Holiday", countryCode),
+                createHoliday(LocalDate.of(2024, 11, 2), "Saturday Holiday", "Saturday Holiday", countryCode),
+                createHoliday(LocalDate.of(2024, 11, 3), "Sunday Holiday", "Sunday Holiday", countryCode)));
+        }
+        HolidayService configuredService = new HolidayService(holidayProvider, new SimpleMeterRegistry(),
+            WeekendRules.standard().withCountryWeekends(Map.of("US", EnumSet.of(DayOfWeek.SUNDAY))));
+
+        // Act
+        List<CountryHolidayCount> standard = holidayService.getNonWeekendHolidayCount(2024, List.of("US", "SA"));
+        NonWeekendHolidayMatrix configured = configuredService.getNonWeekendHolidayCounts(List.of("US", "SA"), 2024, 2024);
+
+        // Assert
+        assertEquals(1, countFor(standard, "US")); // Friday
+        assertEquals(1, countFor(standard, "SA")); // Sunday
+        assertEquals(2, configured.getCount("US", 2024));
+        assertEquals(1, configured.getCount("SA", 2024));
+    }
+
+    @Test
+    void testGetNonWeekendHolidayCounts_FollowWeekendChangesByYear() {
+        // Arrange - A Friday holiday in each year; the UAE weekend was Friday and Saturday until 2022
+        when(holidayProvider.getPublicHolidays(2021, "AE")).thenReturn(List.of(
+            createHoliday(LocalDate.of(2021, 12, 3), "Commemoration Day", "Commemoration Day", "AE")));
+        when(holidayProvider.getPublicHolidays(2022, "AE")).thenReturn(List.of(
+            createHoliday(LocalDate.of(2022, 12, 2), "National Day", "National Day", "AE")));
+
+        // Act
+        NonWeekendHolidayMatrix result = holidayService.getNonWeekendHolidayCounts(List.of("AE"), 2021, 2022);
+
+        // Assert
+        assertEquals(0, result.getCount("AE", 2021));
+        assertEquals(1, result.getCount("AE", 2022));
+    }
+
+    @Test
+    void testAddBusinessDays_SkipsWeekendsAndHolidaysAcrossYears() {
+        // Arrange
+        stubYearlyUsHolidays();
+
+        // Act & Assert - 2024-12-24 is a Tuesday; 25 and 26 are holidays, 28 and 29 the weekend, 2025-01-01 a holiday
+        assertEquals(LocalDate.of(2024, 12, 24), holidayService.addBusinessDays("US", LocalDate.of(2024, 12, 24), 0));
+        assertEquals(LocalDate.of(2024, 12, 27), holidayService.addBusinessDays("US", LocalDate.of(2024, 12, 24), 1));
+        assertEquals(LocalDate.of(2025, 1, 2), holidayService.addBusinessDays("US", LocalDate.of(2024, 12, 24), 4));
+        assertEquals(LocalDate.of(2024, 12, 24), holidayService.addBusinessDays("US", LocalDate.of(2025, 1, 2), -4));
+        // Starting on a holiday counts from the next and previous business days
+        assertEquals(LocalDate.of(2024, 12, 27), holidayService.addBusinessDays("US", LocalDate.of(2024, 12, 25), 1));
+        assertEquals(LocalDate.of(2024, 12, 24), holidayService.addBusinessDays("US", LocalDate.of(2024, 12, 25), -1));
+    }
+
+    @Test
+    void testAddBusinessDays_MatchesDayByDayWalkOverSeveralYears() {
+        // Arrange
+        stubYearlyUsHolidays();
+        LocalDate start = LocalDate.of(2023, 6, 15);
+
+        // Act
+        LocalDate forward = holidayService.addBusinessDays("US", start, 600);
+        LocalDate backward = holidayService.addBusinessDays("US", start, -600);
+
+        // Assert
+        assertEquals(walkBusinessDays(start, 600), forward);
+        assertEquals(walkBusinessDays(start, -600), backward);
+    }
+
+    @Test
+    void testCountBusinessDays_MatchesDayByDayCount() {
+        // Arrange
+        stubYearlyUsHolidays();
+        LocalDate start = LocalDate.of(2022, 12, 23);
+        LocalDate end = LocalDate.of(2025, 1, 3);
+        int expected = 0;
+        for (LocalDate date = start; date.isBefore(end); date = date.plusDays(1)) {
+            if (isUsBusinessDay(date)) {
+                expected++;
+            }
+        }
+
+        // Act & Assert
+        assertEquals(expected, holidayService.countBusinessDays("US", start, end));
+        assertEquals(-expected, holidayService.countBusinessDays("US", end, start));
+        assertEquals(0, holidayService.countBusinessDays("US", start, start));
+        assertEquals(1, holidayService.countBusinessDays("US", LocalDate.of(2024, 12, 24), LocalDate.of(2024, 12, 26)));
+    }
+
+    @Test
+    void testCountBusinessDays_RejectsSpansOverOneHundredYears() {
+        assertThrows(IllegalArgumentException.class, () -> holidayService.countBusinessDays(
+            "US", LocalDate.of(1900, 1, 1), LocalDate.of(2000, 1, 1)));
+        verifyNoInteractions(holidayProvider);
+    }
+
+    @Test
+    void testRegionalQueries_UseTheSubdivisionsHolidays() {
+        // Arrange - 2024-01-06 is a Saturday, 2024-08-15 a Thursday, 2024-11-01 a Friday
+        PublicHoliday newYear = createHoliday(LocalDate.of(2024, 1, 1), "Neujahr", "New Year's Day", "DE");
+        PublicHoliday epiphany = createHoliday(LocalDate.of(2024, 1, 6), "Heilige Drei Könige", "Epiphany", "DE");
+        epiphany.setCounties(List.of("DE-BW", "DE-BY"));
+        PublicHoliday assumption = createHoliday(LocalDate.of(2024, 8, 15), "Assumption Day", "Mariä Himmelfahrt", "DE");
+        assumption.setCounties(List.of("DE-BY", "DE-SL"));
+        PublicHoliday allSaints = createHoliday(LocalDate.of(2024, 11, 1), "Allerheiligen", "All Saints' Day", "DE");
+        allSaints.setCounties(List.of("DE-BW", "DE-BY"));
+        PublicHoliday womensDay = createHoliday(LocalDate.of(2024, 3, 8), "Frauentag", "International Women's Day", "DE");
+        womensDay.setCounties(List.of("DE-BE"));
+        when(holidayProvider.getPublicHolidays(2024, "DE"))
+            .thenReturn(Arrays.asList(newYear, epiphany, womensDay, assumption, allSaints));
+        when(holidayProvider.getPublicHolidays(2024, "AT")).thenReturn(Arrays.asList(
+            createHoliday(LocalDate.of(2024, 1, 6), "Heilige Drei Könige", "Epiphany", "AT"),
+            createHoliday(LocalDate.of(2024, 8, 15), "Mariä Himmelfahrt", "Assumption Day", "AT")));
+
+        // Act
+        List<PublicHoliday> lastInBavaria = holidayService.getLastCelebratedHolidays("DE-BY", 3, LocalDate.of(2024, 12, 1));
+        List<CountryHolidayCount> counts = holidayService.getNonWeekendHolidayCount(2024, List.of("DE-BY", "DE-BE", "DE"));
+        List<SharedHoliday> sharedWithAustria = holidayService.getSharedHolidays(2024, "DE-SL", "AT");
+
+        // Assert
+        assertEquals(List.of(allSaints, assumption, epiphany), lastInBavaria);
+        assertEquals(3, countFor(counts, "DE-BY"));
+        assertEquals(2, countFor(counts, "DE-BE"));
+        assertEquals(4, countFor(counts, "DE"));
+        assertEquals(1, sharedWithAustria.size());
+        assertEquals(LocalDate.of(2024, 8, 15), sharedWithAustria.get(0).getDate());
+        assertEquals("Mariä Himmelfahrt", sharedWithAustria.get(0).getLocalNames().get("DE-SL"));
+        verify(holidayProvider, never()).getPublicHolidays(anyInt(), eq("DE-BY"));
+    }
+
+    @Test
+    void testRegionalQueries_UnknownSubdivisionIsNotFound() {
+        // Arrange
+        PublicHoliday epiphany = createHoliday(LocalDate.of(2024, 1, 6), "Heilige Drei Könige", "Epiphany", "DE");
+        epiphany.setCounties(List.of("DE-BY"));
+        when(holidayProvider.getPublicHolidays(2024, "DE")).thenReturn(Arrays.asList(
+            createHoliday(LocalDate.of(2024, 1, 1), "Neujahr", "New Year's Day", "DE"), epiphany));
+
+        // Act
+        HolidayProviderException error = assertThrows(HolidayProviderException.class,
+            () -> holidayService.getNonWeekendHolidayCount(2024, List.of("DE-BY", "DE-XX")));
+
+        // Assert
+        assertEquals(404, error.getStatusCode());
+        assertTrue(error.getMessage().contains("DE-XX"));
+        assertThrows(HolidayProviderException.class,
+            () -> holidayService.getUpcomingHolidays("DE-XX", 1, LocalDate.of(2024, 1, 1)));
+    }
+
+    @Test
+    void testRegionalQueries_ObserveNationwideHolidaysInYearsWithoutRegionalOnes() {
+        // Arrange - Bremen has observed Reformation Day since 2018, and the data starts in 2017
+        PublicHoliday reformationDay = createHoliday(LocalDate.of(2018, 10, 31), "Reformationstag", "Reformation Day", "DE");
+        reformationDay.setCounties(List.of("DE-HB", "DE-NI"));
+        PublicHoliday newYear2018 = createHoliday(LocalDate.of(2018, 1, 1), "Neujahr", "New Year's Day", "DE");
+        PublicHoliday newYear2017 = createHoliday(LocalDate.of(2017, 1, 1), "Neujahr", "New Year's Day", "DE");
+        PublicHoliday christmas2017 = createHoliday(LocalDate.of(2017, 12, 25), "Weihnachtstag", "Christmas Day", "DE");
+        when(holidayProvider.getPublicHolidays(2018, "DE")).thenReturn(Arrays.asList(newYear2018, reformationDay));
+        when(holidayProvider.getPublicHolidays(2017, "DE")).thenReturn(Arrays.asList(newYear2017, christmas2017));
+        when(holidayProvider.getPublicHolidays(2016, "DE")).thenReturn(List.of());
+
+        // Act
+        List<PublicHoliday> lastInBremen = holidayService.getLastCelebratedHolidays("DE-HB", 5, LocalDate.of(2018, 12, 31));
+
+        // Assert - the walk crosses 2017 on the nationwide holidays and ends where the data does
+        assertEquals(List.of(reformationDay, newYear2018, christmas2017, newYear2017), lastInBremen);
+        assertEquals(1, countFor(holidayService.getNonWeekendHolidayCount(2017, List.of("DE-NI")), "DE-NI"));
+    }
+
+    @Test
+    void testRegionalQueries_KnowSubdivisionsListedInTheCurrentYear() {
+        // Arrange - a query for a year before the subdivision's first regional holiday
+        int currentYear = LocalDate.now().getYear();
+        PublicHoliday reformationDay = createHoliday(LocalDate.of(currentYear, 10, 31), "Reformationstag", "Reformation Day", "DE");
+        reformationDay.setCounties(List.of("DE-HB"));
+        PublicHoliday christmas2017 = createHoliday(LocalDate.of(2017, 12, 25), "Weihnachtstag", "Christmas Day", "DE");
+        when(holidayProvider.getPublicHolidays(currentYear, "DE")).thenReturn(List.of(reformationDay));
+        when(holidayProvider.getPublicHolidays(2017, "DE")).thenReturn(List.of(christmas2017));
+
+        // Act
+        List<PublicHoliday> upcomingInBremen = holidayService.getUpcomingHolidays("DE-HB", 1, LocalDate.of(2017, 6, 1));
+
+        // Assert
+        assertEquals(List.of(christmas2017), upcomingInBremen);
+        HolidayProviderException error = assertThrows(HolidayProviderException.class,
+            () -> holidayService.getUpcomingHolidays("DE-XX", 1, LocalDate.of(2017, 6, 1)));
+        assertEquals(404, error.getStatusCode());
+    }
+
+    @Test
+    void testRegionalQueries_UseTheCountrysWeekend() {
+        // Arrange - 2024-11-01 is a Friday, a weekend day in Saudi Arabia
+        PublicHoliday regional = createHoliday(LocalDate.of(2024, 11, 1), "Regional Day", "Regional Day", "SA");
+        regional.setCounties(List.of("SA-01"));
+        when(holidayProvider.getPublicHolidays(2024, "SA")).thenReturn(Arrays.asList(regional));
+
+        // Act
+        List<CountryHolidayCount> counts = holidayService.getNonWeekendHolidayCount(2024, List.of("SA-01"));
+
+        // Assert
+        assertEquals(0, countFor(counts, "SA-01"));
+    }
+
     @Test
     void testGetSharedHolidays() {
         // Arrange
@@ -215,7 +735,177 @@ class HolidayServiceTest {
         assertEquals(0, result.get(0).getHolidayCount());
     }
 
+    @Test
+    void testGetNonWeekendHolidayCount_FetchesCountriesConcurrently() throws InterruptedException {
+        // Arrange - Every fetch waits until all of them are in flight, so a sequential loop would time out
+        List<String> countryCodes = Arrays.asList("US", "GB", "DE", "FR", "IT");
+        CyclicBarrier allInFlight = new CyclicBarrier(countryCodes.size());
+        ExecutorService executor = Executors.newFixedThreadPool(countryCodes.size());
+
+        HolidayProvider slowProvider = new HolidayProvider() {
+            @Override
+            public List<PublicHoliday> getPublicHolidays(int year, String countryCode) {
+                try {
+                    allInFlight.await(5, TimeUnit.SECONDS);
+                } catch (Exception e) {
+                    throw new IllegalStateException("Fetches were not issued concurrently", e);
+                }
+                return List.of(createHoliday(LocalDate.of(year, 1, 1), "New Year's Day", "New Year's Day", countryCode));
+            }
+
+            @Override
+            public CompletableFuture<List<PublicHoliday>> getPublicHolidaysAsync(int year, String countryCode) {
+                return CompletableFuture.supplyAsync(() -> getPublicHolidays(year, countryCode), executor);
+            }
+        };
+
+        try {
+            // Act
+            List<CountryHolidayCount> result = new HolidayService(slowProvider).getNonWeekendHolidayCount(2024, countryCodes);
+
+            // Assert - Original order is kept for equal counts
+            assertEquals(countryCodes, result.stream().map(CountryHolidayCount::getCountryCode).toList());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testGetSharedHolidays_PropagatesProviderFailure() {
+        // Arrange
+        when(holidayProvider.getPublicHolidays(2024, "US")).thenReturn(List.of());
+        when(holidayProvider.getPublicHolidays(2024, "XX")).thenThrow(new IllegalArgumentException("Unknown country"));
+
+        // Act & Assert - The original exception reaches synchronous callers unwrapped
+        assertThrows(IllegalArgumentException.class, () -> holidayService.getSharedHolidays(2024, "US", "XX"));
+    }
+
+    @Test
+    void testGetSharedHolidays_AllOfManyCountries() {
+        // Arrange
+        int year = 2024;
+        when(holidayProvider.getPublicHolidays(year, "DE")).thenReturn(Arrays.asList(
+            createHoliday(LocalDate.of(2024, 1, 1), "New Year's Day", "Neujahr", "DE"),
+            createHoliday(LocalDate.of(2024, 10, 3), "German Unity Day", "Tag der Deutschen Einheit", "DE"),
+            createHoliday(LocalDate.of(2024, 12, 25), "Christmas Day", "Erster Weihnachtstag", "DE")
+        ));
+        when(holidayProvider.getPublicHolidays(year, "FR")).thenReturn(Arrays.asList(
+            createHoliday(LocalDate.of(2024, 1, 1), "New Year's Day", "Jour de l'an", "FR"),
+            createHoliday(LocalDate.of(2024, 12, 25), "Christmas Day", "Noël", "FR")
+        ));
+        when(holidayProvider.getPublicHolidays(year, "IT")).thenReturn(Arrays.asList(
+            createHoliday(LocalDate.of(2024, 1, 1), "New Year's Day", "Capodanno", "IT"),
+            createHoliday(LocalDate.of(2024, 10, 3), "Unity Day", "Unity Day", "IT")
+        ));
+
+        // Act
+        List<SharedHoliday> result = holidayService.getSharedHolidays(year, Arrays.asList("DE", "FR", "IT", "FR"));
+
+        // Assert - Only New Year's Day is shared by all three; names keep the requested country order
+        assertEquals(1, result.size());
+        assertEquals(LocalDate.of(2024, 1, 1), result.get(0).getDate());
+        assertEquals(List.of("DE", "FR", "IT"), List.copyOf(result.get(0).getLocalNames().keySet()));
+        assertEquals("Capodanno", result.get(0).getLocalNames().get("IT"));
+    }
+
+    @Test
+    void testGetSharedHolidays_AtLeastKCountries() {
+        // Arrange
+        int year = 2024;
+        when(holidayProvider.getPublicHolidays(year, "DE")).thenReturn(Arrays.asList(
+            createHoliday(LocalDate.of(2024, 1, 1), "New Year's Day", "Neujahr", "DE"),
+            createHoliday(LocalDate.of(2024, 10, 3), "German Unity Day", "Tag der Deutschen Einheit", "DE")
+        ));
+        when(holidayProvider.getPublicHolidays(year, "FR")).thenReturn(Arrays.asList(
+            createHoliday(LocalDate.of(2024, 1, 1), "New Year's Day", "Jour de l'an", "FR"),
+            createHoliday(LocalDate.of(2024, 7, 14), "Bastille Day", "Fête nationale", "FR")
+        ));
+        when(holidayProvider.getPublicHolidays(year, "XX")).thenReturn(null);
+
+        // Act
+        List<SharedHoliday> result = holidayService.getSharedHolidays(year, Arrays.asList("DE", "FR", "XX"), 2);
+
+        // Assert
+        assertEquals(1, result.size());
+        assertEquals(LocalDate.of(2024, 1, 1), result.get(0).getDate());
+        assertEquals(2, result.get(0).getLocalNames().size());
+
+        // A single country is enough for k = 1, giving the union in date order
+        List<SharedHoliday> union = holidayService.getSharedHolidays(year, Arrays.asList("DE", "FR", "XX"), 1);
+        assertEquals(Arrays.asList(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 7, 14), LocalDate.of(2024, 10, 3)),
+            union.stream().map(SharedHoliday::getDate).toList());
+    }
+
+    @Test
+    void testGetSharedHolidays_RejectsInvalidMinimum() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+            () -> holidayService.getSharedHolidays(2024, Arrays.asList("DE", "FR"), 3));
+        assertThrows(IllegalArgumentException.class,
+            () -> holidayService.getSharedHolidays(2024, Arrays.asList("DE", "FR"), 0));
+        verifyNoInteractions(holidayProvider);
+    }
+
+    @Test
+    void testQueries_AreTimedByOperationAndOutcome() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        HolidayService timedService = new HolidayService(holidayProvider, registry);
+        when(holidayProvider.getPublicHolidays(2024, "US")).thenReturn(List.of());
+        when(holidayProvider.getPublicHolidays(2024, "XX")).thenThrow(new IllegalArgumentException("Unknown country"));
+
+        // Act
+        timedService.getNonWeekendHolidayCount(2024, List.of("US"));
+        timedService.getSharedHolidays(2024, "US", "US");
+        assertThrows(IllegalArgumentException.class, () -> timedService.getNonWeekendHolidayCount(2024, List.of("XX")));
+
+        // Assert
+        assertEquals(1, registry.get("holiday.service.queries")
+            .tags("operation", "non-weekend-count", "outcome", "success").timer().count());
+        assertEquals(1, registry.get("holiday.service.queries")
+            .tags("operation", "non-weekend-count", "outcome", "error").timer().count());
+        assertEquals(1, registry.get("holiday.service.queries")
+            .tags("operation", "shared-holidays", "outcome", "success").timer().count());
+    }
+
     // Helper method to create a PublicHoliday for testing
+    private void stubYearlyUsHolidays() {
+        when(holidayProvider.getPublicHolidays(anyInt(), eq("US"))).thenAnswer(invocation -> {
+            int year = invocation.getArgument(0);
+            return Arrays.asList(
+                createHoliday(LocalDate.of(year, 1, 1), "New Year's Day", "New Year's Day", "US"),
+                createHoliday(LocalDate.of(year, 7, 4), "Independence Day", "Independence Day", "US"),
+                createHoliday(LocalDate.of(year, 12, 25), "Christmas Day", "Christmas Day", "US"),
+                createHoliday(LocalDate.of(year, 12, 26), "Day after Christmas", "Day after Christmas", "US"));
+        });
+    }
+
+    private boolean isUsBusinessDay(LocalDate date) {
+        return date.getDayOfWeek() != DayOfWeek.SATURDAY && date.getDayOfWeek() != DayOfWeek.SUNDAY
+            && !(date.getMonthValue() == 1 && date.getDayOfMonth() == 1)
+            && !(date.getMonthValue() == 7 && date.getDayOfMonth() == 4)
+            && !(date.getMonthValue() == 12 && date.getDayOfMonth() >= 25 && date.getDayOfMonth() <= 26);
+    }
+
+    private LocalDate walkBusinessDays(LocalDate date, int businessDays) {
+        int step = businessDays > 0 ? 1 : -1;
+        for (int remaining = Math.abs(businessDays); remaining > 0; ) {
+            date = date.plusDays(step);
+            if (isUsBusinessDay(date)) {
+                remaining--;
+            }
+        }
+        return date;
+    }
+
+    private int countFor(List<CountryHolidayCount> counts, String countryCode) {
+        return counts.stream()
+            .filter(count -> count.getCountryCode().equals(countryCode))
+            .findFirst()
+            .orElseThrow()
+            .getHolidayCount();
+    }
+
     private PublicHoliday createHoliday(LocalDate date, String name, String localName, String countryCode) {
         PublicHoliday holiday = new PublicHoliday();
         holiday.setDate(date);
@@ -0,0 +1,93 @@
+package com.accenture.assessment.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for LongKeyedTable.
+ */
+class LongKeyedTableTest {
+
+    @Test
+    void testPutAndGet_GrowsPastInitialCapacity() {
+        // Arrange
+        LongKeyedTable<String> table = new LongKeyedTable<>();
+
+        // Act - Keys include zero and negatives, and collide in their low bits
+        for (long key = -50; key < 50; key++) {
+            table.put(key << 32, "v" + key);
+        }
+
+        // Assert
+        assertEquals(100, table.size());
+        for (long key = -50; key < 50; key++) {
+            assertEquals("v" + key, table.get(key << 32));
+        }
+        assertNull(table.get(50L << 32));
+    }
+
+    @Test
+    void testPut_ReplacesExistingValue() {
+        LongKeyedTable<String> table = new LongKeyedTable<>();
+        table.put(7, "old");
+
+        table.put(7, "new");
+
+        assertEquals(1, table.size());
+        assertEquals("new", table.get(7));
+    }
+
+    @Test
+    void testConditionalRemoveAndReplace_OnlyApplyToExpectedValue() {
+        // Arrange
+        LongKeyedTable<String> table = new LongKeyedTable<>();
+        String value = "value";
+        table.put(1, value);
+
+        // Act & Assert
+        assertFalse(table.replace(1, "other", "replaced"));
+        assertFalse(table.remove(1, "other"));
+        assertFalse(table.remove(2, value));
+        assertTrue(table.replace(1, value, "replaced"));
+        assertEquals("replaced", table.get(1));
+        assertTrue(table.remove(1, "replaced"));
+        assertNull(table.get(1));
+        assertEquals(0, table.size());
+    }
+
+    @Test
+    void testRemove_KeepsCollidingKeysReachable() {
+        // Arrange - Fill enough keys that probe sequences overlap
+        LongKeyedTable<Long> table = new LongKeyedTable<>();
+        for (long key = 0; key < 200; key++) {
+            table.put(key, key);
+        }
+
+        // Act
+        for (long key = 0; key < 200; key += 2) {
+            assertTrue(table.remove(key, table.get(key)));
+        }
+
+        // Assert
+        assertEquals(100, table.size());
+        for (long key = 0; key < 200; key++) {
+            assertEquals(key % 2 == 0 ? null : Long.valueOf(key), table.get(key));
+        }
+    }
+
+    @Test
+    void testForEach_VisitsEveryEntry() {
+        LongKeyedTable<String> table = new LongKeyedTable<>();
+        table.put(1, "a");
+        table.put(-1, "b");
+
+        Map<Long, String> visited = new HashMap<>();
+        table.forEach(visited::put);
+
+        assertEquals(Map.of(1L, "a", -1L, "b"), visited);
+    }
+}
@@ -0,0 +1,95 @@
+package com.accenture.assessment.service;
+
+import com.accenture.assessment.model.PublicHoliday;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NagerHolidayDecoderTest {
+
+    private static final String RESPONSE = """
+        [
+          {"date":"2024-01-01","localName":"Neujahr","name":"New Year's Day","countryCode":"DE",
+           "fixed":true,"global":true,"counties":null,"launchYear":1967,"types":["Public"]},
+          {"date":"2024-01-06","localName":"Heilige Drei Könige","name":"Epiphany","countryCode":"DE",
+           "fixed":true,"global":false,"counties":["DE-BW","DE-BY","DE-ST"],"launchYear":null,
+           "types":["Public","Optional"],"extra":{"nested":[1,2,{"deep":true}]}}
+        ]
+        """;
+
+    @Test
+    void testDecodesEveryField() throws IOException {
+        List<PublicHoliday> holidays = decode(RESPONSE);
+
+        assertEquals(2, holidays.size());
+        PublicHoliday newYear = holidays.get(0);
+        assertEquals(LocalDate.of(2024, 1, 1), newYear.getDate());
+        assertEquals("Neujahr", newYear.getLocalName());
+        assertEquals("New Year's Day", newYear.getName());
+        assertEquals("DE", newYear.getCountryCode());
+        assertEquals(Boolean.TRUE, newYear.getFixed());
+        assertEquals(Boolean.TRUE, newYear.getGlobal());
+        assertNull(newYear.getCounties());
+        assertEquals(1967, newYear.getLaunchYear());
+        assertEquals(List.of("Public"), newYear.getTypes());
+
+        PublicHoliday epiphany = holidays.get(1);
+        assertEquals("Heilige Drei Könige", epiphany.getLocalName());
+        assertEquals(Boolean.FALSE, epiphany.getGlobal());
+        assertEquals(List.of("DE-BW", "DE-BY", "DE-ST"), epiphany.getCounties());
+        assertNull(epiphany.getLaunchYear());
+        assertEquals(List.of("Public", "Optional"), epiphany.getTypes());
+    }
+
+    @Test
+    void testRepeatedValuesShareInstances() throws IOException {
+        List<PublicHoliday> first = decode(RESPONSE);
+        List<PublicHoliday> second = NagerHolidayDecoder.decode(
+            new ByteArrayInputStream(RESPONSE.getBytes(StandardCharsets.UTF_8)));
+
+        assertSame(first.get(0).getCountryCode(), first.get(1).getCountryCode());
+        assertSame(first.get(0).getName(), second.get(0).getName());
+        assertSame(first.get(0).getTypes(), second.get(0).getTypes());
+        assertSame(first.get(1).getCounties(), second.get(1).getCounties());
+        assertThrows(UnsupportedOperationException.class, () -> first.get(0).getTypes().add("Bank"));
+    }
+
+    @Test
+    void testEmptyAndNullBodiesDecodeToNull() throws IOException {
+        assertNull(NagerHolidayDecoder.decode(new byte[0]));
+        assertNull(decode("null"));
+        assertTrue(decode("[]").isEmpty());
+    }
+
+    @Test
+    void testNonIsoDateFallsBackToParser() throws IOException {
+        List<PublicHoliday> holidays = decode("[{\"date\":\"+12024-01-01\"}]");
+
+        assertEquals(LocalDate.of(12024, 1, 1), holidays.get(0).getDate());
+    }
+
+    @Test
+    void testDecodesAvailableCountryCodes() throws IOException {
+        String json = "[{\"countryCode\":\"AD\",\"name\":\"Andorra\"},{\"countryCode\":\"AL\",\"name\":\"Albania\"}]";
+
+        List<String> countryCodes = NagerHolidayDecoder.decodeCountryCodes(
+            new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(List.of("AD", "AL"), countryCodes);
+    }
+
+    @Test
+    void testRejectsNonArrayBody() {
+        assertThrows(IOException.class, () -> decode("{\"status\":404}"));
+    }
+
+    private static List<PublicHoliday> decode(String json) throws IOException {
+        return NagerHolidayDecoder.decode(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
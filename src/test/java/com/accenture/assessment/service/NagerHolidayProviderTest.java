@@ -0,0 +1,202 @@
+package com.accenture.assessment.service;
+
+import com.accenture.assessment.config.NagerProperties;
+import com.accenture.assessment.model.PublicHoliday;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NagerHolidayProviderTest {
+
+    private static final String BODY = "[{\"date\":\"2024-12-25\",\"localName\":\"Christmas Day\",\"name\":\"Christmas Day\","
+        + "\"countryCode\":\"GB\",\"fixed\":false,\"global\":true,\"counties\":null,\"launchYear\":null,"
+        + "\"types\":[\"Public\"],\"unknownField\":1}]";
+
+    private HttpServer server;
+    private SimpleMeterRegistry meterRegistry;
+    private UpstreamRequestScheduler scheduler;
+    private NagerHolidayProvider provider;
+    private volatile String lastAcceptEncoding;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        NagerProperties properties = properties();
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new UpstreamRequestScheduler(properties.getMaxConnections(), 0, 1, meterRegistry);
+        provider = new NagerHolidayProvider(properties, Runnable::run, scheduler, meterRegistry);
+    }
+
+    private NagerProperties properties() {
+        NagerProperties properties = new NagerProperties();
+        properties.setBaseUrl(URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/api/v3"));
+        properties.setRequestTimeout(Duration.ofMillis(500));
+        properties.setMaxConnections(2);
+        return properties;
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.close();
+        server.stop(0);
+    }
+
+    @Test
+    void testGzipResponseIsDecoded() {
+        server.createContext("/api/v3/PublicHolidays/2024/GB", exchange -> {
+            lastAcceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            respond(exchange, 200, gzip(BODY));
+        });
+
+        List<PublicHoliday> holidays = provider.getPublicHolidays(2024, "GB");
+
+        assertEquals("gzip", lastAcceptEncoding);
+        assertEquals(1, holidays.size());
+        PublicHoliday holiday = holidays.get(0);
+        assertEquals(LocalDate.of(2024, 12, 25), holiday.getDate());
+        assertEquals("Christmas Day", holiday.getLocalName());
+        assertEquals(Boolean.TRUE, holiday.getGlobal());
+        assertEquals(List.of("Public"), holiday.getTypes());
+        assertEquals(1, meterRegistry.get("holiday.upstream.requests").tag("outcome", "success").timer().count());
+    }
+
+    @Test
+    void testUncompressedResponseIsDecoded() {
+        server.createContext("/api/v3/PublicHolidays/2024/GB",
+            exchange -> respond(exchange, 200, BODY.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(1, provider.getPublicHolidays(2024, "GB").size());
+    }
+
+    @Test
+    void testEmptyBodyReturnsNull() {
+        server.createContext("/api/v3/PublicHolidays/2024/XX", exchange -> respond(exchange, 204, new byte[0]));
+
+        assertNull(provider.getPublicHolidays(2024, "XX"));
+    }
+
+    @Test
+    void testClientErrorCarriesStatus() {
+        server.createContext("/api/v3/PublicHolidays/2024/ZZ", exchange -> respond(exchange, 404, new byte[0]));
+
+        HolidayProviderException e = assertThrows(HolidayProviderException.class,
+            () -> provider.getPublicHolidays(2024, "ZZ"));
+
+        assertEquals(404, e.getStatusCode());
+        assertTrue(e.isUnknownKey());
+        assertEquals(1, meterRegistry.get("holiday.upstream.requests").tag("outcome", "client_error").timer().count());
+    }
+
+    @Test
+    void testServerErrorCarriesStatus() {
+        server.createContext("/api/v3/PublicHolidays/2024/GB", exchange -> respond(exchange, 503, new byte[0]));
+
+        HolidayProviderException e = assertThrows(HolidayProviderException.class,
+            () -> provider.getPublicHolidays(2024, "GB"));
+
+        assertEquals(503, e.getStatusCode());
+        assertFalse(e.isUnknownKey());
+        assertEquals(1, meterRegistry.get("holiday.upstream.requests").tag("outcome", "server_error").timer().count());
+    }
+
+    @Test
+    void testAvailableCountryCodes() {
+        server.createContext("/api/v3/AvailableCountries", exchange -> respond(exchange, 200,
+            "[{\"countryCode\":\"AD\",\"name\":\"Andorra\"},{\"countryCode\":\"GB\",\"name\":\"United Kingdom\"}]"
+                .getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(List.of("AD", "GB"), provider.getAvailableCountryCodes());
+    }
+
+    @Test
+    void testHungUpstreamTimesOut() {
+        server.createContext("/api/v3/PublicHolidays/2024/GB", exchange -> {
+            try {
+                Thread.sleep(5_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, 200, BODY.getBytes(StandardCharsets.UTF_8));
+        });
+
+        long start = System.nanoTime();
+        HolidayProviderException e = assertThrows(HolidayProviderException.class,
+            () -> provider.getPublicHolidays(2024, "GB"));
+
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 4_000);
+        assertEquals(HolidayProviderException.NO_STATUS, e.getStatusCode());
+        assertEquals(1, meterRegistry.get("holiday.upstream.requests").tag("outcome", "error").timer().count());
+    }
+
+    @Test
+    void testAsyncFetchesReturnTheirPermits() {
+        server.createContext("/api/v3/PublicHolidays/2024/GB",
+            exchange -> respond(exchange, 200, BODY.getBytes(StandardCharsets.UTF_8)));
+        server.createContext("/api/v3/PublicHolidays/2024/FR", exchange -> respond(exchange, 503, new byte[0]));
+
+        // More fetches than the two permits, so a permit kept by any of them would stall the rest
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            for (int i = 0; i < 3; i++) {
+                assertEquals(1, provider.getPublicHolidaysAsync(2024, "GB").join().size());
+                CompletionException e = assertThrows(CompletionException.class,
+                    () -> provider.getPublicHolidaysAsync(2024, "FR").join());
+                assertEquals(503, assertInstanceOf(HolidayProviderException.class, e.getCause()).getStatusCode());
+            }
+        });
+        assertEquals(3, meterRegistry.get("holiday.upstream.requests").tag("outcome", "server_error").timer().count());
+    }
+
+    @Test
+    void testRejectedDecodeReturnsThePermit() {
+        server.createContext("/api/v3/PublicHolidays/2024/GB",
+            exchange -> respond(exchange, 200, BODY.getBytes(StandardCharsets.UTF_8)));
+        NagerHolidayProvider rejecting = new NagerHolidayProvider(properties(), task -> {
+            throw new RejectedExecutionException("fetch pool saturated");
+        }, scheduler, meterRegistry);
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            for (int i = 0; i < 3; i++) {
+                assertThrows(CompletionException.class, () -> rejecting.getPublicHolidaysAsync(2024, "GB").join());
+            }
+            assertEquals(1, provider.getPublicHolidays(2024, "GB").size());
+        });
+    }
+
+    private static void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static byte[] gzip(String value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(value.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,105 @@
+package com.accenture.assessment.service;
+
+import com.accenture.assessment.model.PublicHoliday;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for OfflineHolidayProvider.
+ */
+class OfflineHolidayProviderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testJsonDirectory_ServesNagerShapedFiles() throws IOException {
+        // Arrange
+        write("2024/US.json", "[{\"date\":\"2024-07-04\",\"localName\":\"Independence Day\",\"name\":\"Independence Day\","
+            + "\"countryCode\":\"US\",\"global\":true,\"types\":[\"Public\"]}]");
+        write("2024/gb.json", "[{\"date\":\"2024-12-25\",\"localName\":\"Christmas Day\",\"countryCode\":\"GB\"}]");
+        write("2025/US.json", "[]");
+        write("2024/README.txt", "ignored");
+        write("notes/US.json", "ignored");
+
+        try (OfflineHolidayProvider provider = new OfflineHolidayProvider(tempDir)) {
+            // Act
+            List<PublicHoliday> us = provider.getPublicHolidays(2024, "US");
+
+            // Assert
+            assertEquals(3, provider.getEntryCount());
+            assertEquals(1, us.size());
+            assertEquals(LocalDate.of(2024, 7, 4), us.get(0).getDate());
+            assertEquals(List.of("Public"), us.get(0).getTypes());
+            assertEquals("Christmas Day", provider.getPublicHolidays(2024, "GB").get(0).getLocalName());
+            assertTrue(provider.getPublicHolidays(2025, "US").isEmpty());
+            // Repeated reads decode the same mapping again
+            assertEquals(us.get(0).getDate(), provider.getPublicHolidays(2024, "US").get(0).getDate());
+        }
+    }
+
+    @Test
+    void testMissingYearOfKnownCountry_ReturnsNull() throws IOException {
+        write("2024/US.json", "[]");
+
+        try (OfflineHolidayProvider provider = new OfflineHolidayProvider(tempDir)) {
+            assertNull(provider.getPublicHolidays(1999, "US"));
+        }
+    }
+
+    @Test
+    void testUnknownCountry_FailsAsNotFound() throws IOException {
+        write("2024/US.json", "[]");
+
+        try (OfflineHolidayProvider provider = new OfflineHolidayProvider(tempDir)) {
+            HolidayProviderException e = assertThrows(HolidayProviderException.class,
+                () -> provider.getPublicHolidays(2024, "ZZ"));
+            assertEquals(404, e.getStatusCode());
+        }
+    }
+
+    @Test
+    void testBinaryExport_ServesDiskCacheFile() throws IOException {
+        // Arrange - The disk cache tier writes the binary format
+        Path file = tempDir.resolve("export.bin");
+        PublicHoliday holiday = new PublicHoliday();
+        holiday.setDate(LocalDate.of(2024, 1, 1));
+        holiday.setName("New Year's Day");
+        holiday.setCountryCode("DE");
+        try (DiskCachedHolidayProvider exporter = new DiskCachedHolidayProvider((year, countryCode) -> List.of(holiday), file)) {
+            exporter.getPublicHolidays(2024, "DE");
+            exporter.getPublicHolidays(2025, "DE");
+        }
+
+        try (OfflineHolidayProvider provider = new OfflineHolidayProvider(file)) {
+            // Assert
+            assertEquals(2, provider.getEntryCount());
+            assertEquals("New Year's Day", provider.getPublicHolidays(2024, "DE").get(0).getName());
+            assertNull(provider.getPublicHolidays(2026, "DE"));
+            assertThrows(HolidayProviderException.class, () -> provider.getPublicHolidays(2024, "US"));
+        }
+    }
+
+    @Test
+    void testCorruptJson_FailsWithProviderException() throws IOException {
+        write("2024/US.json", "{not json");
+
+        try (OfflineHolidayProvider provider = new OfflineHolidayProvider(tempDir)) {
+            assertThrows(HolidayProviderException.class, () -> provider.getPublicHolidays(2024, "US"));
+        }
+    }
+
+    private void write(String relativePath, String content) throws IOException {
+        Path file = tempDir.resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+    }
+}
@@ -0,0 +1,130 @@
+package com.accenture.assessment.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for UpstreamRequestScheduler.
+ */
+class UpstreamRequestSchedulerTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicLong nanoTime = new AtomicLong();
+    private UpstreamRequestScheduler scheduler;
+
+    @AfterEach
+    void tearDown() {
+        if (scheduler != null) {
+            scheduler.close();
+        }
+    }
+
+    @Test
+    void testQueuedRequests_GrantedHighestPriorityFirst() {
+        // Arrange - One connection, no rate limit
+        scheduler = new UpstreamRequestScheduler(1, 0, 1, registry, nanoTime::get);
+        CompletableFuture<Void> running = scheduler.acquire(RequestPriority.BACKGROUND);
+        CompletableFuture<Void> background = scheduler.acquire(RequestPriority.BACKGROUND);
+        CompletableFuture<Void> batch = scheduler.acquire(RequestPriority.BATCH);
+        CompletableFuture<Void> interactive = scheduler.acquire(RequestPriority.INTERACTIVE);
+
+        // Assert - Only the first request holds the connection
+        assertTrue(running.isDone());
+        assertEquals(1, scheduler.queueDepth(RequestPriority.BACKGROUND));
+        assertEquals(1.0, registry.get("holiday.upstream.queue.depth").tag("priority", "batch").gauge().value());
+
+        // Act & Assert - Each release lets the highest priority waiter through
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(5));
+        scheduler.release();
+        assertTrue(interactive.isDone());
+        assertFalse(batch.isDone());
+        scheduler.release();
+        assertTrue(batch.isDone());
+        assertFalse(background.isDone());
+        scheduler.release();
+        assertTrue(background.isDone());
+        assertEquals(0, scheduler.queueDepth(RequestPriority.BACKGROUND));
+        assertEquals(5.0, registry.get("holiday.upstream.queue.wait").tag("priority", "interactive").timer()
+            .totalTime(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void testTokenBucket_LimitsRateAfterBurst() {
+        // Arrange - 10 requests per second with a burst of 2
+        scheduler = new UpstreamRequestScheduler(10, 10, 2, registry, nanoTime::get);
+
+        // Act
+        CompletableFuture<Void> first = scheduler.acquire(RequestPriority.INTERACTIVE);
+        CompletableFuture<Void> second = scheduler.acquire(RequestPriority.INTERACTIVE);
+        CompletableFuture<Void> third = scheduler.acquire(RequestPriority.INTERACTIVE);
+
+        // Assert - The burst is spent, the third waits for a token to be refilled
+        assertTrue(first.isDone());
+        assertTrue(second.isDone());
+        assertFalse(third.isDone());
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+        third.orTimeout(5, TimeUnit.SECONDS).join();
+    }
+
+    @Test
+    void testCancelledWaiter_IsSkipped() {
+        // Arrange
+        scheduler = new UpstreamRequestScheduler(1, 0, 1, registry, nanoTime::get);
+        scheduler.acquire(RequestPriority.INTERACTIVE);
+        CompletableFuture<Void> cancelled = scheduler.acquire(RequestPriority.INTERACTIVE);
+        CompletableFuture<Void> next = scheduler.acquire(RequestPriority.BATCH);
+
+        // Act
+        cancelled.cancel(false);
+        scheduler.release();
+
+        // Assert
+        assertTrue(next.isDone());
+        assertFalse(next.isCompletedExceptionally());
+    }
+
+    @Test
+    void testClose_FailsQueuedAndNewRequests() {
+        // Arrange
+        scheduler = new UpstreamRequestScheduler(1, 0, 1, registry, nanoTime::get);
+        scheduler.acquire(RequestPriority.INTERACTIVE);
+        CompletableFuture<Void> queued = scheduler.acquire(RequestPriority.INTERACTIVE);
+
+        // Act
+        scheduler.close();
+
+        // Assert
+        CompletionException failure = assertThrows(CompletionException.class, queued::join);
+        assertInstanceOf(HolidayProviderException.class, failure.getCause());
+        assertThrows(HolidayProviderException.class, () -> scheduler.acquireBlocking(RequestPriority.BATCH));
+    }
+
+    @Test
+    void testInterruptedBlockingAcquire_GivesUpItsPlace() {
+        // Arrange
+        scheduler = new UpstreamRequestScheduler(1, 0, 1, registry, nanoTime::get);
+        scheduler.acquire(RequestPriority.INTERACTIVE);
+
+        // Act
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(HolidayProviderException.class, () -> scheduler.acquireBlocking(RequestPriority.INTERACTIVE));
+            assertTrue(Thread.currentThread().isInterrupted());
+        } finally {
+            Thread.interrupted();
+        }
+
+        // Assert - The abandoned request does not take the connection once it is released
+        scheduler.release();
+        CompletableFuture<Void> next = scheduler.acquire(RequestPriority.BACKGROUND);
+        assertTrue(next.isDone());
+    }
+}
@@ -0,0 +1,65 @@
+package com.accenture.assessment.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for WeekendRules.
+ */
+class WeekendRulesTest {
+
+    @Test
+    void testStandard_KnowsFridaySaturdayCountries() {
+        WeekendRules rules = WeekendRules.standard();
+
+        assertEquals(WeekendRules.SATURDAY_SUNDAY, rules.weekendOf("US", 2024));
+        assertEquals(EnumSet.of(DayOfWeek.FRIDAY, DayOfWeek.SATURDAY), rules.weekendOf("SA", 2024));
+        assertEquals(EnumSet.of(DayOfWeek.FRIDAY, DayOfWeek.SATURDAY), rules.weekendOf("eg", 2024));
+        assertEquals(EnumSet.of(DayOfWeek.THURSDAY, DayOfWeek.FRIDAY), rules.weekendOf("AF", 2024));
+    }
+
+    @Test
+    void testStandard_FollowsWeekendChangesByYear() {
+        WeekendRules rules = WeekendRules.standard();
+
+        assertEquals(EnumSet.of(DayOfWeek.THURSDAY, DayOfWeek.FRIDAY), rules.weekendOf("SA", 2012));
+        assertEquals(EnumSet.of(DayOfWeek.FRIDAY, DayOfWeek.SATURDAY), rules.weekendOf("SA", 2013));
+        assertEquals(EnumSet.of(DayOfWeek.THURSDAY, DayOfWeek.FRIDAY), rules.weekendOf("AE", 2005));
+        assertEquals(EnumSet.of(DayOfWeek.FRIDAY, DayOfWeek.SATURDAY), rules.weekendOf("AE", 2006));
+        assertEquals(EnumSet.of(DayOfWeek.FRIDAY, DayOfWeek.SATURDAY), rules.weekendOf("ae", 2021));
+        assertEquals(WeekendRules.SATURDAY_SUNDAY, rules.weekendOf("AE", 2022));
+        assertEquals(WeekendRules.SATURDAY_SUNDAY, rules.weekendOf("US", 1900));
+    }
+
+    @Test
+    void testOverrides_ReplaceDefaultAndCountryWeekends() {
+        // Arrange
+        WeekendRules rules = WeekendRules.standard()
+            .withDefaultWeekend(EnumSet.of(DayOfWeek.SUNDAY))
+            .withCountryWeekends(Map.of("sa", EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY)));
+
+        // Assert - Overrides apply to every year
+        assertEquals(Set.of(DayOfWeek.SUNDAY), rules.weekendOf("US", 2024));
+        assertEquals(WeekendRules.SATURDAY_SUNDAY, rules.weekendOf("SA", 2024));
+        assertEquals(WeekendRules.SATURDAY_SUNDAY, rules.weekendOf("SA", 2000));
+        assertEquals(EnumSet.of(DayOfWeek.FRIDAY, DayOfWeek.SATURDAY), rules.weekendOf("EG", 2024));
+        assertEquals(EnumSet.of(DayOfWeek.FRIDAY, DayOfWeek.SATURDAY), rules.weekendOf("AE", 2021));
+        assertEquals(EnumSet.of(DayOfWeek.FRIDAY, DayOfWeek.SATURDAY), WeekendRules.standard().weekendOf("SA", 2024));
+    }
+
+    @Test
+    void testWeekendBits_OneBitPerDay() {
+        WeekendRules rules = WeekendRules.standard();
+
+        assertEquals(0b1100000, rules.weekendBits("US", 2024));
+        assertEquals(0b0110000, rules.weekendBits("SA", 2024));
+        assertEquals(0b0011000, rules.weekendBits("SA", 2012));
+        assertEquals(0, new WeekendRules(EnumSet.noneOf(DayOfWeek.class), Map.of()).weekendBits("US", 2024));
+    }
+}
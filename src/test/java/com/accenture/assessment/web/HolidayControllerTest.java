@@ -0,0 +1,266 @@
+package com.accenture.assessment.web;
+
+import com.accenture.assessment.model.CountryHolidayCount;
+import com.accenture.assessment.model.NonWeekendHolidayMatrix;
+import com.accenture.assessment.model.PublicHoliday;
+import com.accenture.assessment.model.SharedHoliday;
+import com.accenture.assessment.model.SharedHolidayMatrix;
+import com.accenture.assessment.service.HolidayProviderException;
+import com.accenture.assessment.service.HolidayService;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Unit tests for HolidayController.
+ */
+@ExtendWith(MockitoExtension.class)
+class HolidayControllerTest {
+
+    @Mock
+    private HolidayService holidayService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        // Dates as ISO strings, as with Spring Boot's auto-configured ObjectMapper
+        mockMvc = MockMvcBuilders.standaloneSetup(new HolidayController(holidayService))
+            .setMessageConverters(new MappingJackson2HttpMessageConverter(Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build()))
+            .build();
+    }
+
+    @Test
+    void testLastCelebratedHolidays() throws Exception {
+        PublicHoliday holiday = new PublicHoliday();
+        holiday.setDate(LocalDate.of(2024, 5, 1));
+        holiday.setLocalName("Tag der Arbeit");
+        when(holidayService.getLastCelebratedHolidaysAsync("DE", 1, LocalDate.of(2024, 6, 1)))
+            .thenReturn(CompletableFuture.completedFuture(List.of(holiday)));
+
+        MvcResult result = mockMvc.perform(get("/api/holidays/de/last?count=1&before=2024-06-01"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].date").value("2024-05-01"))
+            .andExpect(jsonPath("$[0].localName").value("Tag der Arbeit"));
+    }
+
+    @Test
+    void testUpcomingHolidays() throws Exception {
+        PublicHoliday christmas = new PublicHoliday();
+        christmas.setDate(LocalDate.of(2024, 12, 25));
+        christmas.setName("Christmas Day");
+        when(holidayService.getUpcomingHolidaysAsync("US", 1, LocalDate.of(2024, 12, 1)))
+            .thenReturn(CompletableFuture.completedFuture(List.of(christmas)));
+
+        MvcResult result = mockMvc.perform(get("/api/holidays/us/next?count=1&from=2024-12-01"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].date").value("2024-12-25"))
+            .andExpect(jsonPath("$[0].name").value("Christmas Day"));
+    }
+
+    @Test
+    void testAddBusinessDays() throws Exception {
+        when(holidayService.addBusinessDaysAsync("US", LocalDate.of(2024, 12, 24), 3))
+            .thenReturn(CompletableFuture.completedFuture(LocalDate.of(2025, 1, 2)));
+
+        MvcResult result = mockMvc.perform(get("/api/holidays/us/business-days/add?date=2024-12-24&days=3"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$").value("2025-01-02"));
+    }
+
+    @Test
+    void testCountBusinessDays() throws Exception {
+        when(holidayService.countBusinessDaysAsync("US", LocalDate.of(2024, 1, 1), LocalDate.of(2025, 1, 1)))
+            .thenReturn(CompletableFuture.completedFuture(251));
+
+        MvcResult result = mockMvc.perform(get("/api/holidays/us/business-days/count?from=2024-01-01&to=2025-01-01"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$").value(251));
+    }
+
+    @Test
+    void testNonWeekendHolidayCount() throws Exception {
+        when(holidayService.getNonWeekendHolidayCountAsync(2024, List.of("US", "GB")))
+            .thenReturn(CompletableFuture.completedFuture(List.of(
+                new CountryHolidayCount("US", 10), new CountryHolidayCount("GB", 8))));
+
+        MvcResult result = mockMvc.perform(get("/api/holidays/non-weekend-count?year=2024&countries=us, gb"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].countryCode").value("US"))
+            .andExpect(jsonPath("$[0].holidayCount").value(10))
+            .andExpect(jsonPath("$[1].countryCode").value("GB"));
+    }
+
+    @Test
+    void testNonWeekendHolidayCountForSubdivisions() throws Exception {
+        when(holidayService.getNonWeekendHolidayCountAsync(2024, List.of("DE-BY", "DE-BE")))
+            .thenReturn(CompletableFuture.completedFuture(List.of(
+                new CountryHolidayCount("DE-BY", 13), new CountryHolidayCount("DE-BE", 10))));
+
+        MvcResult result = mockMvc.perform(get("/api/holidays/non-weekend-count?year=2024&countries=de-by,de-be"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].countryCode").value("DE-BY"))
+            .andExpect(jsonPath("$[0].holidayCount").value(13));
+    }
+
+    @Test
+    void testNonWeekendHolidayCountMatrix() throws Exception {
+        NonWeekendHolidayMatrix matrix = new NonWeekendHolidayMatrix(List.of("US", "GB"), 2023, 2024,
+            new int[][]{{10, 9}, {8, 7}}, new int[]{19, 15}, new int[]{18, 16}, 34);
+        when(holidayService.getNonWeekendHolidayCountsAsync(List.of("US", "GB"), 2023, 2024))
+            .thenReturn(CompletableFuture.completedFuture(matrix));
+
+        MvcResult result = mockMvc.perform(get("/api/holidays/non-weekend-count/matrix?from=2023&to=2024&countries=us,gb"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.countryCodes[1]").value("GB"))
+            .andExpect(jsonPath("$.counts[0][1]").value(9))
+            .andExpect(jsonPath("$.yearTotals[0]").value(18))
+            .andExpect(jsonPath("$.total").value(34));
+    }
+
+    @Test
+    void testSharedHolidayMatrix() throws Exception {
+        SharedHolidayMatrix matrix = new SharedHolidayMatrix(List.of("US", "GB"), 2024,
+            new int[][]{{11, 4}, {4, 8}}, null);
+        when(holidayService.getSharedHolidayMatrixAsync(2024, List.of("US", "GB"), false))
+            .thenReturn(CompletableFuture.completedFuture(matrix));
+
+        MvcResult result = mockMvc.perform(get("/api/holidays/shared/matrix?year=2024&countries=us,gb"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.countryCodes[0]").value("US"))
+            .andExpect(jsonPath("$.counts[0][1]").value(4))
+            .andExpect(jsonPath("$.dates").doesNotExist());
+    }
+
+    @Test
+    void testSharedHolidaysWithMinimum() throws Exception {
+        SharedHoliday christmas = new SharedHoliday(LocalDate.of(2024, 12, 25));
+        christmas.addLocalName("US", "Christmas Day");
+        christmas.addLocalName("GB", "Christmas Day");
+        when(holidayService.getSharedHolidaysAsync(2024, List.of("US", "GB", "DE"), 2))
+            .thenReturn(CompletableFuture.completedFuture(List.of(christmas)));
+
+        MvcResult result = mockMvc.perform(get("/api/holidays/shared?year=2024&countries=US,GB,DE&min=2"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].date").value("2024-12-25"))
+            .andExpect(jsonPath("$[0].localNames.GB").value("Christmas Day"));
+    }
+
+    @Test
+    void testInvalidArgumentIsBadRequest() throws Exception {
+        when(holidayService.getSharedHolidaysAsync(2024, List.of("US"), 3))
+            .thenThrow(new IllegalArgumentException("Minimum country count must be between 1 and 1"));
+
+        mockMvc.perform(get("/api/holidays/shared?year=2024&countries=US&min=3"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.detail").value("Minimum country count must be between 1 and 1"));
+    }
+
+    @Test
+    void testUpstreamClientErrorIsNotFound() throws Exception {
+        when(holidayService.getNonWeekendHolidayCountAsync(2024, List.of("ZZ")))
+            .thenReturn(CompletableFuture.failedFuture(new HolidayProviderException("Nager.Date returned 404", 404)));
+
+        MvcResult result = mockMvc.perform(get("/api/holidays/non-weekend-count?year=2024&countries=ZZ"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testUnknownSubdivisionIsNotFound() throws Exception {
+        when(holidayService.getUpcomingHolidaysAsync(eq("DE-XX"), eq(3), any(LocalDate.class)))
+            .thenReturn(CompletableFuture.failedFuture(new HolidayProviderException("Unknown subdivision DE-XX", 404)));
+
+        MvcResult result = mockMvc.perform(get("/api/holidays/de-xx/next"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isNotFound())
+            .andExpect(jsonPath("$.detail").value("Unknown subdivision DE-XX"));
+    }
+
+    @Test
+    void testUpstreamServerErrorIsBadGateway() throws Exception {
+        when(holidayService.getLastCelebratedHolidaysAsync(eq("US"), eq(3), any(LocalDate.class)))
+            .thenReturn(CompletableFuture.failedFuture(new HolidayProviderException("Nager.Date returned 503", 503)));
+
+        MvcResult result = mockMvc.perform(get("/api/holidays/US/last"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isBadGateway());
+    }
+
+    @Test
+    void testUpstreamRateLimitingIsServiceUnavailable() throws Exception {
+        when(holidayService.getLastCelebratedHolidaysAsync(eq("US"), eq(3), any(LocalDate.class)))
+            .thenReturn(CompletableFuture.failedFuture(new HolidayProviderException("Nager.Date returned 429", 429)));
+
+        MvcResult result = mockMvc.perform(get("/api/holidays/US/last"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isServiceUnavailable());
+    }
+}